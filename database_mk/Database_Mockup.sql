@@ -40,10 +40,41 @@ CREATE TABLE auth_tokens (
     CONSTRAINT uk_auth_tokens_auth_hash UNIQUE (auth_hash),
     KEY idx_auth_tokens_user_status (user_id, status),
     KEY idx_auth_tokens_hash_device_status (auth_hash, device_id, status),
+    KEY idx_auth_tokens_created (created_at),
+    KEY idx_auth_tokens_revoked (revoked_at),
     CONSTRAINT fk_auth_tokens_users
         FOREIGN KEY (user_id) REFERENCES users(id)
 ) ENGINE=InnoDB;
 
+-- Active HTTP session per user, shared by all app nodes
+CREATE TABLE user_sessions (
+    user_id BIGINT UNSIGNED PRIMARY KEY,
+    session_id VARCHAR(128) NOT NULL,
+    device_key VARCHAR(64) NOT NULL,
+    updated_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    KEY idx_user_sessions_updated (updated_at),
+    CONSTRAINT fk_user_sessions_users
+        FOREIGN KEY (user_id) REFERENCES users(id)
+) ENGINE=InnoDB;
+
+-- Expired / revoked tokens moved out of auth_tokens by the reaper
+CREATE TABLE auth_tokens_archive (
+    id BIGINT UNSIGNED PRIMARY KEY,
+    user_id BIGINT UNSIGNED NOT NULL,
+    auth_hash CHAR(64) NOT NULL,
+    device_id VARCHAR(64) NOT NULL,
+    status ENUM('ACTIVE', 'REVOKED', 'EXPIRED') NOT NULL,
+    expired_at DATETIME NOT NULL,
+    last_rotated_at DATETIME NOT NULL,
+    ip_last VARCHAR(45) NULL,
+    user_agent VARCHAR(255) NULL,
+    created_at DATETIME NOT NULL,
+    revoked_at DATETIME NULL,
+    revoked_reason VARCHAR(255) NULL,
+    archived_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    KEY idx_auth_tokens_archive_user (user_id)
+) ENGINE=InnoDB;
+
 
 CREATE TABLE stores (
   id BIGINT UNSIGNED PRIMARY KEY AUTO_INCREMENT,
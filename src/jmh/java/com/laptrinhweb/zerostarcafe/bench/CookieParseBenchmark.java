@@ -0,0 +1,78 @@
+package com.laptrinhweb.zerostarcafe.bench;
+
+import com.laptrinhweb.zerostarcafe.core.security.CookieView;
+import com.laptrinhweb.zerostarcafe.core.security.SecurityKeys;
+import com.laptrinhweb.zerostarcafe.core.security.TokenUtil;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Cookie parsing plus auth-cookie extraction as done on every authenticated
+ * request: {@link CookieView} against the previous {@code HashMap} +
+ * {@code Map.copyOf} + prefix copy. Run with {@code -prof gc} to compare
+ * allocation per operation.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CookieParseBenchmark -prof gc"
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CookieParseBenchmark {
+
+    private Cookie[] cookies;
+
+    @Setup
+    public void setup() {
+        // A typical browser: session id, language, device + auth tokens, analytics
+        cookies = new Cookie[]{
+                new Cookie("zrc_ssid", "8F0C1D2E3B4A59687766554433221100"),
+                new Cookie("lang", "vi"),
+                new Cookie(SecurityKeys.TOKEN_DEVICE_ID, TokenUtil.generateToken()),
+                new Cookie(SecurityKeys.TOKEN_AUTH, TokenUtil.generateToken()),
+                new Cookie("_ga", "GA1.1.123456789.1700000000")
+        };
+    }
+
+    @Benchmark
+    public String current() {
+        Map<String, String> auth = CookieView.of(cookies).withPrefix(SecurityKeys.AUTH_COOKIE_PREFIX);
+        return auth.get(SecurityKeys.TOKEN_AUTH);
+    }
+
+    @Benchmark
+    public String previous() {
+        Map<String, String> map = new HashMap<>();
+        for (Cookie c : cookies) {
+            if (c.getName() != null && c.getValue() != null && !c.getValue().isBlank())
+                map.putIfAbsent(c.getName(), c.getValue());
+        }
+        Map<String, String> all = Map.copyOf(map);
+
+        Map<String, String> auth = new HashMap<>();
+        for (Map.Entry<String, String> entry : all.entrySet()) {
+            if (entry.getKey().startsWith(SecurityKeys.AUTH_COOKIE_PREFIX))
+                auth.put(entry.getKey(), entry.getValue());
+        }
+        return auth.get(SecurityKeys.TOKEN_AUTH);
+    }
+}
@@ -0,0 +1,61 @@
+package com.laptrinhweb.zerostarcafe.bench;
+
+import com.laptrinhweb.zerostarcafe.core.security.TokenUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * {@link TokenUtil#hashToken} against the previous implementation
+ * ({@code MessageDigest.getInstance} per call, {@code String.format} per byte).
+ * Run with {@code -prof gc} to compare allocation per operation.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="TokenHashBenchmark -prof gc"
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenHashBenchmark {
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        token = TokenUtil.generateToken();
+    }
+
+    @Benchmark
+    public String current() {
+        return TokenUtil.hashToken(token);
+    }
+
+    @Benchmark
+    public String previous() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder hex = new StringBuilder(hashed.length * 2);
+        for (byte b : hashed)
+            hex.append(String.format("%02x", b));
+        return hex.toString();
+    }
+}
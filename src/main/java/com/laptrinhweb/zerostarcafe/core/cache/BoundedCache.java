@@ -0,0 +1,196 @@
+package com.laptrinhweb.zerostarcafe.core.cache;
+
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Small in-process key/value cache with a maximum size (least recently used
+ * entries are evicted first) and a per-entry time to live. Meant for hot,
+ * cheap-to-recompute decisions such as IP-prefix to store lookups.
+ * </p>
+ * <p>
+ * Thread-safe; all operations take one short lock. {@code null} values
+ * are not stored.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * BoundedCache<String, Long> cache = BoundedCache.create("store.byIp", 10_000, 3_600_000);
+ * Long storeId = cache.get(prefix, p -> resolve(p));
+ * }
+ * </pre>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class BoundedCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final int maxSize;
+    private final long ttlMs;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    // Metrics
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private BoundedCache(int maxSize, long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() <= BoundedCache.this.maxSize)
+                    return false;
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Creates a cache and publishes its metrics as {@code cache.<name>}.
+     *
+     * @param name    metrics name, or {@code null} to skip registration
+     * @param maxSize maximum number of entries
+     * @param ttlMs   time to live of each entry
+     * @return the new cache
+     */
+    public static <K, V> BoundedCache<K, V> create(String name, int maxSize, long ttlMs) {
+        if (maxSize <= 0 || ttlMs <= 0)
+            throw new IllegalArgumentException("maxSize and ttlMs must be positive");
+
+        BoundedCache<K, V> cache = new BoundedCache<>(maxSize, ttlMs);
+        if (name != null)
+            MetricsRegistry.register("cache." + name, cache::metrics);
+        return cache;
+    }
+
+    // ==========================================================
+    // READ / WRITE
+    // ==========================================================
+
+    /**
+     * @return the cached value, or {@code null} if absent or expired
+     */
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            if (e != null && now < e.expiresAt()) {
+                hits.incrementAndGet();
+                return e.value();
+            }
+            if (e != null)
+                map.remove(key);
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Returns the cached value or computes and caches it. The loader runs
+     * outside the lock, so concurrent misses on one key may both compute.
+     *
+     * @param key    cache key
+     * @param loader computes the value; a {@code null} result is not cached
+     * @return the cached or computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null)
+            return value;
+
+        value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    public void put(K key, V value) {
+        if (key == null || value == null)
+            return;
+
+        long expiresAt = System.currentTimeMillis() + ttlMs;
+        synchronized (map) {
+            map.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    /**
+     * Stores {@code value} unless a live entry already exists, atomically.
+     *
+     * @return the existing live value, or {@code value} if it was stored
+     */
+    public V putIfAbsent(K key, V value) {
+        if (key == null || value == null)
+            return value;
+
+        long now = System.currentTimeMillis();
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            if (e != null && now < e.expiresAt())
+                return e.value();
+            map.put(key, new Entry<>(value, now + ttlMs));
+            return value;
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (map) {
+            map.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (map) {
+            map.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    /**
+     * Drops expired entries. Reads already skip them; this only frees memory.
+     */
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (map) {
+            Iterator<Entry<V>> it = map.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().expiresAt() <= now)
+                    it.remove();
+            }
+        }
+    }
+
+    private Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("size", size());
+        m.put("maxSize", maxSize);
+        m.put("hits", hits.get());
+        m.put("misses", misses.get());
+        m.put("evictions", evictions.get());
+        return m;
+    }
+}
@@ -0,0 +1,247 @@
+package com.laptrinhweb.zerostarcafe.core.cache;
+
+import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Versioned, in-process snapshot of a small reference table (stores,
+ * categories, ...). The whole table is loaded at once, readers get the
+ * current immutable snapshot without locking, and a single thread reloads
+ * it when the TTL passes or after {@link #invalidate()}.
+ * </p>
+ * <p>
+ * While a reload is running, other readers keep using the previous snapshot.
+ * If a reload fails, the previous snapshot stays in use and the reload is
+ * retried after a short back-off. An {@link #invalidate()} that arrives
+ * while a reload is reading the table is not lost: that reload's snapshot is
+ * published already expired, so the next {@link #get()} loads again.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * ReferenceCache<List<Category>> cache = ReferenceCache.create(
+ *         "categories", 300_000, () -> dao.findAll());
+ *
+ * List<Category> categories = cache.get();
+ * cache.invalidate();   // after an admin edit
+ * }
+ * </pre>
+ *
+ * @param <T> snapshot type; must not be modified after loading
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class ReferenceCache<T> {
+
+    /**
+     * Loads a full snapshot from the database.
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws SQLException;
+    }
+
+    private static final long RETRY_AFTER_FAILURE_MS = 5_000;
+    private static final Map<String, ReferenceCache<?>> CACHES = new ConcurrentHashMap<>();
+
+    private record Snapshot<T>(T value, long version, long loadedAt, long expiresAt) {
+    }
+
+    private final String name;
+    private final long ttlMs;
+    private final Loader<T> loader;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final List<Consumer<T>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot<T> current;
+
+    // Bumped by every invalidate(); a reload that saw it change is stale
+    private final AtomicLong generation = new AtomicLong();
+
+    // Metrics
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private ReferenceCache(String name, long ttlMs, Loader<T> loader) {
+        this.name = name;
+        this.ttlMs = ttlMs;
+        this.loader = loader;
+    }
+
+    /**
+     * Creates a cache and registers it by name (metrics group {@code cache.<name>}).
+     *
+     * @param name   unique cache name, e.g. {@code "stores"}
+     * @param ttlMs  how long a snapshot stays fresh
+     * @param loader loads the full snapshot
+     * @return the new cache
+     */
+    public static <T> ReferenceCache<T> create(String name, long ttlMs, Loader<T> loader) {
+        if (name == null || loader == null || ttlMs <= 0)
+            throw new IllegalArgumentException("name, loader and a positive ttl are required");
+
+        ReferenceCache<T> cache = new ReferenceCache<>(name, ttlMs, loader);
+        CACHES.put(name, cache);
+        MetricsRegistry.register("cache." + name, cache::metrics);
+        return cache;
+    }
+
+    /**
+     * Invalidates a cache registered under the given name.
+     *
+     * @param name cache name
+     * @return true if such a cache exists
+     */
+    public static boolean invalidate(String name) {
+        ReferenceCache<?> cache = name == null ? null : CACHES.get(name);
+        if (cache == null)
+            return false;
+
+        cache.invalidate();
+        return true;
+    }
+
+    public static List<String> names() {
+        return List.copyOf(CACHES.keySet());
+    }
+
+    // ==========================================================
+    // READ
+    // ==========================================================
+
+    /**
+     * Returns the current snapshot, reloading it first if it expired.
+     *
+     * @return the snapshot value
+     * @throws AppException if no snapshot exists and the load fails
+     */
+    public T get() {
+        Snapshot<T> snap = current;
+        if (snap != null && System.currentTimeMillis() < snap.expiresAt()) {
+            hits.incrementAndGet();
+            return snap.value();
+        }
+
+        // Someone else is reloading: serve the stale snapshot meanwhile
+        if (snap != null && !reloadLock.tryLock()) {
+            hits.incrementAndGet();
+            return snap.value();
+        }
+        if (snap == null)
+            reloadLock.lock();
+
+        try {
+            snap = current;
+            if (snap != null && System.currentTimeMillis() < snap.expiresAt())
+                return snap.value();
+            return reload(snap);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * @return version of the current snapshot, 0 before the first load
+     */
+    public long version() {
+        Snapshot<T> snap = current;
+        return snap == null ? 0 : snap.version();
+    }
+
+    // ==========================================================
+    // INVALIDATION
+    // ==========================================================
+
+    /**
+     * Marks the current snapshot stale; the next {@link #get()} reloads it.
+     */
+    public void invalidate() {
+        invalidations.incrementAndGet();
+        generation.incrementAndGet();
+
+        Snapshot<T> snap = current;
+        if (snap != null)
+            current = new Snapshot<>(snap.value(), snap.version(), snap.loadedAt(), 0);
+    }
+
+    /**
+     * Registers a listener called with every newly loaded snapshot.
+     *
+     * @param listener callback, run on the reloading thread
+     */
+    public void addListener(Consumer<T> listener) {
+        if (listener != null)
+            listeners.add(listener);
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private T reload(Snapshot<T> previous) {
+        long now = System.currentTimeMillis();
+        long startedAt = generation.get();
+        T value;
+
+        try {
+            value = loader.load();
+            loads.incrementAndGet();
+        } catch (SQLException | RuntimeException e) {
+            loadFailures.incrementAndGet();
+
+            if (previous == null)
+                throw new AppException("Failed to load reference cache '" + name + "'", e);
+
+            LoggerUtil.warn(ReferenceCache.class, "Reload of cache '" + name
+                    + "' failed, serving version " + previous.version() + ": " + e.getMessage());
+            current = new Snapshot<>(previous.value(), previous.version(),
+                    previous.loadedAt(), now + Math.min(ttlMs, RETRY_AFTER_FAILURE_MS));
+            return previous.value();
+        }
+
+        // Invalidated while loading: the rows may predate the change, serve once and reload
+        long version = previous == null ? 1 : previous.version() + 1;
+        long expiresAt = generation.get() == startedAt ? now + ttlMs : 0;
+        current = new Snapshot<>(value, version, now, expiresAt);
+
+        for (Consumer<T> listener : listeners) {
+            try {
+                listener.accept(value);
+            } catch (RuntimeException e) {
+                LoggerUtil.error(ReferenceCache.class,
+                        "Listener of cache '" + name + "' failed", e);
+            }
+        }
+        return value;
+    }
+
+    private Map<String, Object> metrics() {
+        Snapshot<T> snap = current;
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("version", snap == null ? 0 : snap.version());
+        map.put("ageMs", snap == null ? -1 : System.currentTimeMillis() - snap.loadedAt());
+        map.put("hits", hits.get());
+        map.put("loads", loads.get());
+        map.put("loadFailures", loadFailures.get());
+        map.put("invalidations", invalidations.get());
+        return map;
+    }
+}
@@ -0,0 +1,180 @@
+package com.laptrinhweb.zerostarcafe.core.concurrent;
+
+import com.laptrinhweb.zerostarcafe.core.database.ConnectionScope;
+import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Runs the independent reads a page needs concurrently on virtual threads
+ * and waits for all of them under one deadline. Follows the shape of
+ * {@code StructuredTaskScope.ShutdownOnFailure}: forks are owned by the
+ * loader, the first failure cancels the remaining siblings, and nothing
+ * outlives the try-with-resources block.
+ * </p>
+ * <p>
+ * Forked tasks run on their own threads, so they do not share the caller's
+ * {@link ConnectionScope}. Each fork runs in a scope of its own and uses at
+ * most one pooled connection, and {@link #open} returns the caller's scope
+ * connection to the pool first. A request therefore never holds a
+ * connection while its forks wait for one: it needs at most one connection
+ * per fork, and a busy pool makes the page slower, not deadlocked. Size
+ * {@code db.pool.maxSize} for concurrent page loads times their forks.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * try (PageDataLoader loader = PageDataLoader.open(Duration.ofSeconds(3))) {
+ *     PageDataLoader.Slot<List<Store>> stores = loader.fork(storeService::getAllActiveStores);
+ *     PageDataLoader.Slot<List<Category>> categories = loader.fork(categoryService::loadActiveCategories);
+ *     loader.join();
+ *
+ *     req.setAttribute("stores", stores.get());
+ * }
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class PageDataLoader implements AutoCloseable {
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("page-loader-", 0).factory());
+
+    private final Duration timeout;
+    private final long deadlineNanos;
+    private final List<Future<?>> forks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean joined;
+
+    private PageDataLoader(Duration timeout) {
+        this.timeout = timeout;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Opens a loader whose {@link #join()} gives up after {@code timeout}.
+     * Returns the calling thread's scope connection to the pool.
+     *
+     * @param timeout deadline for the whole page, measured from now
+     * @return a new loader
+     * @throws IllegalStateException if the caller is inside a transaction;
+     *                               forks could not see its writes anyway
+     */
+    public static PageDataLoader open(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero())
+            throw new IllegalArgumentException("timeout must be positive");
+
+        ConnectionScope scope = ConnectionScope.current();
+        if (scope != null && !scope.release())
+            throw new IllegalStateException("Cannot fork page reads inside a transaction");
+
+        return new PageDataLoader(timeout);
+    }
+
+    /**
+     * Starts a task on a virtual thread.
+     *
+     * @param task the read to run
+     * @param <T>  result type
+     * @return a slot holding the result once {@link #join()} returns
+     */
+    public <T> Slot<T> fork(Callable<? extends T> task) {
+        if (joined)
+            throw new IllegalStateException("Cannot fork after join()");
+
+        Slot<T> slot = new Slot<>(this);
+        forks.add(EXECUTOR.submit(() -> {
+            // One connection per fork, whatever the task borrows
+            try (ConnectionScope ignored = ConnectionScope.open()) {
+                slot.value = task.call();
+            } catch (Throwable t) {
+                // First failure wins; siblings are no longer needed
+                if (failure.compareAndSet(null, t))
+                    cancelAll();
+            }
+            return null;
+        }));
+        return slot;
+    }
+
+    /**
+     * Waits for every fork, up to the deadline.
+     *
+     * @throws AppException if a fork failed, the deadline passed,
+     *                      or the calling thread was interrupted
+     */
+    public void join() {
+        joined = true;
+
+        for (Future<?> fork : forks) {
+            long remaining = deadlineNanos - System.nanoTime();
+            try {
+                fork.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (CancellationException ignore) {
+                // Cancelled because a sibling failed, reported below
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, e.getCause());
+            } catch (TimeoutException e) {
+                cancelAll();
+                throw new AppException("Page data not loaded within " + timeout.toMillis() + " ms");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new AppException("Interrupted while loading page data", e);
+            }
+        }
+
+        Throwable t = failure.get();
+        if (t != null)
+            throw new AppException("Failed to load page data", t);
+    }
+
+    /**
+     * Cancels any fork still running. Safe to call after {@link #join()}.
+     */
+    @Override
+    public void close() {
+        joined = true;
+        cancelAll();
+    }
+
+    private void cancelAll() {
+        for (Future<?> fork : forks)
+            fork.cancel(true);
+    }
+
+    /**
+     * Result handle of one forked task.
+     *
+     * @param <T> result type
+     */
+    public static final class Slot<T> {
+
+        private final PageDataLoader owner;
+        private volatile T value;
+
+        private Slot(PageDataLoader owner) {
+            this.owner = owner;
+        }
+
+        /**
+         * @return the task's result
+         * @throws IllegalStateException if called before a successful {@link #join()}
+         */
+        public T get() {
+            if (!owner.joined || owner.failure.get() != null)
+                throw new IllegalStateException("Result is only available after a successful join()");
+            return value;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package com.laptrinhweb.zerostarcafe.core.database;
+
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Bounded JDBC connection pool owned by the application.
+ * Callers borrow a {@link Connection} and return it with {@code close()}.
+ * The pool validates idle connections before reuse, records the borrower's
+ * stack trace to report leaks, trims idle connections and exposes usage
+ * through {@link #stats()}.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * ConnectionPool pool = new ConnectionPool(PoolConfig.fromAppConfig());
+ * try (Connection conn = pool.borrow()) {
+ *     ...
+ * }
+ * pool.shutdown();
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class ConnectionPool {
+
+    /**
+     * Opens a new physical connection.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    private final PoolConfig config;
+    private final ConnectionFactory factory;
+
+    // Idle connections, most recently returned first (keeps hot connections warm)
+    private final BlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> leased = ConcurrentHashMap.newKeySet();
+
+    // One permit per connection that may be leased at the same time
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    // ==== Stats ====
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+    private final LongAdder waitNanosTotal = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConnectionPool(PoolConfig config) {
+        this(config, () -> DriverManager.getConnection(
+                config.url(), config.username(), config.password()));
+    }
+
+    public ConnectionPool(PoolConfig config, ConnectionFactory factory) {
+        this.config = config;
+        this.factory = factory;
+        this.permits = new Semaphore(config.maxSize(), true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep,
+                0, config.housekeepingMs(), TimeUnit.MILLISECONDS);
+    }
+
+    // ==========================================================
+    // BORROW / RETURN
+    // ==========================================================
+
+    /**
+     * Borrows a connection, waiting up to {@code borrowTimeoutMs}.
+     * The returned connection goes back to the pool on {@code close()}.
+     *
+     * @return a validated connection
+     * @throws SQLTimeoutException if no connection became free in time
+     * @throws SQLException        if the pool is closed or a new connection cannot be opened
+     */
+    public Connection borrow() throws SQLException {
+        if (closed)
+            throw new SQLException("Connection pool is shut down");
+
+        long start = System.nanoTime();
+        boolean acquired;
+
+        waiting.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(config.borrowTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        recordWait(System.nanoTime() - start);
+
+        if (!acquired) {
+            timeoutCount.increment();
+            throw new SQLTimeoutException(
+                    "Timed out after " + config.borrowTimeoutMs()
+                            + " ms waiting for a connection (active=" + leased.size()
+                            + ", max=" + config.maxSize() + ")");
+        }
+
+        try {
+            PooledConnection pc = takeIdle();
+            if (pc == null)
+                pc = new PooledConnection(factory.open());
+
+            pc.lease();
+            leased.add(pc);
+            borrowCount.increment();
+            return pc.proxy();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Polls idle connections until a usable one is found.
+     */
+    private PooledConnection takeIdle() {
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            if (isUsable(pc))
+                return pc;
+            closeQuietly(pc);
+        }
+        return null;
+    }
+
+    private boolean isUsable(PooledConnection pc) {
+        try {
+            if (pc.raw.isClosed())
+                return false;
+
+            long idleMs = (System.nanoTime() - pc.lastUsedNanos) / 1_000_000;
+            if (idleMs < config.validationIntervalMs())
+                return true;
+
+            return pc.raw.isValid(config.validationTimeoutSec());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pc) {
+        if (!leased.remove(pc))
+            return;
+
+        try {
+            boolean reusable = !closed && resetState(pc);
+            if (reusable) {
+                pc.lastUsedNanos = System.nanoTime();
+                idle.offerFirst(pc);
+            } else {
+                closeQuietly(pc);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Rolls back unfinished work so the next borrower starts clean.
+     */
+    private boolean resetState(PooledConnection pc) {
+        try {
+            if (pc.raw.isClosed())
+                return false;
+
+            if (!pc.raw.getAutoCommit()) {
+                pc.raw.rollback();
+                pc.raw.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            LoggerUtil.warn(ConnectionPool.class,
+                    "Discarding connection after failed reset: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // ==========================================================
+    // HOUSEKEEPING
+    // ==========================================================
+
+    private void housekeep() {
+        try {
+            detectLeaks();
+            evictIdle();
+            fillMinIdle();
+        } catch (RuntimeException e) {
+            LoggerUtil.error(ConnectionPool.class, "Pool housekeeping failed", e);
+        }
+    }
+
+    private void detectLeaks() {
+        long now = System.nanoTime();
+        for (PooledConnection pc : leased) {
+            long heldMs = (now - pc.leasedAtNanos) / 1_000_000;
+            if (heldMs < config.leakThresholdMs() || pc.leakReported)
+                continue;
+
+            pc.leakReported = true;
+            leakCount.increment();
+            LoggerUtil.error(ConnectionPool.class,
+                    "Possible connection leak: held for " + heldMs + " ms by thread "
+                            + pc.borrowerThread, pc.borrowTrace);
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        Iterator<PooledConnection> it = idle.descendingIterator();
+
+        while (it.hasNext() && idle.size() + leased.size() > config.minIdle()) {
+            PooledConnection pc = it.next();
+            long idleMs = (now - pc.lastUsedNanos) / 1_000_000;
+            if (idleMs >= config.idleTimeoutMs() && idle.remove(pc)) {
+                closeQuietly(pc);
+            }
+        }
+    }
+
+    private void fillMinIdle() {
+        while (!closed && idle.size() + leased.size() < config.minIdle()) {
+            // Hold a permit while opening so the pool never exceeds maxSize
+            if (!permits.tryAcquire())
+                return;
+
+            try {
+                idle.offerLast(new PooledConnection(factory.open()));
+            } catch (SQLException e) {
+                LoggerUtil.warn(ConnectionPool.class,
+                        "Could not open idle connection: " + e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    // ==========================================================
+    // LIFECYCLE / STATS
+    // ==========================================================
+
+    /**
+     * Stops housekeeping and closes all idle connections.
+     * Leased connections are closed when their borrowers return them.
+     */
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            closeQuietly(pc);
+        }
+
+        if (!leased.isEmpty()) {
+            LoggerUtil.warn(ConnectionPool.class,
+                    "Pool shut down with " + leased.size() + " connection(s) still leased");
+        }
+    }
+
+    public PoolStats stats() {
+        long borrows = borrowCount.sum() + timeoutCount.sum();
+        double avgWaitMs = borrows == 0 ? 0 : waitNanosTotal.sum() / 1_000_000.0 / borrows;
+
+        int active = leased.size();
+        int idleCount = idle.size();
+
+        return new PoolStats(
+                active + idleCount,
+                active,
+                idleCount,
+                waiting.get(),
+                config.maxSize(),
+                borrowCount.sum(),
+                timeoutCount.sum(),
+                leakCount.sum(),
+                avgWaitMs,
+                maxWaitNanos.get() / 1_000_000.0
+        );
+    }
+
+    private void recordWait(long nanos) {
+        waitNanosTotal.add(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static void closeQuietly(PooledConnection pc) {
+        try {
+            pc.raw.close();
+        } catch (SQLException ignore) {
+            // Connection is being discarded anyway
+        }
+    }
+
+    // ==========================================================
+    // POOLED CONNECTION
+    // ==========================================================
+
+    /**
+     * A physical connection plus its lease bookkeeping.
+     * Each lease hands out a fresh proxy, so a stale reference
+     * cannot touch the connection after it was returned.
+     */
+    private final class PooledConnection {
+        private final Connection raw;
+        private volatile long lastUsedNanos = System.nanoTime();
+        private volatile long leasedAtNanos;
+        private volatile String borrowerThread;
+        private volatile Throwable borrowTrace;
+        private volatile boolean leakReported;
+        private volatile Connection proxy;
+
+        private PooledConnection(Connection raw) {
+            this.raw = raw;
+        }
+
+        private void lease() {
+            leasedAtNanos = System.nanoTime();
+            borrowerThread = Thread.currentThread().getName();
+            borrowTrace = new Throwable("Connection borrowed here");
+            leakReported = false;
+            proxy = createProxy();
+        }
+
+        private Connection proxy() {
+            return proxy;
+        }
+
+        private Connection createProxy() {
+            AtomicBoolean returned = new AtomicBoolean(false);
+
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (p, method, args) -> {
+                        String name = method.getName();
+
+                        if ("close".equals(name)) {
+                            if (returned.compareAndSet(false, true))
+                                release(this);
+                            return null;
+                        }
+                        if ("isClosed".equals(name))
+                            return returned.get() || raw.isClosed();
+
+                        if (returned.get())
+                            throw new SQLException("Connection has already been returned to the pool");
+
+                        return invoke(method, args);
+                    });
+        }
+
+        private Object invoke(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(raw, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.laptrinhweb.zerostarcafe.core.database;
+
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Binds one pooled connection to the current thread for the length of a
+ * unit of work (typically one HTTP request). While a scope is open,
+ * {@link DBConnection#getConnection()} hands out the same connection to every
+ * service and DAO; their {@code close()} calls are ignored and the connection
+ * goes back to the pool when the scope closes.
+ * </p>
+ * <p>
+ * The connection is borrowed lazily, so requests that never touch the
+ * database never hold one. Scopes are thread-bound: work handed to other
+ * threads borrows its own connection.
+ * </p>
+ * <p>
+ * {@link #release()} hands the connection back early, before the thread
+ * waits on such work (forked reads, password hashing), so it never holds a
+ * connection while it waits. Connections handed out before a release stop
+ * working; callers borrow again.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * try (ConnectionScope scope = ConnectionScope.open()) {
+ *     chain.doFilter(req, resp);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.2.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class ConnectionScope implements AutoCloseable {
+
+    private static final ThreadLocal<ConnectionScope> CURRENT = new ThreadLocal<>();
+
+    private Connection pooled;
+    private Connection view;
+    private int depth = 1;
+    private boolean closed;
+
+    private ConnectionScope() {
+    }
+
+    /**
+     * Opens a scope on the current thread, or joins the one already open.
+     *
+     * @return the active scope; close it in a {@code finally} / try-with-resources
+     */
+    public static ConnectionScope open() {
+        ConnectionScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.depth++;
+            return scope;
+        }
+
+        scope = new ConnectionScope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * @return the scope bound to the current thread, or {@code null}
+     */
+    public static ConnectionScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the scope's connection, borrowing it on first use.
+     *
+     * @return a connection whose {@code close()} is a no-op
+     * @throws SQLException if the pool cannot provide a connection
+     */
+    Connection connection() throws SQLException {
+        if (closed)
+            throw new SQLException("Connection scope is already closed");
+
+        if (pooled == null) {
+            pooled = DBConnection.getPool().borrow();
+            view = nonClosingView(pooled);
+        }
+        return view;
+    }
+
+    public boolean hasConnection() {
+        return pooled != null;
+    }
+
+    /**
+     * Returns the connection to the pool before the scope ends; the next
+     * {@link #connection()} borrows again. A connection inside a
+     * transaction is kept.
+     *
+     * @return {@code false} if a transaction is open and the connection was kept
+     */
+    public boolean release() {
+        if (pooled == null)
+            return true;
+
+        try {
+            if (!pooled.getAutoCommit())
+                return false;
+        } catch (SQLException e) {
+            LoggerUtil.warn(ConnectionScope.class,
+                    "Connection state check failed, returning it: " + e.getMessage());
+        }
+
+        try {
+            pooled.close();
+        } catch (SQLException ignore) {
+            // Pool discards broken connections itself
+        }
+        pooled = null;
+        view = null;
+        return true;
+    }
+
+    /**
+     * Leaves the scope. The outermost close rolls back unfinished
+     * transactions and returns the connection to the pool.
+     */
+    @Override
+    public void close() {
+        if (--depth > 0)
+            return;
+
+        closed = true;
+        CURRENT.remove();
+
+        if (pooled == null)
+            return;
+
+        try {
+            if (!pooled.getAutoCommit()) {
+                LoggerUtil.warn(ConnectionScope.class,
+                        "Scope closed with an open transaction, rolling back.");
+                pooled.rollback();
+            }
+        } catch (SQLException e) {
+            LoggerUtil.warn(ConnectionScope.class,
+                    "Rollback on scope close failed: " + e.getMessage());
+        } finally {
+            try {
+                pooled.close();
+            } catch (SQLException ignore) {
+                // Pool discards broken connections itself
+            }
+            pooled = null;
+            view = null;
+        }
+    }
+
+    private Connection nonClosingView(Connection target) {
+        // A view outlives its connection after release(); the pool may have lent it out again
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (p, method, args) -> {
+                    String name = method.getName();
+
+                    // Owned by the scope: callers' close() must not return it early
+                    if ("close".equals(name))
+                        return null;
+                    if ("isClosed".equals(name))
+                        return closed || pooled != target || target.isClosed();
+                    if (closed)
+                        throw new SQLException("Connection scope is already closed");
+                    if (pooled != target)
+                        throw new SQLException("Connection was released by its scope");
+
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -1,16 +1,17 @@
 package com.laptrinhweb.zerostarcafe.core.database;
 
 import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
 
-import javax.naming.InitialContext;
-import javax.naming.NamingException;
-import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Description:
- * Utility class for retrieving database connections from the Tomcat-managed JNDI DataSource.
+ * Entry point for database connections. Every DAO borrows its connection
+ * here; connections come from the application-owned {@link ConnectionPool}.
  *
  * <h2>Example Usage:</h2>
  * <pre>{@code
@@ -21,56 +22,168 @@ import java.sql.SQLException;
  * <p>
  * Notes:
  * - Requires MySQL driver inside $CATALINA_HOME/lib
- * - Requires DataSource defined in context.xml with name "jdbc/ZeroStarDB"
+ * - Requires the {@code db.*} settings in app.properties (see {@link PoolConfig})
  *
  * @author Dang Van Trung
- * @version 1.0.2
- * @lastModified 20/11/2025
+ * @version 1.3.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class DBConnection {
 
-    /**
-     * The JNDI (Java Naming and Directory Interface)
-     * name of the configured DataSource in Tomcat context.xml.
-     */
-    private static final String JNDI_NAME = "java:comp/env/jdbc/ZeroStarDB";
-    private static DataSource dataSource;
+    private static volatile ConnectionPool pool;
 
-    // “one-time” initialization checks
-    // Make sure the JDBC driver is present in Tomcat's lib directory
-    static {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            InitialContext ctx = new InitialContext();
-            dataSource = (DataSource) ctx.lookup(JNDI_NAME);
-            LoggerUtil.info(DBConnection.class, "Datasource loaded.");
-        } catch (ClassNotFoundException e) {
-            LoggerUtil.error(DBConnection.class,
-                    "MySQL JDBC driver not found. Add 'mysql-connector-j' to $CATALINA_HOME/lib.", e);
-        } catch (NamingException e) {
-            LoggerUtil.error(DBConnection.class,
-                    "Failed to lookup DataSource: " + JNDI_NAME, e);
-        }
-    }
+    // Actions waiting for the transaction inTransaction runs on this thread
+    private static final ThreadLocal<List<Runnable>> AFTER_COMMIT = new ThreadLocal<>();
 
     // Prevent instantiation
     private DBConnection() {
     }
 
     /**
-     * Retrieves a connection from the JNDI DataSource.
+     * Borrows a connection from the pool.
+     * Closing the connection returns it to the pool.
+     * <p>
+     * Inside an open {@link ConnectionScope} the scope's connection is
+     * returned instead and closing it is a no-op.
      *
-     * @return a {@link Connection} from the Tomcat-managed connection pool
+     * @return a pooled {@link Connection}
      * @throws SQLException if acquiring a connection fails
      */
     public static Connection getConnection() throws SQLException {
         try {
-            return dataSource.getConnection();
+            ConnectionScope scope = ConnectionScope.current();
+            if (scope != null)
+                return scope.connection();
+
+            return getPool().borrow();
         } catch (SQLException e) {
             LoggerUtil.error(DBConnection.class,
-                    "❌ Failed to get connection from DataSource.", e);
+                    "❌ Failed to get connection from pool.", e);
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs the given work as one transaction and commits once.
+     * <p>
+     * If the connection is already inside a transaction (a caller higher up
+     * turned auto-commit off), the work joins it and the outer caller commits.
+     * Any exception rolls the transaction back and is rethrown. Actions
+     * registered with {@link #afterCommit} run once the commit succeeded.
+     *
+     * @param work the statements to run
+     * @param <T>  result type
+     * @return the work's result
+     * @throws SQLException if the work or the commit fails
+     */
+    public static <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        try (Connection conn = getConnection()) {
+            if (!conn.getAutoCommit())
+                return work.execute(conn);
+
+            conn.setAutoCommit(false);
+            List<Runnable> pending = new ArrayList<>();
+            AFTER_COMMIT.set(pending);
+            try {
+                T result = work.execute(conn);
+                conn.commit();
+                AFTER_COMMIT.remove();
+                runAll(pending);
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                rollbackQuietly(conn, e);
+                throw e;
+            } finally {
+                AFTER_COMMIT.remove();
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code action} after the {@link #inTransaction} transaction of
+     * the current thread commits, or right away if there is none. Dropped
+     * on rollback.
+     *
+     * @param action work that must only see committed rows, e.g. cache eviction
+     */
+    public static void afterCommit(Runnable action) {
+        List<Runnable> pending = AFTER_COMMIT.get();
+        if (pending != null)
+            pending.add(action);
+        else
+            action.run();
+    }
+
+    /**
+     * Returns the shared pool, creating it on first use.
+     *
+     * @return the application connection pool
+     * @throws SQLException if the pool cannot be configured
+     */
+    public static ConnectionPool getPool() throws SQLException {
+        ConnectionPool current = pool;
+        if (current != null)
+            return current;
+
+        synchronized (DBConnection.class) {
+            if (pool == null)
+                pool = createPool();
+            return pool;
+        }
+    }
+
+    /**
+     * Closes the pool. Called once when the application stops.
+     */
+    public static void shutdown() {
+        synchronized (DBConnection.class) {
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+                LoggerUtil.info(DBConnection.class, "Connection pool closed.");
+            }
+        }
+    }
+
+    private static void runAll(List<Runnable> actions) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                // Already committed: report, never roll back
+                LoggerUtil.warn(DBConnection.class, "After-commit action failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void rollbackQuietly(Connection conn, Exception cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static ConnectionPool createPool() throws SQLException {
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException(
+                    "MySQL JDBC driver not found. Add 'mysql-connector-j' to $CATALINA_HOME/lib.", e);
+        }
+
+        try {
+            PoolConfig config = PoolConfig.fromAppConfig();
+            ConnectionPool created = new ConnectionPool(config);
+            MetricsRegistry.register("db.pool", () -> created.stats().toMap());
+            LoggerUtil.info(DBConnection.class,
+                    "Connection pool started (minIdle=" + config.minIdle()
+                            + ", maxSize=" + config.maxSize() + ").");
+            return created;
+        } catch (IllegalArgumentException e) {
+            throw new SQLException("Invalid connection pool config: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.laptrinhweb.zerostarcafe.core.database;
+
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Sizing and timing settings for {@link ConnectionPool}.
+ * Values are read from {@code app.properties} (keys {@code db.*}).
+ * </p>
+ *
+ * @param url                  JDBC url of the database
+ * @param username             database user
+ * @param password             database password
+ * @param minIdle              connections kept open even when the app is idle
+ * @param maxSize              hard limit of physical connections
+ * @param borrowTimeoutMs      max time a caller waits for a free connection
+ * @param validationTimeoutSec timeout passed to {@code Connection.isValid}
+ * @param validationIntervalMs idle time after which a connection is re-validated on borrow
+ * @param idleTimeoutMs        idle time after which connections above {@code minIdle} are closed
+ * @param leakThresholdMs      lease time after which a borrow is reported as a leak
+ * @param housekeepingMs       period of the leak / idle check
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public record PoolConfig(
+        String url,
+        String username,
+        String password,
+        int minIdle,
+        int maxSize,
+        long borrowTimeoutMs,
+        int validationTimeoutSec,
+        long validationIntervalMs,
+        long idleTimeoutMs,
+        long leakThresholdMs,
+        long housekeepingMs
+) {
+
+    public PoolConfig {
+        if (url == null || url.isBlank())
+            throw new IllegalArgumentException("db.url is required");
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("db.pool.maxSize must be > 0");
+        if (minIdle < 0 || minIdle > maxSize)
+            throw new IllegalArgumentException("db.pool.minIdle must be in [0, maxSize]");
+    }
+
+    /**
+     * Builds the pool settings from {@link AppConfig}.
+     *
+     * @return the resolved pool settings
+     */
+    public static PoolConfig fromAppConfig() {
+        return new PoolConfig(
+                AppConfig.get("db.url"),
+                AppConfig.get("db.username", "root"),
+                AppConfig.get("db.password", ""),
+                AppConfig.getInt("db.pool.minIdle", 5),
+                AppConfig.getInt("db.pool.maxSize", 30),
+                AppConfig.getLong("db.pool.borrowTimeoutMs", 5_000),
+                AppConfig.getInt("db.pool.validationTimeoutSec", 5),
+                AppConfig.getLong("db.pool.validationIntervalMs", 30_000),
+                AppConfig.getLong("db.pool.idleTimeoutMs", 600_000),
+                AppConfig.getLong("db.pool.leakThresholdMs", 60_000),
+                AppConfig.getLong("db.pool.housekeepingMs", 30_000)
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.laptrinhweb.zerostarcafe.core.database;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Point-in-time snapshot of {@link ConnectionPool} usage.
+ * </p>
+ *
+ * @param total        physical connections currently open
+ * @param active       connections leased to callers
+ * @param idle         connections waiting in the pool
+ * @param waiting      threads currently blocked in borrow
+ * @param maxSize      configured hard limit
+ * @param borrowCount  successful borrows since startup
+ * @param timeoutCount borrows that gave up after the borrow timeout
+ * @param leakCount    leases reported by leak detection
+ * @param avgWaitMs    average time spent waiting in borrow
+ * @param maxWaitMs    longest time spent waiting in borrow
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public record PoolStats(
+        int total,
+        int active,
+        int idle,
+        int waiting,
+        int maxSize,
+        long borrowCount,
+        long timeoutCount,
+        long leakCount,
+        double avgWaitMs,
+        double maxWaitMs
+) {
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("total", total);
+        map.put("active", active);
+        map.put("idle", idle);
+        map.put("waiting", waiting);
+        map.put("maxSize", maxSize);
+        map.put("borrowCount", borrowCount);
+        map.put("timeoutCount", timeoutCount);
+        map.put("leakCount", leakCount);
+        map.put("avgWaitMs", String.format("%.2f", avgWaitMs));
+        map.put("maxWaitMs", String.format("%.2f", maxWaitMs));
+        return map;
+    }
+}
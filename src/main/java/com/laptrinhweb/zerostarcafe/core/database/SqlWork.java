@@ -0,0 +1,20 @@
+package com.laptrinhweb.zerostarcafe.core.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A piece of database work that runs on a given connection,
+ * used with {@link DBConnection#inTransaction(SqlWork)}.
+ *
+ * @param <T> result type
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface SqlWork<T> {
+
+    T execute(Connection conn) throws SQLException;
+}
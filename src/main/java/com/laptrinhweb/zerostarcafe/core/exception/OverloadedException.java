@@ -0,0 +1,25 @@
+package com.laptrinhweb.zerostarcafe.core.exception;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Thrown when a bounded resource (worker pool, queue) refuses new work
+ * instead of letting callers pile up. Callers should answer with a
+ * "server busy, try again" response rather than a generic failure.
+ * </p>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class OverloadedException extends AppException {
+
+    public OverloadedException(String message) {
+        super(message);
+    }
+
+    public OverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
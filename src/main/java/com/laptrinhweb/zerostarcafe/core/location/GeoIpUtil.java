@@ -1,6 +1,9 @@
 package com.laptrinhweb.zerostarcafe.core.location;
 
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
 import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CityResponse;
@@ -8,6 +11,18 @@ import com.maxmind.geoip2.model.CityResponse;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetAddress;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * <h2>Description:</h2>
@@ -15,46 +30,55 @@ import java.net.InetAddress;
  * Utility for resolving an approximate location from an IP address
  * using the MaxMind GeoIP2/GeoLite2 City database.
  * </p>
+ * <p>
+ * The database file is memory-mapped (not copied into the heap). Its path
+ * comes from {@code geoip.dbPath}; when unset, the bundled classpath copy
+ * is used. The file is polled every {@code geoip.reloadIntervalMs} and a
+ * changed file is swapped in atomically, without blocking lookups.
+ * Replace the file by renaming a new one over it.
+ * </p>
  *
  * <h2>Usage:</h2>
  * <pre>{@code
- * IpLocation loc = GeoIpUtil.lookup("1.2.3.4");
+ * Location loc = GeoIpUtil.lookup("1.2.3.4");
  * if (loc != null) {
- *     System.out.println(loc.city());
  *     System.out.println(loc.latitude() + ", " + loc.longitude());
  * }
  * }</pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 02/12/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class GeoIpUtil {
 
-    private static final DatabaseReader DB_READER;
-
     private static final String DB_RESOURCE_PATH = "/geo/GeoLite2-City.mmdb";
     private static final double EARTH_RADIUS_KM = 6371.0;
 
+    private static final AtomicReference<DatabaseReader> READER = new AtomicReference<>();
+
+    // File being watched and its last seen version
+    private static volatile Path dbFile;
+    private static volatile long dbModified;
+    private static volatile long dbSize;
+    private static volatile ScheduledExecutorService watcher;
+
+    // Metrics
+    private static final AtomicLong lookups = new AtomicLong();
+    private static final AtomicLong reloads = new AtomicLong();
+
     static {
-        DatabaseReader reader = null;
+        dbFile = resolveDbFile();
 
-        try (InputStream is = GeoIpUtil.class.getResourceAsStream(DB_RESOURCE_PATH)) {
-            if (is == null) {
-                LoggerUtil.warn(GeoIpUtil.class,
-                        "GeoIP database not found on classpath: " + DB_RESOURCE_PATH);
-            } else {
-                reader = new DatabaseReader.Builder(is).build();
-                LoggerUtil.info(GeoIpUtil.class,
-                        "GeoIP database loaded from: " + DB_RESOURCE_PATH);
-            }
-        } catch (IOException e) {
-            LoggerUtil.error(GeoIpUtil.class,
-                    "Failed to initialize GeoIP DatabaseReader: " + e.getMessage(), e);
+        if (dbFile != null) {
+            reloadIfChanged();
+            startWatcher();
+        } else {
+            loadFromClasspathStream();
         }
 
-        DB_READER = reader;
+        MetricsRegistry.register("geoip", GeoIpUtil::metrics);
     }
 
     private GeoIpUtil() {
@@ -67,29 +91,158 @@ public final class GeoIpUtil {
      * @return {@link Location} or {@code null} if lookup fails
      */
     public static Location lookup(String ip) {
-        if (DB_READER == null) {
-            return null;
-        }
-        if (ip == null || ip.isBlank()) {
+        InetAddress address = IpPrefix.parse(ip);
+        return address == null ? null : lookup(address);
+    }
+
+    /**
+     * Looks up an already parsed address.
+     *
+     * @param address IPv4/IPv6 address
+     * @return {@link Location} or {@code null} if not found
+     */
+    public static Location lookup(InetAddress address) {
+        DatabaseReader reader = READER.get();
+        if (reader == null || address == null) {
             return null;
         }
 
+        lookups.incrementAndGet();
         try {
-            InetAddress inetAddress = InetAddress.getByName(ip.trim());
-            CityResponse response = DB_READER.city(inetAddress);
+            // tryCity: private and unknown ranges are normal, not exceptional
+            Optional<CityResponse> response = reader.tryCity(address);
+            if (response.isEmpty())
+                return null;
 
-            Double lat = response.location().latitude();
-            Double lon = response.location().longitude();
+            Double lat = response.get().location().latitude();
+            Double lon = response.get().location().longitude();
 
             return new Location(lat, lon);
 
         } catch (GeoIp2Exception | IOException e) {
+            // Reader was swapped and closed mid-lookup: retry on the new one
+            if (READER.get() != reader)
+                return lookup(address);
+
             LoggerUtil.warn(GeoIpUtil.class,
-                    "GeoIP lookup failed for ip=" + ip + ": " + e.getMessage());
+                    "GeoIP lookup failed for ip=" + address.getHostAddress() + ": " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Stops the file watcher and closes the database. Called on application stop.
+     */
+    public static void shutdown() {
+        ScheduledExecutorService w = watcher;
+        if (w != null)
+            w.shutdownNow();
+
+        closeQuietly(READER.getAndSet(null));
+    }
+
+    // ==========================================================
+    // LOADING
+    // ==========================================================
+
+    private static Path resolveDbFile() {
+        String configured = AppConfig.get("geoip.dbPath", "");
+        if (!configured.isBlank())
+            return Path.of(configured.trim());
+
+        // Bundled copy: can be mapped only if it sits on disk (exploded WAR)
+        URL url = GeoIpUtil.class.getResource(DB_RESOURCE_PATH);
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                return Path.of(url.toURI());
+            } catch (URISyntaxException | IllegalArgumentException ignored) {
+                // fall through to stream loading
+            }
+        }
+        return null;
+    }
+
+    private static void reloadIfChanged() {
+        Path file = dbFile;
+        try {
+            if (!Files.isRegularFile(file)) {
+                if (READER.get() == null)
+                    LoggerUtil.warn(GeoIpUtil.class, "GeoIP database not found: " + file);
+                return;
+            }
+
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            long size = Files.size(file);
+            if (READER.get() != null && modified == dbModified && size == dbSize)
+                return;
+
+            DatabaseReader fresh = new DatabaseReader.Builder(file.toFile())
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .build();
+
+            // In-flight lookups keep their own reference to the old mapping
+            closeQuietly(READER.getAndSet(fresh));
+            dbModified = modified;
+            dbSize = size;
+            reloads.incrementAndGet();
+
+            LoggerUtil.info(GeoIpUtil.class, "GeoIP database mapped from: " + file);
+        } catch (IOException e) {
+            LoggerUtil.error(GeoIpUtil.class,
+                    "Failed to open GeoIP database " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void startWatcher() {
+        long interval = AppConfig.getLong("geoip.reloadIntervalMs", 60_000);
+        if (interval <= 0)
+            return;
+
+        ScheduledExecutorService w = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "geoip-watcher");
+            t.setDaemon(true);
+            return t;
+        });
+        w.scheduleWithFixedDelay(GeoIpUtil::reloadIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+        watcher = w;
+    }
+
+    private static void loadFromClasspathStream() {
+        try (InputStream is = GeoIpUtil.class.getResourceAsStream(DB_RESOURCE_PATH)) {
+            if (is == null) {
+                LoggerUtil.warn(GeoIpUtil.class,
+                        "GeoIP database not found on classpath: " + DB_RESOURCE_PATH);
+                return;
+            }
+
+            READER.set(new DatabaseReader.Builder(is).build());
+            LoggerUtil.warn(GeoIpUtil.class, "GeoIP database loaded into heap from "
+                    + DB_RESOURCE_PATH + "; set geoip.dbPath to memory-map it instead.");
+        } catch (IOException e) {
+            LoggerUtil.error(GeoIpUtil.class,
+                    "Failed to initialize GeoIP DatabaseReader: " + e.getMessage(), e);
+        }
+    }
+
+    private static void closeQuietly(DatabaseReader reader) {
+        if (reader == null)
+            return;
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+            // Nothing left to release
+        }
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("loaded", READER.get() != null);
+        m.put("source", dbFile != null ? dbFile.toString() : "classpath-heap");
+        m.put("lookups", lookups.get());
+        m.put("reloads", reloads.get());
+        return m;
+    }
+
     /**
      * Computes the great-circle distance between two points on Earth using the Haversine formula.
      *
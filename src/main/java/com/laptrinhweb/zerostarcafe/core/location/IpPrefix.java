@@ -0,0 +1,73 @@
+package com.laptrinhweb.zerostarcafe.core.location;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Helpers for IP literals: parsing without DNS lookups and reducing an
+ * address to its network prefix (IPv4 /24, IPv6 /48). Clients in the same
+ * prefix almost always geolocate to the same place, so the prefix makes a
+ * good cache key for location decisions.
+ * </p>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class IpPrefix {
+
+    private IpPrefix() {
+    }
+
+    /**
+     * Parses an IP literal. Host names are rejected so no DNS query is made.
+     *
+     * @param ip IPv4 or IPv6 literal
+     * @return the address, or {@code null} if {@code ip} is not a literal
+     */
+    public static InetAddress parse(String ip) {
+        if (ip == null)
+            return null;
+
+        String s = ip.trim();
+        if (s.isEmpty() || !isLiteral(s))
+            return null;
+
+        try {
+            return InetAddress.getByName(s);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return {@code "v4:a.b.c"} for IPv4, {@code "v6:xxxx:xxxx:xxxx"} for IPv6
+     */
+    public static String of(InetAddress address) {
+        byte[] b = address.getAddress();
+
+        if (address instanceof Inet4Address)
+            return "v4:" + (b[0] & 0xff) + "." + (b[1] & 0xff) + "." + (b[2] & 0xff);
+
+        return "v6:" + Integer.toHexString(((b[0] & 0xff) << 8) | (b[1] & 0xff))
+                + ":" + Integer.toHexString(((b[2] & 0xff) << 8) | (b[3] & 0xff))
+                + ":" + Integer.toHexString(((b[4] & 0xff) << 8) | (b[5] & 0xff));
+    }
+
+    private static boolean isLiteral(String s) {
+        // IPv6 literals always contain ':'; host names never do
+        if (s.indexOf(':') >= 0)
+            return true;
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != '.' && (c < '0' || c > '9'))
+                return false;
+        }
+        return true;
+    }
+}
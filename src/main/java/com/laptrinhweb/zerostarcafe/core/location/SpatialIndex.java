@@ -0,0 +1,241 @@
+package com.laptrinhweb.zerostarcafe.core.location;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Immutable k-d tree over points on the earth's surface. Each location is
+ * stored as a 3D unit vector, so straight-line (chord) distance orders points
+ * exactly like great-circle distance and the search needs no trig per node.
+ * Answers nearest-k and within-radius queries in O(log n) on average.
+ * </p>
+ * <p>
+ * Items without a valid {@link Location} are skipped. Build a new index when
+ * the underlying data changes; an instance is safe to share between threads.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * SpatialIndex<Store> index = SpatialIndex.build(stores,
+ *         s -> new Location(s.getLatitude(), s.getLongitude()));
+ *
+ * List<SpatialIndex.Hit<Store>> nearest = index.nearest(clientLoc, 5);
+ * List<SpatialIndex.Hit<Store>> nearby  = index.withinRadius(clientLoc, 10);
+ * }
+ * </pre>
+ *
+ * @param <T> indexed item type
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class SpatialIndex<T> {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    /**
+     * A query result with its great-circle distance from the query point.
+     */
+    public record Hit<T>(T item, double distanceKm) {
+    }
+
+    // Tree laid out in arrays: the node of range [lo, hi) sits at (lo + hi) / 2
+    private final Object[] items;
+    private final double[][] points;
+
+    private SpatialIndex(Object[] items, double[][] points) {
+        this.items = items;
+        this.points = points;
+    }
+
+    /**
+     * Builds an index over the given items.
+     *
+     * @param source  items to index
+     * @param locator extracts each item's location
+     * @return a new index
+     */
+    public static <T> SpatialIndex<T> build(Collection<? extends T> source,
+                                            Function<? super T, Location> locator) {
+        List<Object> items = new ArrayList<>(source.size());
+        List<double[]> points = new ArrayList<>(source.size());
+
+        for (T item : source) {
+            Location loc = locator.apply(item);
+            if (loc == null || !loc.isValid())
+                continue;
+            items.add(item);
+            points.add(toVector(loc));
+        }
+
+        Integer[] order = new Integer[items.size()];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+
+        double[][] pts = points.toArray(new double[0][]);
+        buildTree(order, pts, 0, order.length, 0);
+
+        Object[] sortedItems = new Object[order.length];
+        double[][] sortedPoints = new double[order.length][];
+        for (int i = 0; i < order.length; i++) {
+            sortedItems[i] = items.get(order[i]);
+            sortedPoints[i] = pts[order[i]];
+        }
+        return new SpatialIndex<>(sortedItems, sortedPoints);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    // ==========================================================
+    // QUERIES
+    // ==========================================================
+
+    /**
+     * Finds the {@code k} items closest to {@code from}.
+     *
+     * @param from query location
+     * @param k    maximum number of results
+     * @return hits ordered by distance, nearest first
+     */
+    public List<Hit<T>> nearest(Location from, int k) {
+        if (from == null || !from.isValid() || k <= 0 || items.length == 0)
+            return List.of();
+
+        double[] q = toVector(from);
+
+        // Max-heap on squared chord distance: the head is the worst kept hit
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1,
+                (a, b) -> Double.compare(dist2(q, points[b]), dist2(q, points[a])));
+        searchNearest(q, 0, items.length, 0, k, heap);
+
+        List<Integer> found = new ArrayList<>(heap);
+        found.sort(Comparator.comparingDouble(a -> dist2(q, points[a])));
+        return toHits(q, found);
+    }
+
+    /**
+     * Finds every item within {@code radiusKm} of {@code from}.
+     *
+     * @param from     query location
+     * @param radiusKm great-circle radius in kilometres
+     * @return hits ordered by distance, nearest first
+     */
+    public List<Hit<T>> withinRadius(Location from, double radiusKm) {
+        if (from == null || !from.isValid() || radiusKm <= 0 || items.length == 0)
+            return List.of();
+
+        double[] q = toVector(from);
+        double chord = chordForKm(radiusKm);
+
+        List<Integer> found = new ArrayList<>();
+        searchRadius(q, 0, items.length, 0, chord * chord, found);
+
+        found.sort(Comparator.comparingDouble(a -> dist2(q, points[a])));
+        return toHits(q, found);
+    }
+
+    // ==========================================================
+    // TREE
+    // ==========================================================
+
+    private static void buildTree(Integer[] order, double[][] pts, int lo, int hi, int axis) {
+        if (hi - lo <= 1)
+            return;
+
+        // Sorting the range is O(n log^2 n) overall; fine for a few thousand points
+        Arrays.sort(order, lo, hi, Comparator.comparingDouble(i -> pts[i][axis]));
+
+        int mid = (lo + hi) >>> 1;
+        int next = (axis + 1) % 3;
+        buildTree(order, pts, lo, mid, next);
+        buildTree(order, pts, mid + 1, hi, next);
+    }
+
+    private void searchNearest(double[] q, int lo, int hi, int axis, int k, PriorityQueue<Integer> heap) {
+        if (lo >= hi)
+            return;
+
+        int mid = (lo + hi) >>> 1;
+        double d2 = dist2(q, points[mid]);
+
+        if (heap.size() < k) {
+            heap.add(mid);
+        } else if (d2 < dist2(q, points[heap.peek()])) {
+            heap.poll();
+            heap.add(mid);
+        }
+
+        double diff = q[axis] - points[mid][axis];
+        int next = (axis + 1) % 3;
+
+        // Near side first, far side only if the splitting plane is close enough
+        if (diff < 0) {
+            searchNearest(q, lo, mid, next, k, heap);
+            if (heap.size() < k || diff * diff < dist2(q, points[heap.peek()]))
+                searchNearest(q, mid + 1, hi, next, k, heap);
+        } else {
+            searchNearest(q, mid + 1, hi, next, k, heap);
+            if (heap.size() < k || diff * diff < dist2(q, points[heap.peek()]))
+                searchNearest(q, lo, mid, next, k, heap);
+        }
+    }
+
+    private void searchRadius(double[] q, int lo, int hi, int axis, double maxD2, List<Integer> found) {
+        if (lo >= hi)
+            return;
+
+        int mid = (lo + hi) >>> 1;
+        if (dist2(q, points[mid]) <= maxD2)
+            found.add(mid);
+
+        double diff = q[axis] - points[mid][axis];
+        int next = (axis + 1) % 3;
+
+        if (diff <= 0 || diff * diff <= maxD2)
+            searchRadius(q, lo, mid, next, maxD2, found);
+        if (diff >= 0 || diff * diff <= maxD2)
+            searchRadius(q, mid + 1, hi, next, maxD2, found);
+    }
+
+    // ==========================================================
+    // GEOMETRY
+    // ==========================================================
+
+    private static double[] toVector(Location loc) {
+        double lat = Math.toRadians(loc.latitude());
+        double lon = Math.toRadians(loc.longitude());
+        double cosLat = Math.cos(lat);
+        return new double[]{cosLat * Math.cos(lon), cosLat * Math.sin(lon), Math.sin(lat)};
+    }
+
+    private static double dist2(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        double dz = a[2] - b[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double chordForKm(double km) {
+        double angle = Math.min(km / EARTH_RADIUS_KM, Math.PI);
+        return 2 * Math.sin(angle / 2);
+    }
+
+    private static double kmForChord(double chord) {
+        return 2 * Math.asin(Math.min(1.0, chord / 2)) * EARTH_RADIUS_KM;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Hit<T>> toHits(double[] q, List<Integer> found) {
+        List<Hit<T>> hits = new ArrayList<>(found.size());
+        for (int i : found) {
+            hits.add(new Hit<>((T) items[i], kmForChord(Math.sqrt(dist2(q, points[i])))));
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,139 @@
+package com.laptrinhweb.zerostarcafe.core.security;
+
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import de.mkammerer.argon2.Argon2;
+import de.mkammerer.argon2.Argon2Factory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Benchmarks Argon2id parameter sets on the current host and picks the most
+ * expensive one whose verify time stays under a target latency, within a
+ * per-hash memory budget. Memory is preferred over iterations: candidates
+ * start at the budget and halve down to {@value #MIN_MEMORY_KIB} KiB, and the
+ * first memory level that fits gets as many iterations as the target allows.
+ * </p>
+ * <p>
+ * Runs at startup when {@code password.argon2.calibrate=true}, or standalone
+ * through {@link #main(String[])} to print settings for {@code app.properties}.
+ * Note that the memory budget is per hash; the worst case for the app is the
+ * budget times {@code password.hash.threads}.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * Argon2Params params = Argon2Calibrator.calibrate(250, 65_536, 1);
+ * PasswordUtil.useParams(params);
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class Argon2Calibrator {
+
+    // OWASP lower bound for Argon2id memory
+    static final int MIN_MEMORY_KIB = 19_456;
+    private static final int MAX_ITERATIONS = 10;
+    private static final int SAMPLES = 3;
+
+    private static final char[] PROBE = "calibration-probe".toCharArray();
+
+    private Argon2Calibrator() {
+    }
+
+    /**
+     * Calibrates using {@code password.argon2.targetMs}, {@code password.argon2.maxMemoryKiB}
+     * and {@code password.argon2.parallelism}.
+     *
+     * @return the chosen parameters
+     */
+    public static Argon2Params calibrateFromConfig() {
+        return calibrate(
+                AppConfig.getLong("password.argon2.targetMs", 250),
+                AppConfig.getInt("password.argon2.maxMemoryKiB", Argon2Params.DEFAULT.memoryKiB()),
+                AppConfig.getInt("password.argon2.parallelism", Argon2Params.DEFAULT.parallelism())
+        );
+    }
+
+    /**
+     * Finds the strongest parameters whose median verify time is at most {@code targetMs}.
+     *
+     * @param targetMs     target verify latency in milliseconds
+     * @param maxMemoryKiB memory budget per hash in KiB
+     * @param parallelism  lanes to use
+     * @return the chosen parameters; the cheapest candidate if nothing fits the target
+     */
+    public static Argon2Params calibrate(long targetMs, int maxMemoryKiB, int parallelism) {
+        Argon2 argon2 = Argon2Factory.create(Argon2Factory.Argon2Types.ARGON2id);
+        int floor = Math.min(MIN_MEMORY_KIB, maxMemoryKiB);
+
+        // Budget, budget/2, ... and always the floor itself
+        List<Integer> levels = new ArrayList<>();
+        for (int m = maxMemoryKiB; m > floor; m /= 2)
+            levels.add(m);
+        levels.add(floor);
+
+        for (int memory : levels) {
+            Argon2Params best = null;
+
+            for (int t = 1; t <= MAX_ITERATIONS; t++) {
+                Argon2Params candidate = new Argon2Params(t, memory, parallelism);
+                long ms = measureMs(argon2, candidate);
+
+                LoggerUtil.debug(Argon2Calibrator.class,
+                        "Argon2 candidate m=" + memory + " t=" + t + " -> " + ms + " ms");
+
+                if (ms > targetMs)
+                    break;
+                best = candidate;
+            }
+
+            if (best != null) {
+                LoggerUtil.info(Argon2Calibrator.class, "Argon2 calibrated for " + targetMs
+                        + " ms: m=" + best.memoryKiB() + ", t=" + best.iterations() + ", p=" + parallelism);
+                return best;
+            }
+        }
+
+        Argon2Params cheapest = new Argon2Params(1, floor, parallelism);
+        LoggerUtil.warn(Argon2Calibrator.class,
+                "No Argon2 parameters fit " + targetMs + " ms, using the cheapest: " + cheapest);
+        return cheapest;
+    }
+
+    /**
+     * Prints calibrated settings: {@code Argon2Calibrator [targetMs] [maxMemoryKiB] [parallelism]}.
+     *
+     * @param args optional overrides of the configured target, budget and parallelism
+     */
+    public static void main(String[] args) {
+        long targetMs = args.length > 0 ? Long.parseLong(args[0]) : AppConfig.getLong("password.argon2.targetMs", 250);
+        int memory = args.length > 1 ? Integer.parseInt(args[1]) : Argon2Params.DEFAULT.memoryKiB();
+        int lanes = args.length > 2 ? Integer.parseInt(args[2]) : Argon2Params.DEFAULT.parallelism();
+
+        System.out.println(calibrate(targetMs, memory, lanes).toProperties());
+    }
+
+    // Median of a few verify runs; verify costs the same as hash
+    private static long measureMs(Argon2 argon2, Argon2Params params) {
+        String hash = argon2.hash(params.iterations(), params.memoryKiB(), params.parallelism(), PROBE.clone());
+
+        long[] runs = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            argon2.verify(hash, PROBE.clone());
+            runs[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(runs);
+        return runs[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,125 @@
+package com.laptrinhweb.zerostarcafe.core.security;
+
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Cost parameters of an Argon2id hash: iterations ({@code t}), memory in KiB
+ * ({@code m}) and parallelism ({@code p}). The same values are encoded in every
+ * stored hash ({@code $argon2id$v=19$m=65536,t=3,p=1$...}), which lets
+ * {@link #matches(String)} tell whether a hash was made with the current cost.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * Argon2Params params = Argon2Params.fromConfig();
+ * boolean stale = !params.matches(user.getPasswordHash());
+ * }
+ * </pre>
+ *
+ * @param iterations  number of passes over memory
+ * @param memoryKiB   memory cost in KiB
+ * @param parallelism number of lanes
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public record Argon2Params(int iterations, int memoryKiB, int parallelism) {
+
+    // Defaults follow OWASP guidance for web backends
+    public static final Argon2Params DEFAULT = new Argon2Params(3, 65_536, 1);
+
+    private static final String PREFIX = "$argon2id$";
+
+    public Argon2Params {
+        if (iterations < 1 || memoryKiB < 8 * parallelism || parallelism < 1)
+            throw new IllegalArgumentException("Invalid Argon2 parameters: t="
+                    + iterations + ", m=" + memoryKiB + ", p=" + parallelism);
+    }
+
+    /**
+     * Reads {@code password.argon2.*} from app settings, falling back to {@link #DEFAULT}.
+     *
+     * @return configured parameters
+     */
+    public static Argon2Params fromConfig() {
+        return new Argon2Params(
+                AppConfig.getInt("password.argon2.iterations", DEFAULT.iterations),
+                AppConfig.getInt("password.argon2.memoryKiB", DEFAULT.memoryKiB),
+                AppConfig.getInt("password.argon2.parallelism", DEFAULT.parallelism)
+        );
+    }
+
+    /**
+     * Reads the parameters encoded in a stored Argon2id hash.
+     *
+     * @param hash encoded hash
+     * @return its parameters, or {@code null} if the hash is not Argon2id or is malformed
+     */
+    public static Argon2Params fromHash(String hash) {
+        if (hash == null || !hash.startsWith(PREFIX))
+            return null;
+
+        // $argon2id$v=19$m=65536,t=3,p=1$salt$hash -> "m=65536,t=3,p=1"
+        String[] parts = hash.split("\\$");
+        if (parts.length < 5)
+            return null;
+
+        int m = -1, t = -1, p = -1;
+        for (String pair : parts[3].split(",")) {
+            int eq = pair.indexOf('=');
+            if (eq < 0)
+                return null;
+            try {
+                int value = Integer.parseInt(pair.substring(eq + 1));
+                switch (pair.substring(0, eq)) {
+                    case "m" -> m = value;
+                    case "t" -> t = value;
+                    case "p" -> p = value;
+                    default -> {
+                        // Unknown field: ignore
+                    }
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        try {
+            return new Argon2Params(t, m, p);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param hash stored Argon2id hash
+     * @return {@code true} if the hash was produced with exactly these parameters
+     */
+    public boolean matches(String hash) {
+        return equals(fromHash(hash));
+    }
+
+    /**
+     * Compares by memory-time cost ({@code m * t}), the work an attacker
+     * pays per guess; parallelism only spreads that work.
+     *
+     * @param other parameters to compare with
+     * @return {@code true} if these parameters cost less than {@code other}
+     */
+    public boolean isWeakerThan(Argon2Params other) {
+        return (long) memoryKiB * iterations < (long) other.memoryKiB * other.iterations;
+    }
+
+    /**
+     * @return the parameters as {@code app.properties} lines
+     */
+    public String toProperties() {
+        return "password.argon2.iterations=" + iterations + "\n"
+                + "password.argon2.memoryKiB=" + memoryKiB + "\n"
+                + "password.argon2.parallelism=" + parallelism;
+    }
+}
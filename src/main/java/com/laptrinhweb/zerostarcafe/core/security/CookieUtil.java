@@ -4,7 +4,6 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -14,8 +13,8 @@ import java.util.Map;
  * </p>
  *
  * @author Dang Van Trung
- * @version 2.0.0
- * @lastModified 12/12/2025
+ * @version 2.2.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class CookieUtil {
@@ -23,6 +22,9 @@ public final class CookieUtil {
     private CookieUtil() {
     }
 
+    // Request attribute holding the cookie map parsed for this request
+    private static final String PARSED_ATTR = CookieUtil.class.getName() + ".parsed";
+
     /**
      * Gets the value of a cookie from the {@link HttpServletRequest}.
      *
@@ -31,46 +33,31 @@ public final class CookieUtil {
      * @return the cookie value, or {@code null} if it does not exist
      */
     public static String get(HttpServletRequest request, String name) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies == null || name == null) {
+        if (request == null || name == null) {
             return null;
         }
-
-        for (Cookie c : cookies) {
-            if (name.equals(c.getName())) {
-                String value = c.getValue();
-                if (value == null || value.isBlank()) {
-                    return null;
-                }
-                return value;
-            }
-        }
-        return null;
+        return getAll(request).get(name);
     }
 
     /**
-     * Returns all cookies from the request as an immutable Map.
+     * Returns all cookies from the request as an immutable {@link CookieView}.
+     * The view is parsed once per request and cached as a request attribute.
      *
      * @param request the current HttpServletRequest
-     * @return map of cookie name -> cookie value (never null, may be empty)
+     * @return cookie name -> cookie value (never null, may be empty)
      */
-    public static Map<String, String> getAll(HttpServletRequest request) {
-        Map<String, String> map = new HashMap<>();
-
-        if (request == null || request.getCookies() == null) {
-            return map;
+    public static CookieView getAll(HttpServletRequest request) {
+        if (request == null) {
+            return CookieView.EMPTY;
         }
 
-        for (Cookie c : request.getCookies()) {
-            String name = c.getName();
-            String value = c.getValue();
-
-            if (name != null && value != null && !value.isBlank()) {
-                map.put(name, value);
-            }
+        if (request.getAttribute(PARSED_ATTR) instanceof CookieView view) {
+            return view;
         }
 
-        return Map.copyOf(map);
+        CookieView view = CookieView.of(request.getCookies());
+        request.setAttribute(PARSED_ATTR, view);
+        return view;
     }
 
     /**
@@ -0,0 +1,166 @@
+package com.laptrinhweb.zerostarcafe.core.security;
+
+import jakarta.servlet.http.Cookie;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Read-only cookie map for one request, parsed once by
+ * {@link CookieUtil#getAll}. Names and values sit in one flat array and
+ * lookups scan it; a request carries a handful of cookies, so this beats
+ * hashing and allocates a single array instead of a table of entries.
+ * </p>
+ * <p>
+ * Blank values are skipped and the first cookie of a name wins.
+ * {@link #withPrefix(String)} gives the auth cookies without building a
+ * new map when every cookie (or none) matches.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * CookieView cookies = CookieView.of(request.getCookies());
+ * Map<String, String> authCookies = cookies.withPrefix(SecurityKeys.AUTH_COOKIE_PREFIX);
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class CookieView extends AbstractMap<String, String> {
+
+    public static final CookieView EMPTY = new CookieView(new String[0], 0);
+
+    // name0, value0, name1, value1, ...
+    private final String[] pairs;
+    private final int size;
+
+    private CookieView(String[] pairs, int size) {
+        this.pairs = pairs;
+        this.size = size;
+    }
+
+    /**
+     * @param cookies cookies of the request, may be {@code null}
+     * @return the view, {@link #EMPTY} if nothing usable was sent
+     */
+    public static CookieView of(Cookie[] cookies) {
+        if (cookies == null || cookies.length == 0)
+            return EMPTY;
+
+        String[] pairs = new String[cookies.length * 2];
+        int size = 0;
+        for (Cookie c : cookies) {
+            String name = c.getName();
+            String value = c.getValue();
+            if (name == null || value == null || value.isBlank() || indexOf(pairs, size, name) >= 0)
+                continue;
+
+            pairs[size * 2] = name;
+            pairs[size * 2 + 1] = value;
+            size++;
+        }
+        return size == 0 ? EMPTY : new CookieView(pairs, size);
+    }
+
+    // ==========================================================
+    // MAP
+    // ==========================================================
+
+    @Override
+    public String get(Object name) {
+        int i = indexOf(pairs, size, name);
+        return i < 0 ? null : pairs[i * 2 + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return indexOf(pairs, size, name) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (next >= size)
+                            throw new NoSuchElementException();
+                        int i = next++;
+                        return new SimpleImmutableEntry<>(pairs[i * 2], pairs[i * 2 + 1]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // ==========================================================
+    // PREFIX
+    // ==========================================================
+
+    /**
+     * @param prefix cookie name prefix
+     * @return the cookies whose name starts with {@code prefix}; this view
+     * itself if all of them do
+     */
+    public Map<String, String> withPrefix(String prefix) {
+        int matches = 0;
+        for (int i = 0; i < size; i++) {
+            if (pairs[i * 2].startsWith(prefix))
+                matches++;
+        }
+
+        if (matches == size)
+            return this;
+        if (matches == 0)
+            return EMPTY;
+
+        String[] sub = new String[matches * 2];
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            if (pairs[i * 2].startsWith(prefix)) {
+                sub[j++] = pairs[i * 2];
+                sub[j++] = pairs[i * 2 + 1];
+            }
+        }
+        return new CookieView(sub, matches);
+    }
+
+    private static int indexOf(String[] pairs, int size, Object name) {
+        if (name == null)
+            return -1;
+        for (int i = 0; i < size; i++) {
+            if (name.equals(pairs[i * 2]))
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,258 @@
+package com.laptrinhweb.zerostarcafe.core.security;
+
+import com.laptrinhweb.zerostarcafe.core.database.ConnectionScope;
+import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import com.laptrinhweb.zerostarcafe.core.exception.OverloadedException;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.LatencyRecorder;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Runs Argon2 hashing and verification on a dedicated pool sized to the CPU
+ * count, so at most that many 64 MiB hashes are in memory at once and servlet
+ * worker threads are never the ones burning CPU on them.
+ * </p>
+ * <p>
+ * Admission is fail-fast: when all workers are busy and the bounded queue is
+ * full, or a queued task does not finish within the configured wait, the call
+ * throws {@link OverloadedException} instead of stalling the request. Queue
+ * depth, rejections and hash latency percentiles are published as
+ * {@code security.passwordHash} metrics.
+ * </p>
+ * <p>
+ * A request may wait here for seconds, so the calling thread's
+ * {@link ConnectionScope} connection is returned to the pool before the
+ * work is queued (unless a transaction is open); a queue full of logins
+ * never pins more connections than the pool has.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * try {
+ *     boolean ok = PasswordHashExecutor.verify(password, user.getPasswordHash());
+ * } catch (OverloadedException e) {
+ *     return AuthResult.fail(AuthStatus.SERVER_BUSY);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.3.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class PasswordHashExecutor {
+
+    private static final int THREADS = resolveThreads();
+    private static final int QUEUE_SIZE = Math.max(1, AppConfig.getInt("password.hash.queueSize", 64));
+    private static final long WAIT_MS = AppConfig.getLong("password.hash.waitMs", 5_000);
+
+    private static final ThreadPoolExecutor POOL = new ThreadPoolExecutor(
+            THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE),
+            daemonFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    // Metrics
+    private static final LatencyRecorder HASH_LATENCY = new LatencyRecorder(1024);
+    private static final LatencyRecorder QUEUE_WAIT = new LatencyRecorder(1024);
+    private static final AtomicLong REJECTED = new AtomicLong();
+    private static final AtomicLong TIMED_OUT = new AtomicLong();
+    private static final AtomicLong BACKGROUND_SKIPPED = new AtomicLong();
+
+    static {
+        MetricsRegistry.register("security.passwordHash", PasswordHashExecutor::metrics);
+    }
+
+    private PasswordHashExecutor() {
+    }
+
+    // ==========================================================
+    // PUBLIC API
+    // ==========================================================
+
+    /**
+     * Hashes a password on the hashing pool.
+     *
+     * @param plainPassword plaintext password
+     * @return Argon2id hash
+     * @throws OverloadedException if the pool cannot take the work in time
+     */
+    public static String hash(String plainPassword) {
+        return run(() -> PasswordUtil.hash(plainPassword));
+    }
+
+    /**
+     * Hashes many passwords on the hashing pool (e.g. a bulk import). At most
+     * {@code maxInFlight} of them are queued at a time, and never more than
+     * the pool has threads, so a batch shares the same Argon2 budget as
+     * logins and leaves queue room for them.
+     *
+     * @param plainPasswords plaintext passwords
+     * @param maxInFlight    most hashes of this batch submitted at once
+     * @return Argon2id hashes, in input order
+     * @throws OverloadedException if the pool cannot take the work in time
+     */
+    public static List<String> hashAll(List<String> plainPasswords, int maxInFlight) {
+        ConnectionScope scope = ConnectionScope.current();
+        if (scope != null)
+            scope.release();
+
+        int window = Math.max(1, Math.min(maxInFlight, THREADS));
+        List<String> hashes = new ArrayList<>(plainPasswords.size());
+        for (int from = 0; from < plainPasswords.size(); from += window) {
+            List<Future<String>> inFlight = new ArrayList<>(window);
+            for (String plain : plainPasswords.subList(from, Math.min(from + window, plainPasswords.size())))
+                inFlight.add(submit(() -> PasswordUtil.hash(plain)));
+
+            for (Future<String> future : inFlight)
+                hashes.add(await(future));
+        }
+        return hashes;
+    }
+
+    /**
+     * Verifies a password on the hashing pool.
+     *
+     * @param plainPassword plaintext password
+     * @param hash          stored Argon2id hash
+     * @return true if the password matches
+     * @throws OverloadedException if the pool cannot take the work in time
+     */
+    public static boolean verify(String plainPassword, String hash) {
+        return run(() -> PasswordUtil.verify(plainPassword, hash));
+    }
+
+    /**
+     * Queues best-effort work that nobody waits for (e.g. upgrading a hash
+     * after a login). It is only taken while the queue is under half full,
+     * so it never crowds out requests that are waiting on the pool.
+     *
+     * @param work the work to run on a hashing thread
+     * @return {@code false} if the pool is too busy and the work was skipped
+     */
+    public static boolean tryRunInBackground(Runnable work) {
+        if (POOL.getQueue().size() >= QUEUE_SIZE / 2) {
+            BACKGROUND_SKIPPED.incrementAndGet();
+            return false;
+        }
+
+        try {
+            POOL.execute(() -> {
+                long started = System.nanoTime();
+                try {
+                    work.run();
+                } finally {
+                    HASH_LATENCY.record(System.nanoTime() - started);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            BACKGROUND_SKIPPED.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting work and lets queued hashes finish briefly.
+     */
+    public static void shutdown() {
+        POOL.shutdown();
+        try {
+            if (!POOL.awaitTermination(WAIT_MS, TimeUnit.MILLISECONDS))
+                POOL.shutdownNow();
+        } catch (InterruptedException e) {
+            POOL.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private static <T> T run(Callable<T> work) {
+        ConnectionScope scope = ConnectionScope.current();
+        if (scope != null)
+            scope.release();
+
+        return await(submit(work));
+    }
+
+    private static <T> Future<T> submit(Callable<T> work) {
+        long submitted = System.nanoTime();
+        try {
+            return POOL.submit(() -> {
+                long started = System.nanoTime();
+                QUEUE_WAIT.record(started - submitted);
+                try {
+                    return work.call();
+                } finally {
+                    HASH_LATENCY.record(System.nanoTime() - started);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            REJECTED.incrementAndGet();
+            throw new OverloadedException("Password hashing queue is full", e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get(WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            TIMED_OUT.incrementAndGet();
+            throw new OverloadedException("Password hashing did not finish in " + WAIT_MS + " ms", e);
+        } catch (ExecutionException e) {
+            throw new AppException("Password hashing failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AppException("Interrupted while waiting for password hashing", e);
+        }
+    }
+
+    private static int resolveThreads() {
+        int configured = AppConfig.getInt("password.hash.threads", 0);
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static ThreadFactory daemonFactory() {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            t.setUncaughtExceptionHandler((th, e) ->
+                    LoggerUtil.error(PasswordHashExecutor.class, e.getMessage(), e));
+            return t;
+        };
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("threads", THREADS);
+        map.put("active", POOL.getActiveCount());
+        map.put("queueDepth", POOL.getQueue().size());
+        map.put("queueCapacity", QUEUE_SIZE);
+        map.put("completed", POOL.getCompletedTaskCount());
+        map.put("rejected", REJECTED.get());
+        map.put("timedOut", TIMED_OUT.get());
+        map.put("backgroundSkipped", BACKGROUND_SKIPPED.get());
+        map.putAll(HASH_LATENCY.toMap("hash"));
+        map.putAll(QUEUE_WAIT.toMap("queueWait"));
+        return map;
+    }
+}
@@ -8,6 +8,10 @@ import de.mkammerer.argon2.Argon2Factory;
  * <p>
  * Secure password hashing & verification using <b>Argon2id</b>.
  * </p>
+ * <p>
+ * These calls run on the caller's thread and are CPU and memory heavy;
+ * request handling code should go through {@link PasswordHashExecutor}.
+ * </p>
  *
  * <h2>Example Usage:</h2>
  * <pre>
@@ -19,21 +23,52 @@ import de.mkammerer.argon2.Argon2Factory;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 28/10/2025
+ * @version 1.3.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class PasswordUtil {
 
-    // Config follows OWASP guidance for web backends
-    private static final int ITERATIONS = 3;
-    private static final int MEMORY_KIB = 65_536;
-    private static final int PARALLELISM = 1;
+    // Cost used for new hashes; configured or calibrated per deployment
+    private static volatile Argon2Params params = Argon2Params.fromConfig();
+
+    // Stateless and thread-safe: one native binding for the whole app
+    private static final Argon2 ARGON2 = Argon2Factory.create(Argon2Factory.Argon2Types.ARGON2id);
 
     // Prevent instantiation
     private PasswordUtil() {
     }
 
+    // ===================== Parameters =====================
+
+    public static Argon2Params params() {
+        return params;
+    }
+
+    /**
+     * Switches the cost used for new hashes (e.g. after calibration).
+     * Existing hashes keep verifying; they are upgraded on the next login.
+     *
+     * @param newParams parameters for new hashes
+     */
+    public static void useParams(Argon2Params newParams) {
+        if (newParams != null)
+            params = newParams;
+    }
+
+    /**
+     * Only upgrades: a hash at least as strong as the current parameters is
+     * kept, so calibration picking a neighbouring cost on the next start
+     * does not rewrite every password back and forth.
+     *
+     * @param hash stored hash
+     * @return {@code true} if the hash is not Argon2id or is weaker than the current parameters
+     */
+    public static boolean needsRehash(String hash) {
+        Argon2Params stored = Argon2Params.fromHash(hash);
+        return stored == null || stored.isWeakerThan(params);
+    }
+
     // ===================== Preferred char[] API =====================
 
     /**
@@ -43,11 +78,11 @@ public final class PasswordUtil {
      * @return Argon2id hash (safe to store)
      */
     public static String hash(char[] password) {
-        Argon2 argon2 = Argon2Factory.create(Argon2Factory.Argon2Types.ARGON2id);
         try {
-            return argon2.hash(ITERATIONS, MEMORY_KIB, PARALLELISM, password);
+            Argon2Params p = params;
+            return ARGON2.hash(p.iterations(), p.memoryKiB(), p.parallelism(), password);
         } finally {
-            argon2.wipeArray(password);
+            ARGON2.wipeArray(password);
         }
     }
 
@@ -59,11 +94,10 @@ public final class PasswordUtil {
      * @return true if password matches
      */
     public static boolean verify(String hash, char[] password) {
-        Argon2 argon2 = Argon2Factory.create(Argon2Factory.Argon2Types.ARGON2id);
         try {
-            return argon2.verify(hash, password);
+            return ARGON2.verify(hash, password);
         } finally {
-            argon2.wipeArray(password);
+            ARGON2.wipeArray(password);
         }
     }
 
@@ -0,0 +1,231 @@
+package com.laptrinhweb.zerostarcafe.core.security;
+
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * In-memory token-bucket limiter keyed by a string (client IP, username, ...).
+ * Every key may burst up to {@code capacity} requests and then gets
+ * {@code perMinute} new tokens per minute. Meant to run in front of expensive
+ * work such as password hashing, so it never locks and never touches the
+ * database.
+ * </p>
+ * <p>
+ * Each bucket is one {@link AtomicLong} holding the token count and the last
+ * refill time, updated with compare-and-set. Buckets live in striped maps;
+ * every few moments the next stripe is swept and buckets idle long enough to
+ * be full again are dropped, which loses nothing since a new bucket starts
+ * full. When {@code maxKeys} buckets exist, every new key draws from one
+ * shared overflow bucket (counted as {@code overflow}): a burst spread over
+ * more keys than the map holds is still limited as a whole.
+ * </p>
+ * <p>
+ * Thread-safe. Counters are published as {@code ratelimit.<name>} metrics.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * RateLimiter perIp = RateLimiter.create("login.ip", 10, 5, 100_000);
+ * long waitMs = perIp.tryAcquire(ip);
+ * if (waitMs > 0) reject(waitMs);
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class RateLimiter {
+
+    // Bucket state: refill time (ms since EPOCH) << TOKEN_BITS | milli-tokens
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final int MAX_CAPACITY = (int) (TOKEN_MASK / 1000);
+    private static final long EPOCH = System.currentTimeMillis();
+
+    private static final int STRIPES = 16;
+    private static final long MIN_SWEEP_MS = 250;
+
+    private final int capacity;
+    private final int perMinute;
+    private final int maxKeys;
+    private final long fullMilli;
+    private final long refillFullMs;
+    private final long sweepEveryMs;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+    private final AtomicInteger keys = new AtomicInteger();
+    private final AtomicLong nextSweepAt = new AtomicLong();
+    private final AtomicLong overflowBucket;
+
+    // Metrics
+    private final AtomicLong allowed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong overflow = new AtomicLong();
+
+    private RateLimiter(int capacity, int perMinute, int maxKeys) {
+        this.capacity = capacity;
+        this.perMinute = perMinute;
+        this.maxKeys = maxKeys;
+        this.fullMilli = capacity * 1000L;
+        this.refillFullMs = Math.max(1, capacity * 60_000L / perMinute);
+        this.sweepEveryMs = Math.max(MIN_SWEEP_MS, refillFullMs / STRIPES);
+        for (int i = 0; i < STRIPES; i++)
+            stripes[i] = new ConcurrentHashMap<>();
+        this.overflowBucket = new AtomicLong(pack(0, fullMilli));
+    }
+
+    /**
+     * Creates a limiter and publishes its metrics as {@code ratelimit.<name>}.
+     *
+     * @param name      metrics name, or {@code null} to skip registration
+     * @param capacity  burst size (tokens in a full bucket)
+     * @param perMinute tokens added per minute
+     * @param maxKeys   most buckets kept at once
+     * @return the new limiter
+     */
+    public static RateLimiter create(String name, int capacity, int perMinute, int maxKeys) {
+        if (capacity <= 0 || perMinute <= 0 || maxKeys <= 0)
+            throw new IllegalArgumentException("capacity, perMinute and maxKeys must be positive");
+        if (capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("capacity must be at most " + MAX_CAPACITY);
+
+        RateLimiter limiter = new RateLimiter(capacity, perMinute, maxKeys);
+        if (name != null)
+            MetricsRegistry.register("ratelimit." + name, limiter::metrics);
+        return limiter;
+    }
+
+    // ==========================================================
+    // PUBLIC API
+    // ==========================================================
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @param key the client key, {@code null} is always allowed
+     * @return {@code 0} if a token was taken, otherwise the milliseconds
+     * until the next token is available
+     */
+    public long tryAcquire(String key) {
+        if (key == null)
+            return 0;
+
+        long now = System.currentTimeMillis() - EPOCH;
+        maybeSweep(now);
+
+        AtomicLong bucket = bucketOf(key, now);
+        if (bucket == null) {
+            // Map is full: never fail open, share one bucket instead
+            overflow.incrementAndGet();
+            bucket = overflowBucket;
+        }
+
+        while (true) {
+            long state = bucket.get();
+            long last = state >>> TOKEN_BITS;
+            long tokens = state & TOKEN_MASK;
+
+            // perMinute tokens per minute = perMinute / 60 milli-tokens per ms
+            long added = (now - last) * perMinute / 60;
+            if (added > 0) {
+                tokens = Math.min(fullMilli, tokens + added);
+                last = now;
+            }
+
+            if (tokens < 1000) {
+                rejected.incrementAndGet();
+                return Math.max(1, (1000 - tokens) * 60 / perMinute);
+            }
+
+            if (bucket.compareAndSet(state, pack(last, tokens - 1000))) {
+                allowed.incrementAndGet();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return number of keys currently tracked
+     */
+    public int size() {
+        return keys.get();
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private AtomicLong bucketOf(String key, long now) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripeOf(key);
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null)
+            return bucket;
+
+        if (keys.get() >= maxKeys)
+            return null;
+
+        AtomicLong created = new AtomicLong(pack(now, fullMilli));
+        AtomicLong existing = stripe.putIfAbsent(key, created);
+        if (existing != null)
+            return existing;
+
+        keys.incrementAndGet();
+        return created;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * Sweeps one stripe per time bucket, on whichever request arrives first.
+     */
+    private void maybeSweep(long now) {
+        long due = nextSweepAt.get();
+        if (now < due || !nextSweepAt.compareAndSet(due, now + sweepEveryMs))
+            return;
+
+        // Each time bucket owns one stripe, so stripes are swept in turn
+        int index = (int) ((now / sweepEveryMs) & (STRIPES - 1));
+
+        // A bucket idle for a full refill is full; dropping it changes nothing
+        stripes[index].entrySet().removeIf(e -> {
+            long last = e.getValue().get() >>> TOKEN_BITS;
+            if (now - last < refillFullMs)
+                return false;
+            keys.decrementAndGet();
+            evicted.incrementAndGet();
+            return true;
+        });
+    }
+
+    private static long pack(long time, long milliTokens) {
+        return (time << TOKEN_BITS) | milliTokens;
+    }
+
+    private Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("capacity", capacity);
+        m.put("perMinute", perMinute);
+        m.put("keys", keys.get());
+        m.put("maxKeys", maxKeys);
+        m.put("allowed", allowed.get());
+        m.put("rejected", rejected.get());
+        m.put("evicted", evicted.get());
+        m.put("overflow", overflow.get());
+        return m;
+    }
+}
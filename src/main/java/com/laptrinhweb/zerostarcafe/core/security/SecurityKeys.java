@@ -10,8 +10,8 @@ package com.laptrinhweb.zerostarcafe.core.security;
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 29/11/2025
+ * @version 1.0.4
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class SecurityKeys {
@@ -27,9 +27,10 @@ public final class SecurityKeys {
     public static final String AUTH_COOKIE_PREFIX = "x-auth";
 
     // Session attribute keys
-    public static final String SESSION_AUTH_USER = "authUser";
-    public static final String SESSION_AUTH_TOKENS = "authTokens";
-    public static final String SESSION_AUTH_SESSION = "authSessionInfo";
+    public static final String SESSION_AUTH_STATE = "authState";
+
+    // Request attribute keys
+    public static final String REQ_AUTH_USER = "authUser";
 
     // Servlet context keys
     public static final String CTX_AUTH_SESSION_MANAGER = "authSessionManager";
@@ -0,0 +1,283 @@
+package com.laptrinhweb.zerostarcafe.core.security;
+
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Self-describing auth tokens, used when {@code auth.token.mode=signed}.
+ * A token carries the user id, the {@code auth_tokens} record id, the device
+ * binding and the expiry under an HMAC-SHA256 signature, so a session can
+ * be restored without reading {@code auth_tokens}:
+ * </p>
+ * <pre>
+ * v1.&lt;kid&gt;.&lt;nonce&gt;.&lt;claims&gt;.&lt;signature&gt;
+ * </pre>
+ * <p>
+ * The random {@code nonce} is what the database stores (hashed, see
+ * {@link #recordHash(String)}), so every database path keeps working for
+ * signed tokens too. Keys are configured as {@code auth.token.keys=kid:base64,...};
+ * new tokens are signed with {@code auth.token.activeKey}, older keys only
+ * verify, which allows rotating the secret without logging everyone out.
+ * Keys must be at least 32 bytes; a malformed entry is reported at startup
+ * ({@link #validateKeys()}) and disables signing only, never the opaque
+ * path.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * String nonce = TokenUtil.generateToken();
+ * String token = SignedToken.issue(nonce, new SignedToken.Claims(userId, recordId, deviceHash, exp));
+ * Optional<SignedToken.Claims> claims = SignedToken.verify(token);
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class SignedToken {
+
+    private static final String VERSION = "v1";
+    private static final String PREFIX = VERSION + ".";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODE = Base64.getUrlDecoder();
+
+    private static final boolean ENABLED = "signed".equalsIgnoreCase(AppConfig.get("auth.token.mode", "opaque"));
+
+    // HMAC-SHA256 keys shorter than the hash output weaken the signature
+    static final int MIN_KEY_BYTES = 32;
+
+    private SignedToken() {
+    }
+
+    /**
+     * What a signed token asserts.
+     *
+     * @param userId     owning user
+     * @param recordId   the {@code auth_tokens.id} the token belongs to
+     * @param deviceHash {@link TokenUtil#hashToken} of the device id cookie
+     * @param expiresAt  expiry, epoch seconds
+     */
+    public record Claims(long userId, long recordId, String deviceHash, long expiresAt) {
+
+        public boolean isExpired() {
+            return Instant.now().getEpochSecond() >= expiresAt;
+        }
+    }
+
+    /**
+     * Parsed {@code auth.token.keys}: key id &rarr; secret, plus the id that
+     * signs new tokens.
+     *
+     * @param keys      secrets by key id
+     * @param activeKid key id used by {@link #issue}
+     */
+    public record KeyRing(Map<String, byte[]> keys, String activeKid) {
+
+        /**
+         * @param configured {@code kid:base64,...}; blank for a temporary key
+         * @param active     active key id; blank for the first one listed
+         * @return the key ring
+         * @throws IllegalArgumentException naming the bad entry if an entry is
+         *                                  malformed, duplicated or shorter than
+         *                                  {@value #MIN_KEY_BYTES} bytes, or if
+         *                                  the active key id is not listed
+         */
+        public static KeyRing parse(String configured, String active) {
+            Map<String, byte[]> keys = new LinkedHashMap<>();
+            if (configured != null && !configured.isBlank()) {
+                for (String entry : configured.split(",")) {
+                    int colon = entry.indexOf(':');
+                    String kid = colon > 0 ? entry.substring(0, colon).trim() : "";
+                    if (kid.isEmpty())
+                        throw new IllegalArgumentException("auth.token.keys: entry without kid:base64 layout");
+
+                    byte[] key;
+                    try {
+                        key = Base64.getDecoder().decode(entry.substring(colon + 1).trim());
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("auth.token.keys: key '" + kid + "' is not valid Base64");
+                    }
+                    if (key.length < MIN_KEY_BYTES)
+                        throw new IllegalArgumentException("auth.token.keys: key '" + kid + "' has "
+                                + key.length + " bytes, at least " + MIN_KEY_BYTES + " required");
+                    if (keys.putIfAbsent(kid, key) != null)
+                        throw new IllegalArgumentException("auth.token.keys: key '" + kid + "' is listed twice");
+                }
+            }
+
+            if (keys.isEmpty()) {
+                // Tokens signed with a throwaway key do not survive a restart
+                byte[] key = new byte[MIN_KEY_BYTES];
+                new SecureRandom().nextBytes(key);
+                return new KeyRing(Map.of("tmp", key), "tmp");
+            }
+
+            if (active == null || active.isBlank())
+                active = keys.keySet().iterator().next();
+            else if (!keys.containsKey(active.trim()))
+                throw new IllegalArgumentException("auth.token.activeKey '" + active + "' is not in auth.token.keys");
+
+            return new KeyRing(Map.copyOf(keys), active.trim());
+        }
+    }
+
+    /**
+     * Loads the configured keys on first use of signing, so a bad key never
+     * breaks classes that only hash tokens ({@link #recordHash}, opaque mode).
+     */
+    private static final class Loaded {
+
+        static final KeyRing RING;
+        static final String ERROR;
+
+        static {
+            KeyRing ring = null;
+            String error = null;
+            try {
+                ring = KeyRing.parse(AppConfig.get("auth.token.keys", ""), AppConfig.get("auth.token.activeKey", ""));
+                if (ENABLED && "tmp".equals(ring.activeKid()))
+                    LoggerUtil.warn(SignedToken.class, "auth.token.keys is empty, signing with a temporary key.");
+            } catch (IllegalArgumentException e) {
+                error = e.getMessage();
+                LoggerUtil.warn(SignedToken.class, "Signed tokens disabled: " + error);
+            }
+            RING = ring;
+            ERROR = error;
+        }
+    }
+
+    // ==========================================================
+    // PUBLIC API
+    // ==========================================================
+
+    /**
+     * @return {@code true} if {@code auth.token.mode=signed}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Checks {@code auth.token.keys} at startup.
+     *
+     * @throws IllegalStateException with the reason if the keys cannot be used
+     */
+    public static void validateKeys() {
+        if (Loaded.ERROR != null)
+            throw new IllegalStateException("Invalid signing keys: " + Loaded.ERROR);
+    }
+
+    /**
+     * @param token raw cookie value
+     * @return {@code true} if the value has the signed-token layout
+     */
+    public static boolean isSigned(String token) {
+        return token != null && token.startsWith(PREFIX);
+    }
+
+    /**
+     * Signs claims with the active key.
+     *
+     * @param nonce  random part stored (hashed) in {@code auth_tokens.auth_hash}
+     * @param claims what the token asserts
+     * @return the token value for the cookie
+     * @throws IllegalStateException if the configured keys are invalid
+     */
+    public static String issue(String nonce, Claims claims) {
+        String body = claims.userId() + "|" + claims.recordId() + "|"
+                + claims.deviceHash() + "|" + claims.expiresAt();
+        validateKeys();
+        KeyRing ring = Loaded.RING;
+        String unsigned = PREFIX + ring.activeKid() + "." + nonce + "."
+                + B64.encodeToString(body.getBytes(StandardCharsets.UTF_8));
+        return unsigned + "." + B64.encodeToString(sign(ring.keys().get(ring.activeKid()), unsigned));
+    }
+
+    /**
+     * Checks layout, key, signature and expiry.
+     *
+     * @param token raw cookie value
+     * @return the claims, or empty if the token is not a valid, unexpired signed token
+     */
+    public static Optional<Claims> verify(String token) {
+        if (!isSigned(token))
+            return Optional.empty();
+
+        String[] parts = token.split("\\.");
+        if (parts.length != 5)
+            return Optional.empty();
+
+        // Unusable keys (reported at startup): nothing verifies
+        KeyRing ring = Loaded.RING;
+        byte[] key = ring == null ? null : ring.keys().get(parts[1]);
+        if (key == null)
+            return Optional.empty();
+
+        try {
+            String unsigned = token.substring(0, token.lastIndexOf('.'));
+            byte[] expected = sign(key, unsigned);
+            if (!MessageDigest.isEqual(expected, B64_DECODE.decode(parts[4])))
+                return Optional.empty();
+
+            String[] body = new String(B64_DECODE.decode(parts[3]), StandardCharsets.UTF_8).split("\\|");
+            if (body.length != 4)
+                return Optional.empty();
+
+            Claims claims = new Claims(Long.parseLong(body[0]), Long.parseLong(body[1]),
+                    body[2], Long.parseLong(body[3]));
+            return claims.isExpired() ? Optional.empty() : Optional.of(claims);
+        } catch (IllegalArgumentException e) {
+            // Bad Base64 or numbers: not one of ours
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The value stored in {@code auth_tokens.auth_hash} for a token: the hash
+     * of the nonce for signed tokens, of the whole value for opaque ones.
+     *
+     * @param token raw cookie value
+     * @return hex SHA-256 hash
+     */
+    public static String recordHash(String token) {
+        if (isSigned(token)) {
+            String[] parts = token.split("\\.");
+            if (parts.length == 5)
+                return TokenUtil.hashToken(parts[2]);
+        }
+        return TokenUtil.hashToken(token);
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private static byte[] sign(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.laptrinhweb.zerostarcafe.core.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
@@ -11,6 +12,11 @@ import java.util.Base64;
  * <p>
  * TokenUtil provides simple methods to generate, hash, and verify tokens.
  * </p>
+ * <p>
+ * {@link #hashToken} runs on every authenticated request, so it reuses one
+ * SHA-256 digest and output buffer per thread and encodes hex from a lookup
+ * table; the only allocations left are the input bytes and the result.
+ * </p>
  *
  * <h2>Example Usage:</h2>
  * <pre>
@@ -22,8 +28,8 @@ import java.util.Base64;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 11/11/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class TokenUtil {
@@ -32,6 +38,12 @@ public final class TokenUtil {
     private static final SecureRandom RANDOM = new SecureRandom();
     private static final int TOKEN_BYTES = 32; // 256-bit token
 
+    private static final int HASH_BYTES = 32; // SHA-256 output
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    // Digest + scratch buffers per thread; MessageDigest is not thread-safe
+    private static final ThreadLocal<Hasher> HASHER = ThreadLocal.withInitial(Hasher::new);
+
     // Prevent instantiation
     private TokenUtil() {
     }
@@ -60,22 +72,23 @@ public final class TokenUtil {
      * @return hex-encoded SHA-256 hash
      */
     public static String hashToken(String token) {
+        Hasher hasher = HASHER.get();
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256"); // hashing algorithm
-            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8)); // convert string → bytes → hash
-
-            // Convert bytes to hex string
-            StringBuilder hex = new StringBuilder(hashed.length * 2);
-            for (byte b : hashed) {
-                // %02x = 2-digit hex, zero-padded if needed
-                hex.append(String.format("%02x", b));
-            }
-
-            return hex.toString();
+            hasher.digest.update(token.getBytes(StandardCharsets.UTF_8));
+            hasher.digest.digest(hasher.hash, 0, HASH_BYTES);
+        } catch (DigestException e) {
+            hasher.digest.reset();
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
 
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
+        // Two table lookups per byte; ASCII output builds a compact String
+        byte[] hash = hasher.hash;
+        byte[] hex = hasher.hex;
+        for (int i = 0; i < HASH_BYTES; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX[hash[i] & 0x0f];
         }
+        return new String(hex, StandardCharsets.ISO_8859_1);
     }
 
     /**
@@ -114,4 +127,21 @@ public final class TokenUtil {
 
         return result == 0;
     }
+
+    /**
+     * Per-thread SHA-256 state.
+     */
+    private static final class Hasher {
+        final MessageDigest digest;
+        final byte[] hash = new byte[HASH_BYTES];
+        final byte[] hex = new byte[HASH_BYTES * 2];
+
+        Hasher() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
 }
\ No newline at end of file
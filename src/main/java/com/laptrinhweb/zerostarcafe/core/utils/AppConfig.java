@@ -0,0 +1,119 @@
+package com.laptrinhweb.zerostarcafe.core.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Read-only access to application settings loaded once from
+ * {@code app.properties} on the classpath. Any key can be overridden
+ * at deploy time with a JVM system property of the same name
+ * (for example {@code -Ddb.pool.maxSize=50}).
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * int maxSize = AppConfig.getInt("db.pool.maxSize", 20);
+ * String url  = AppConfig.get("db.url");
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class AppConfig {
+
+    private static final String RESOURCE_PATH = "/app.properties";
+    private static final Properties PROPS = new Properties();
+
+    static {
+        try (InputStream is = AppConfig.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (is == null) {
+                LoggerUtil.warn(AppConfig.class,
+                        "Config file not found on classpath: " + RESOURCE_PATH);
+            } else {
+                PROPS.load(is);
+            }
+        } catch (IOException e) {
+            LoggerUtil.error(AppConfig.class,
+                    "Failed to load config file: " + RESOURCE_PATH, e);
+        }
+    }
+
+    private AppConfig() {
+    }
+
+    /**
+     * Gets a setting value, system properties first, then {@code app.properties}.
+     *
+     * @param key the setting key
+     * @return the trimmed value, or {@code null} if missing or blank
+     */
+    public static String get(String key) {
+        String value = System.getProperty(key, PROPS.getProperty(key));
+        if (value == null || value.isBlank())
+            return null;
+
+        return value.trim();
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null)
+            return defaultValue;
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            LoggerUtil.warn(AppConfig.class,
+                    "Invalid int for " + key + "=" + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = get(key);
+        if (value == null)
+            return defaultValue;
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            LoggerUtil.warn(AppConfig.class,
+                    "Invalid long for " + key + "=" + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        String value = get(key);
+        if (value == null)
+            return defaultValue;
+
+        try {
+            double parsed = Double.parseDouble(value);
+            if (Double.isFinite(parsed))
+                return parsed;
+        } catch (NumberFormatException ignore) {
+            // Reported below
+        }
+        LoggerUtil.warn(AppConfig.class,
+                "Invalid double for " + key + "=" + value + ", using " + defaultValue);
+        return defaultValue;
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+}
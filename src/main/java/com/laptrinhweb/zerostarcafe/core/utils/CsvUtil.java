@@ -0,0 +1,77 @@
+package com.laptrinhweb.zerostarcafe.core.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Minimal RFC 4180 helpers for admin imports and exports: splits one line
+ * into fields (quoted fields may contain commas and doubled quotes) and
+ * escapes values for output. Multi-line quoted fields are not supported.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * List<String> fields = CsvUtil.parseLine("a@b.c,\"Nguyen, An\",secret");
+ * out.println(CsvUtil.escape("needs, quoting"));
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class CsvUtil {
+
+    private CsvUtil() {
+    }
+
+    /**
+     * @param line one CSV record
+     * @return its fields, unquoted and trimmed
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"')
+                    current.append(c);
+                else if (i + 1 < line.length() && line.charAt(i + 1) == '"')
+                    current.append(line.charAt(++i));
+                else
+                    quoted = false;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    /**
+     * @param value field value, may be {@code null}
+     * @return the value, quoted if it contains a comma, quote or line break
+     */
+    public static String escape(String value) {
+        if (value == null)
+            return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
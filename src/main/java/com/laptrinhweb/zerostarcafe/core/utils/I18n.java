@@ -1,23 +1,30 @@
 package com.laptrinhweb.zerostarcafe.core.utils;
 
-import jakarta.servlet.ServletContext;
-
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * <h2>Description:</h2>
  * <p>
  * Provides centralized internationalization (i18n) management for the web application.
- * It loads translation bundles according to the current locale and exposes a simple
- * {@link #trans(String)} method to resolve translation keys.
+ * Each supported locale has one immutable, application-wide catalog: all
+ * translation bundles are flattened into a single key → text map when the
+ * application starts, and {@link #trans(String)} is a single hash lookup.
+ * </p>
+ * <p>
+ * Requests only hold a reference to the shared catalog of their locale.
+ * {@link #reload()} rebuilds every catalog and swaps them in atomically,
+ * so edited .properties files apply without a restart.
  * </p>
  *
  * <h2>Example Usage:</h2>
  * <pre>
  * {@code
- * // Inside LocaleFilter:
- * I18n i18n = new I18n(locale, request.getServletContext());
- * session.setAttribute("i18n", i18n);
+ * // At startup:
+ * I18n.load(List.of("form", "message", "general"), List.of(locale));
+ *
+ * // Inside LocaleStage:
+ * request.setAttribute("i18n", I18n.of(locale));
  *
  * // In JSP:
  * ${i18n.trans('form.username')}
@@ -25,71 +32,121 @@ import java.util.*;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 10/11/2025
+ * @version 2.0.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class I18n {
 
     // Default translation bundle namespaces used across the app.
-    private static final List<String> BUNDLES = List.of("form", "message", "general");
+    private static final List<String> DEFAULT_BUNDLES = List.of("form", "message", "general");
+
+    private static volatile List<String> bundleNames = DEFAULT_BUNDLES;
+    private static final AtomicReference<Map<Locale, I18n>> CATALOGS =
+            new AtomicReference<>(Map.of());
 
     private final Locale locale;
-    private final Map<String, ResourceBundle> bundles = new HashMap<>();
+    private final Map<String, String> messages;
+
+    private I18n(Locale locale, Map<String, String> messages) {
+        this.locale = locale;
+        this.messages = messages;
+    }
+
+    // ==========================================================
+    // CATALOG
+    // ==========================================================
 
     /**
-     * Creates an {@code I18n} manager for the given locale.
-     * It automatically loads all bundles defined in {@code web.xml} context-param.
+     * Builds the catalogs of the given locales and publishes them.
      *
-     * @param locale  the active {@link Locale} for this session
-     * @param context the {@link ServletContext} used to read global configuration
+     * @param bundles bundle namespaces (from the {@code i18n.bundles} context-param)
+     * @param locales locales to load eagerly
      */
-    public I18n(Locale locale, ServletContext context) {
-        this.locale = locale;
-        loadBundles(context);
+    public static synchronized void load(List<String> bundles, Collection<Locale> locales) {
+        if (bundles != null && !bundles.isEmpty())
+            bundleNames = List.copyOf(bundles);
+
+        Map<Locale, I18n> next = new HashMap<>(CATALOGS.get());
+        for (Locale locale : locales)
+            next.put(locale, build(locale));
+
+        CATALOGS.set(Map.copyOf(next));
+    }
+
+    /**
+     * Re-reads every loaded locale from disk and swaps all catalogs at once.
+     * Requests already rendering keep the catalog they started with.
+     */
+    public static synchronized void reload() {
+        ResourceBundle.clearCache(I18n.class.getClassLoader());
+
+        Map<Locale, I18n> next = new HashMap<>();
+        for (Locale locale : CATALOGS.get().keySet())
+            next.put(locale, build(locale));
+
+        CATALOGS.set(Map.copyOf(next));
+        LoggerUtil.info(I18n.class, "Translation catalogs reloaded: " + next.keySet());
     }
 
     /**
-     * Loads all ResourceBundles defined in the web.xml context-param
+     * Returns the shared catalog of a locale, building it on first use.
      *
-     * @param context the servlet context containing i18n configuration
+     * @param locale the locale
+     * @return the immutable catalog for that locale
      */
-    private void loadBundles(ServletContext context) {
-        for (String name : BUNDLES) {
+    public static I18n of(Locale locale) {
+        I18n catalog = CATALOGS.get().get(locale);
+        if (catalog != null)
+            return catalog;
+
+        load(null, List.of(locale));
+        return CATALOGS.get().get(locale);
+    }
+
+    private static I18n build(Locale locale) {
+        Map<String, String> messages = new HashMap<>();
+
+        for (String name : bundleNames) {
             String path = String.format("translate/%s/%s", locale.toLanguageTag(), name);
             try {
-                bundles.put(name, ResourceBundle.getBundle(path));
+                ResourceBundle rb = ResourceBundle.getBundle(path);
+                for (String key : rb.keySet())
+                    messages.put(key.intern(), rb.getString(key));
             } catch (MissingResourceException e) {
                 LoggerUtil.warn(I18n.class, "Missing bundle: " + path);
             }
         }
+        return new I18n(locale, Map.copyOf(messages));
     }
 
+    // ==========================================================
+    // LOOKUP
+    // ==========================================================
+
     /**
-     * Translates a given key using the appropriate bundle based on its namespace.
-     * Example: "form.username" will look for key "form.username" in bundle "form".
+     * Translates a given key, e.g. "form.username".
      *
      * @param key the full translation key in the format "bundleName.keyName"
      * @return the translated string if found; otherwise, the key itself
      */
     public String trans(String key) {
-        if (key == null || key.isBlank()) return "";
-        int dot = key.indexOf('.');
-        if (dot == -1) return key;
+        if (key == null || key.isEmpty()) return "";
 
-        String ns = key.substring(0, dot);
-        ResourceBundle rb = bundles.get(ns);
-        if (rb == null) return key;
-
-        return rb.containsKey(key) ? rb.getString(key) : key;
+        String text = messages.get(key);
+        return text != null ? text : key;
     }
 
     /**
-     * Gets the current locale used by this {@code I18n} instance.
+     * Gets the locale of this catalog.
      *
      * @return the active {@link Locale}
      */
     public Locale getLocale() {
         return locale;
     }
+
+    public int size() {
+        return messages.size();
+    }
 }
@@ -0,0 +1,88 @@
+package com.laptrinhweb.zerostarcafe.core.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Keeps the most recent latency samples of an operation in a fixed ring
+ * buffer and reports count, mean and percentiles on demand. Recording is
+ * one short lock and no allocation; sorting only happens when a metrics
+ * snapshot is taken.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * LatencyRecorder latency = new LatencyRecorder(1024);
+ * long start = System.nanoTime();
+ * doWork();
+ * latency.record(System.nanoTime() - start);
+ * Map<String, Object> m = latency.toMap("hash"); // hashP50Ms, hashP95Ms, ...
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class LatencyRecorder {
+
+    private final long[] samples;
+    private long count;
+    private int next;
+
+    public LatencyRecorder(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive");
+        this.samples = new long[capacity];
+    }
+
+    /**
+     * @param nanos duration of one operation in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count++;
+    }
+
+    /**
+     * Summarizes the retained samples.
+     *
+     * @param prefix metric name prefix, e.g. {@code "hash"}
+     * @return count (all time) plus mean, p50, p95, p99 and max of the window in milliseconds
+     */
+    public Map<String, Object> toMap(String prefix) {
+        long[] window;
+        long total;
+        synchronized (this) {
+            total = count;
+            window = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+        }
+        Arrays.sort(window);
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(prefix + "Count", total);
+        map.put(prefix + "MeanMs", window.length == 0 ? 0.0 : toMs(Arrays.stream(window).sum() / window.length));
+        map.put(prefix + "P50Ms", percentile(window, 0.50));
+        map.put(prefix + "P95Ms", percentile(window, 0.95));
+        map.put(prefix + "P99Ms", percentile(window, 0.99));
+        map.put(prefix + "MaxMs", window.length == 0 ? 0.0 : toMs(window[window.length - 1]));
+        return map;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0)
+            return 0.0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return toMs(sorted[Math.max(0, index)]);
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
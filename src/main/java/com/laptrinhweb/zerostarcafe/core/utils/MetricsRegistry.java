@@ -0,0 +1,73 @@
+package com.laptrinhweb.zerostarcafe.core.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Central place where subsystems publish their runtime metrics.
+ * Each source registers a supplier under a group name; the supplier is
+ * only called when a snapshot is requested (e.g. by the admin metrics page).
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * MetricsRegistry.register("db.pool", () -> pool.stats().toMap());
+ * Map<String, Map<String, Object>> all = MetricsRegistry.snapshot();
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class MetricsRegistry {
+
+    private static final Map<String, Supplier<Map<String, Object>>> SOURCES =
+            new ConcurrentSkipListMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Registers (or replaces) a metrics source.
+     *
+     * @param group  unique group name, e.g. {@code "db.pool"}
+     * @param source supplier of the current metric values
+     */
+    public static void register(String group, Supplier<Map<String, Object>> source) {
+        if (group == null || source == null)
+            return;
+        SOURCES.put(group, source);
+    }
+
+    public static void unregister(String group) {
+        if (group != null)
+            SOURCES.remove(group);
+    }
+
+    /**
+     * Collects the current values of all sources, ordered by group name.
+     * A failing source is reported as an error entry instead of breaking the snapshot.
+     *
+     * @return group name -> metric name -> value
+     */
+    public static Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Supplier<Map<String, Object>>> entry : SOURCES.entrySet()) {
+            try {
+                result.put(entry.getKey(), entry.getValue().get());
+            } catch (RuntimeException e) {
+                result.put(entry.getKey(), Map.of("error", String.valueOf(e.getMessage())));
+            }
+        }
+
+        return result;
+    }
+}
@@ -31,8 +31,6 @@ public class ShowProductServlet extends HttpServlet {
                     .forward(request, response);
         } catch (SQLException e) {
             throw new RuntimeException(e);
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException(e);
         }
     }
 
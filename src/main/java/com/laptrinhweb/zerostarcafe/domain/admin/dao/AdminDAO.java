@@ -1,5 +1,6 @@
 package com.laptrinhweb.zerostarcafe.domain.admin.dao;
 
+import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
 import com.laptrinhweb.zerostarcafe.domain.admin.dto.Category;
 import com.laptrinhweb.zerostarcafe.domain.admin.dto.Product;
 
@@ -8,19 +9,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class AdminDAO {
-    //Connection
-    public static Connection connection() throws ClassNotFoundException {
-        String url = "jdbc:mysql://localhost:3306/zerostar_cf?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC";
-        String username = "root";
-        String password = "";
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            System.out.println("Connected!");
-            return DriverManager.getConnection(url, username, password);
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return null;
-        }
+    //Connection (borrowed from the shared pool, returned on close)
+    public static Connection connection() throws SQLException {
+        return DBConnection.getConnection();
     }
 
     //Get all products by store
@@ -51,7 +42,7 @@ public class AdminDAO {
                     list.add(p);
                 }
             }
-        } catch (SQLException | ClassNotFoundException e) {
+        } catch (SQLException e) {
             e.printStackTrace();
         }
         return list;
@@ -66,8 +57,6 @@ public class AdminDAO {
                               "ON DUPLICATE KEY UPDATE inventory = ?";
 
         try (Connection conn = AdminDAO.connection()) {
-            if (conn == null) return false;
-
             conn.setAutoCommit(false);
 
             try (PreparedStatement ps1 = conn.prepareStatement(sqlMenuItem);
@@ -98,8 +87,6 @@ public class AdminDAO {
             } finally {
                 conn.setAutoCommit(true);
             }
-        } catch (ClassNotFoundException e) {
-            e.printStackTrace();
         }
         return rowUpdated;
     }
@@ -212,7 +199,7 @@ public class AdminDAO {
         }
     }
 
-    public List<Category> getAllCategories() throws SQLException, ClassNotFoundException {
+    public List<Category> getAllCategories() throws SQLException {
         List<Category> list = new ArrayList<>();
         String sql = "SELECT id, name FROM categories ORDER BY order_index ASC";
         try (Connection conn = AdminDAO.connection();
@@ -1,5 +1,6 @@
 package com.laptrinhweb.zerostarcafe.domain.auth.dto;
 
+import com.laptrinhweb.zerostarcafe.core.security.CookieView;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -14,8 +15,8 @@ import java.util.Map;
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 14/12/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 
@@ -56,6 +57,10 @@ public final class RequestInfoDTO {
             return Map.of();
         }
 
+        // Parsed request cookies filter without copying
+        if (cookies instanceof CookieView view)
+            return view.withPrefix(prefix);
+
         Map<String, String> result = new HashMap<>();
         for (Map.Entry<String, String> entry : cookies.entrySet()) {
             String name = entry.getKey();
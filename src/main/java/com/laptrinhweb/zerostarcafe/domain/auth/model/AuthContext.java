@@ -13,8 +13,8 @@ import java.util.List;
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 14/12/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 
@@ -66,6 +66,17 @@ public class AuthContext {
         return null;
     }
 
+    /**
+     * Returns a context with the same user and tokens but its own session
+     * state, for handing one restore result to several HTTP sessions.
+     *
+     * @return an independent copy of this context
+     */
+    public AuthContext copy() {
+        AuthSession session = sessionInfo == null ? null : new AuthSession(sessionInfo.getExpiredAt());
+        return new AuthContext(authUser, session, tokens);
+    }
+
     /**
      * Creates a new context with an updated token.
      *
@@ -16,8 +16,8 @@ import java.time.LocalDateTime;
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 14/12/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 
@@ -35,6 +35,17 @@ public final class AuthSession implements Serializable {
         this.lastRotatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Recreates a stored session, e.g. when a persisted HTTP session is loaded.
+     *
+     * @param expiredAt     session expiry
+     * @param lastRotatedAt last token rotation
+     */
+    public AuthSession(LocalDateTime expiredAt, LocalDateTime lastRotatedAt) {
+        this.expiredAt = expiredAt;
+        this.lastRotatedAt = lastRotatedAt;
+    }
+
     /**
      * Checks if this session is expired.
      *
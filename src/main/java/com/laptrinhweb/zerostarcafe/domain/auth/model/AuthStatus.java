@@ -8,8 +8,8 @@ package com.laptrinhweb.zerostarcafe.domain.auth.model;
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 22/11/2025
+ * @version 1.2.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public enum AuthStatus {
@@ -22,11 +22,13 @@ public enum AuthStatus {
     EMAIL_EXISTS,
     USERNAME_EXISTS,
     INVALID_CREDENTIALS,
+    SERVER_BUSY,
 
     // Auth session state
     SESSION_NOT_FOUND,
     SESSION_REUSED,
     SESSION_ROTATED,
     SESSION_RESTORED,
+    SESSION_THROTTLED,
     SESSION_INVALID
 }
\ No newline at end of file
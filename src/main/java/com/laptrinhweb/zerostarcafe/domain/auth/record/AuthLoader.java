@@ -0,0 +1,161 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.record;
+
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthUser;
+import com.laptrinhweb.zerostarcafe.domain.user.dao.UserDAOImpl;
+import com.laptrinhweb.zerostarcafe.domain.user.model.User;
+import com.laptrinhweb.zerostarcafe.domain.user.model.UserStatus;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Loads authentication state with one joined query per use case instead of
+ * separate round trips to {@code auth_tokens}, {@code users} and
+ * {@code user_store_roles}. The join returns one row per store role (at least
+ * one row thanks to the {@code LEFT JOIN}); role codes are folded while
+ * reading.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * AuthLoader loader = new AuthLoader(conn);
+ * Optional<AuthSnapshot> snapshot = loader.loadByAuthHash(TokenUtil.hashToken(rawToken));
+ * AuthContext ctx = snapshot.get().toContext(rawToken, rawDeviceId);
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class AuthLoader {
+
+    private final Connection conn;
+
+    public AuthLoader(Connection conn) {
+        this.conn = conn;
+    }
+
+    /**
+     * Credential check input: the user row (for password verification and
+     * rehash) and its principal.
+     */
+    public record Credential(User user, AuthUser principal) {
+    }
+
+    // ==========================================================
+    // TOKEN + USER + ROLES
+    // ==========================================================
+
+    /**
+     * Loads a valid token record together with its active user and roles.
+     *
+     * @param authHash hash of the raw auth token
+     * @return the snapshot, or empty if the token is unknown, revoked or expired,
+     * or its user is not active
+     * @throws SQLException if a database access error occurs
+     */
+    public Optional<AuthSnapshot> loadByAuthHash(String authHash) throws SQLException {
+        String sql = """
+                    SELECT t.*,
+                           u.username       AS u_username,
+                           u.email          AS u_email,
+                           u.status         AS u_status,
+                           u.is_super_admin AS u_is_super_admin,
+                           r.role_code      AS r_role_code
+                    FROM auth_tokens t
+                    JOIN users u ON u.id = t.user_id
+                    LEFT JOIN user_store_roles r ON r.user_id = u.id
+                    WHERE t.auth_hash = ?
+                      AND t.status = 'ACTIVE'
+                      AND t.expired_at > ?
+                    ORDER BY r.store_id
+                """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, authHash);
+            ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next())
+                    return Optional.empty();
+
+                if (!isActive(rs.getString("u_status")))
+                    return Optional.empty();
+
+                AuthRecord record = AuthRecordDAOImpl.rowMapper(rs);
+                String username = rs.getString("u_username");
+                String email = rs.getString("u_email");
+                boolean superAdmin = rs.getBoolean("u_is_super_admin");
+                List<String> roles = readRoles(rs);
+
+                AuthUser user = new AuthUser(record.getUserId(), username, email, superAdmin, roles);
+                return Optional.of(new AuthSnapshot(record, user));
+            }
+        }
+    }
+
+    // ==========================================================
+    // USER + ROLES (login)
+    // ==========================================================
+
+    /**
+     * Loads an active user by username together with its roles.
+     *
+     * @param username normalized username
+     * @return the credential, or empty if not found or not active
+     * @throws SQLException if a database access error occurs
+     */
+    public Optional<Credential> loadCredential(String username) throws SQLException {
+        String sql = """
+                    SELECT u.*,
+                           r.role_code AS r_role_code
+                    FROM users u
+                    LEFT JOIN user_store_roles r ON r.user_id = u.id
+                    WHERE u.username = ?
+                    ORDER BY r.store_id
+                """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, username);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next())
+                    return Optional.empty();
+
+                User user = UserDAOImpl.rowMapper(rs);
+                if (user.getStatus() != UserStatus.ACTIVE)
+                    return Optional.empty();
+
+                List<String> roles = readRoles(rs);
+                AuthUser principal = new AuthUser(
+                        user.getId(), user.getUsername(), user.getEmail(), user.isSuperAdmin(), roles);
+                return Optional.of(new Credential(user, principal));
+            }
+        }
+    }
+
+    // ==========================================================
+    // HELPERS
+    // ==========================================================
+
+    // Reads role codes from the current row onwards (cursor is on the first row)
+    private static List<String> readRoles(ResultSet rs) throws SQLException {
+        Set<String> roles = new LinkedHashSet<>();
+        do {
+            String code = rs.getString("r_role_code");
+            if (code != null)
+                roles.add(code);
+        } while (rs.next());
+        return new ArrayList<>(roles);
+    }
+
+    private static boolean isActive(String status) {
+        return status != null && UserStatus.ACTIVE.name().equalsIgnoreCase(status);
+    }
+}
@@ -0,0 +1,27 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.record;
+
+import java.time.LocalDateTime;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * The non-critical columns of one {@code auth_tokens} row (last IP, user
+ * agent, last rotation time), written behind by {@link AuthMetadataWriter}.
+ * </p>
+ *
+ * @param recordId      the {@code auth_tokens.id} to update
+ * @param ipLast        last client IP
+ * @param userAgent     last user agent
+ * @param lastRotatedAt time of the last restore / rotation
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public record AuthMetadata(
+        long recordId,
+        String ipLast,
+        String userAgent,
+        LocalDateTime lastRotatedAt
+) {
+}
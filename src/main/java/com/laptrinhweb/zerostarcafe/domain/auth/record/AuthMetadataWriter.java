@@ -0,0 +1,214 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.record;
+
+import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.LatencyRecorder;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Write-behind queue for the non-critical metadata of {@code auth_tokens}
+ * rows ({@code ip_last}, {@code user_agent}, {@code last_rotated_at}).
+ * Updates are coalesced by record id, so a session touched many times
+ * between flushes costs one row write, and are flushed as a JDBC batch on a
+ * timer or as soon as the batch size is reached.
+ * </p>
+ * <p>
+ * Only metadata goes through here: token hash, status and revocation stay
+ * synchronous in {@link AuthRecordService}. A flush never moves
+ * {@code last_rotated_at} backwards, so a late flush cannot undo a newer
+ * synchronous write. The queue is bounded; when full, new records are
+ * dropped (the data is informational). Counters are published as
+ * {@code auth.metadataWriter} metrics.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * AuthMetadataWriter.enqueue(record.getId(), ip, userAgent, LocalDateTime.now());
+ * ...
+ * AuthMetadataWriter.shutdown(); // final flush, before the pool closes
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class AuthMetadataWriter {
+
+    private static final long FLUSH_INTERVAL_MS =
+            Math.max(100, AppConfig.getLong("auth.metadata.flushIntervalMs", 2_000));
+    private static final int BATCH_SIZE = Math.max(1, AppConfig.getInt("auth.metadata.batchSize", 200));
+    private static final int MAX_PENDING = Math.max(BATCH_SIZE, AppConfig.getInt("auth.metadata.maxPending", 50_000));
+
+    // Record id -> latest metadata (later updates replace earlier ones)
+    private static final ConcurrentHashMap<Long, AuthMetadata> PENDING = new ConcurrentHashMap<>();
+    private static final AtomicBoolean FLUSH_REQUESTED = new AtomicBoolean();
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "auth-metadata-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Metrics
+    private static final AtomicLong ENQUEUED = new AtomicLong();
+    private static final AtomicLong COALESCED = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final AtomicLong WRITTEN = new AtomicLong();
+    private static final AtomicLong BATCHES = new AtomicLong();
+    private static final AtomicLong FAILURES = new AtomicLong();
+    private static final LatencyRecorder FLUSH_LATENCY = new LatencyRecorder(256);
+
+    static {
+        SCHEDULER.scheduleWithFixedDelay(AuthMetadataWriter::flushQuietly,
+                FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        MetricsRegistry.register("auth.metadataWriter", AuthMetadataWriter::metrics);
+    }
+
+    private AuthMetadataWriter() {
+    }
+
+    // ==========================================================
+    // PUBLIC API
+    // ==========================================================
+
+    /**
+     * Queues a metadata update for one record, replacing any update still
+     * waiting for the same record.
+     *
+     * @param recordId      the {@code auth_tokens.id}
+     * @param ipLast        last client IP
+     * @param userAgent     last user agent
+     * @param lastRotatedAt time of the restore / rotation
+     */
+    public static void enqueue(long recordId, String ipLast, String userAgent, LocalDateTime lastRotatedAt) {
+        AuthMetadata update = new AuthMetadata(recordId, ipLast, userAgent, lastRotatedAt);
+
+        if (PENDING.size() >= MAX_PENDING && !PENDING.containsKey(recordId)) {
+            DROPPED.incrementAndGet();
+            return;
+        }
+
+        ENQUEUED.incrementAndGet();
+        if (PENDING.put(recordId, update) != null)
+            COALESCED.incrementAndGet();
+
+        // Size threshold: flush early instead of waiting for the timer
+        if (PENDING.size() >= BATCH_SIZE && FLUSH_REQUESTED.compareAndSet(false, true)) {
+            try {
+                SCHEDULER.execute(AuthMetadataWriter::flushQuietly);
+            } catch (RuntimeException e) {
+                FLUSH_REQUESTED.set(false); // shutting down; the final flush picks it up
+            }
+        }
+    }
+
+    /**
+     * Writes everything queued so far, in batches of the configured size.
+     *
+     * @return number of updates drained from the queue
+     */
+    public static int flush() {
+        FLUSH_REQUESTED.set(false);
+
+        int drained = 0;
+        List<AuthMetadata> batch = new ArrayList<>(BATCH_SIZE);
+        Iterator<Long> ids = PENDING.keySet().iterator();
+
+        while (ids.hasNext()) {
+            AuthMetadata update = PENDING.remove(ids.next());
+            if (update == null)
+                continue;
+
+            batch.add(update);
+            if (batch.size() == BATCH_SIZE) {
+                drained += writeBatch(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty())
+            drained += writeBatch(batch);
+
+        return drained;
+    }
+
+    /**
+     * Stops the timer and writes what is still queued. Call before the
+     * connection pool shuts down.
+     */
+    public static void shutdown() {
+        SCHEDULER.shutdown();
+        try {
+            SCHEDULER.awaitTermination(FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private static int writeBatch(List<AuthMetadata> batch) {
+        long started = System.nanoTime();
+        try {
+            int written = DBConnection.inTransaction(conn ->
+                    new AuthRecordDAOImpl(conn).updateMetadataBatch(batch));
+            WRITTEN.addAndGet(written);
+            BATCHES.incrementAndGet();
+        } catch (SQLException | RuntimeException e) {
+            FAILURES.incrementAndGet();
+            LoggerUtil.warn(AuthMetadataWriter.class,
+                    "Auth metadata flush failed, re-queued " + batch.size() + ": " + e.getMessage());
+
+            // Put back unless a newer update arrived meanwhile
+            for (AuthMetadata update : batch)
+                PENDING.putIfAbsent(update.recordId(), update);
+        } finally {
+            FLUSH_LATENCY.record(System.nanoTime() - started);
+        }
+        return batch.size();
+    }
+
+    private static void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LoggerUtil.error(AuthMetadataWriter.class, e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("pending", PENDING.size());
+        map.put("maxPending", MAX_PENDING);
+        map.put("enqueued", ENQUEUED.get());
+        map.put("coalesced", COALESCED.get());
+        map.put("dropped", DROPPED.get());
+        map.put("rowsWritten", WRITTEN.get());
+        map.put("batches", BATCHES.get());
+        map.put("failures", FAILURES.get());
+        map.putAll(FLUSH_LATENCY.toMap("flush"));
+        return map;
+    }
+}
@@ -1,6 +1,9 @@
 package com.laptrinhweb.zerostarcafe.domain.auth.record;
 
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,6 +19,9 @@ import java.util.Optional;
  *   <li>Lookup valid tokens by authHash</li>
  *   <li>Revoke specific tokens</li>
  *   <li>Revoke all tokens belonging to a user</li>
+ *   <li>Rotate token hashes and batch-write token metadata</li>
+ *   <li>Archive and purge dead tokens in id ranges</li>
+ *   <li>Compute per-user revocation watermarks for signed tokens</li>
  * </ul>
  *
  * <h2>Example Usage:</h2>
@@ -27,8 +33,8 @@ import java.util.Optional;
  * }</pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 16/11/2025
+ * @version 1.4.1
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public interface AuthRecordDAO {
@@ -64,7 +70,86 @@ public interface AuthRecordDAO {
      * Revokes a single token by auth hash.
      *
      * @param authHash the hash of the token
+     * @return {@code true} if an active token was revoked
      * @throws SQLException if a database access error occurs
      */
-    void revokeByAuthHash(String authHash) throws SQLException;
-}
\ No newline at end of file
+    boolean revokeByAuthHash(String authHash) throws SQLException;
+
+    /**
+     * Revokes every active token of a user except one.
+     *
+     * @param userId the user ID
+     * @param keepId the token record to keep active
+     * @throws SQLException if a database access error occurs
+     */
+    void revokeOthersByUserId(Long userId, Long keepId) throws SQLException;
+
+    /**
+     * Replaces the hash of an active token in a single statement,
+     * recording the rotation metadata in the same row write.
+     *
+     * @param oldHash   current token hash
+     * @param newHash   new token hash
+     * @param ipLast    client IP of the rotating request
+     * @param userAgent user agent of the rotating request
+     * @param rotatedAt rotation time
+     * @return true if an active token was rotated
+     * @throws SQLException if a database access error occurs
+     */
+    boolean rotateAuthHash(String oldHash, String newHash,
+                           String ipLast, String userAgent,
+                           LocalDateTime rotatedAt) throws SQLException;
+
+    /**
+     * Writes queued metadata updates as one JDBC batch. Rows whose
+     * {@code last_rotated_at} is already newer are left untouched.
+     *
+     * @param updates metadata updates, at most one per record
+     * @return number of rows updated
+     * @throws SQLException if a database access error occurs
+     */
+    int updateMetadataBatch(List<AuthMetadata> updates) throws SQLException;
+
+    /**
+     * Finds the end of the next chunk of reapable tokens: expired before
+     * {@code cutoff}, or revoked before {@code cutoff}.
+     *
+     * @param afterId exclusive lower id bound (keyset position)
+     * @param cutoff  retention cutoff
+     * @param limit   maximum rows in the chunk
+     * @return highest id of the chunk, or {@code null} if nothing is left
+     * @throws SQLException if a database access error occurs
+     */
+    Long findReapUpperBound(long afterId, LocalDateTime cutoff, int limit) throws SQLException;
+
+    /**
+     * Copies the reapable tokens with {@code afterId < id <= upToId} into
+     * {@code auth_tokens_archive}.
+     *
+     * @return number of rows archived
+     * @throws SQLException if a database access error occurs
+     */
+    int archiveReapable(long afterId, long upToId, LocalDateTime cutoff) throws SQLException;
+
+    /**
+     * Deletes the reapable tokens with {@code afterId < id <= upToId}.
+     *
+     * @return number of rows deleted
+     * @throws SQLException if a database access error occurs
+     */
+    int deleteReapable(long afterId, long upToId, LocalDateTime cutoff) throws SQLException;
+
+    /**
+     * Computes, for every user whose tokens were created or revoked since
+     * {@code changedSince}, the lowest record id that may still be used:
+     * the id of the active token, or one past the newest id if none is active.
+     * Changed users come from a derived table driven by the
+     * {@code created_at} and {@code revoked_at} indexes; their rows are then
+     * read through the {@code user_id} index.
+     *
+     * @param changedSince lower bound of {@code created_at} / {@code revoked_at}
+     * @return user id -> lowest valid record id
+     * @throws SQLException if a database access error occurs
+     */
+    Map<Long, Long> findRevocationWatermarks(LocalDateTime changedSince) throws SQLException;
+}
@@ -4,6 +4,9 @@ import com.laptrinhweb.zerostarcafe.domain.auth.model.TokenStatus;
 
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -13,14 +16,19 @@ import java.util.Optional;
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.2
- * @lastModified 14/12/2025
+ * @version 1.4.1
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public class AuthRecordDAOImpl implements AuthRecordDAO {
 
     private final Connection conn;
 
+    // Dead for longer than the retention: expired, or revoked (timestamps only move forward)
+    private static final String REAPABLE = """
+            (expired_at < ? OR (status <> 'ACTIVE' AND COALESCE(revoked_at, created_at) < ?))
+            """;
+
     public AuthRecordDAOImpl(Connection conn) {
         this.conn = conn;
     }
@@ -151,7 +159,7 @@ public class AuthRecordDAOImpl implements AuthRecordDAO {
     // =======================================================================
 
     @Override
-    public void revokeByAuthHash(String authHash) throws SQLException {
+    public boolean revokeByAuthHash(String authHash) throws SQLException {
         String sql = """
                     UPDATE auth_tokens
                     SET status = 'REVOKED',
@@ -164,15 +172,202 @@ public class AuthRecordDAOImpl implements AuthRecordDAO {
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
             ps.setString(2, authHash);
+            return ps.executeUpdate() > 0;
+        }
+    }
+
+    // =======================================================================
+    // REVOKE OTHER TOKENS OF A USER
+    // =======================================================================
+
+    @Override
+    public void revokeOthersByUserId(Long userId, Long keepId) throws SQLException {
+        String sql = """
+                    UPDATE auth_tokens
+                    SET status = 'REVOKED',
+                        revoked_at = ?,
+                        revoked_reason = 'revoked_by_system'
+                    WHERE user_id = ?
+                      AND id <> ?
+                      AND status = 'ACTIVE'
+                """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setLong(2, userId);
+            ps.setLong(3, keepId);
             ps.executeUpdate();
         }
     }
 
+    // =======================================================================
+    // ROTATE TOKEN HASH
+    // =======================================================================
+
+    @Override
+    public boolean rotateAuthHash(String oldHash, String newHash,
+                                  String ipLast, String userAgent,
+                                  LocalDateTime rotatedAt) throws SQLException {
+        String sql = """
+                    UPDATE auth_tokens
+                    SET auth_hash = ?,
+                        last_rotated_at = ?,
+                        ip_last = ?,
+                        user_agent = ?
+                    WHERE auth_hash = ?
+                      AND status = 'ACTIVE'
+                      AND expired_at > ?
+                """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, newHash);
+            ps.setTimestamp(2, Timestamp.valueOf(rotatedAt));
+            ps.setString(3, ipLast);
+            ps.setString(4, userAgent);
+            ps.setString(5, oldHash);
+            ps.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now()));
+            return ps.executeUpdate() == 1;
+        }
+    }
+
+    // =======================================================================
+    // BATCH METADATA UPDATE (write-behind)
+    // =======================================================================
+
+    @Override
+    public int updateMetadataBatch(List<AuthMetadata> updates) throws SQLException {
+        if (updates.isEmpty())
+            return 0;
+
+        String sql = """
+                    UPDATE auth_tokens
+                    SET ip_last = ?,
+                        user_agent = ?,
+                        last_rotated_at = ?
+                    WHERE id = ?
+                      AND (last_rotated_at IS NULL OR last_rotated_at <= ?)
+                """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (AuthMetadata update : updates) {
+                Timestamp rotatedAt = Timestamp.valueOf(update.lastRotatedAt());
+                ps.setString(1, update.ipLast());
+                ps.setString(2, update.userAgent());
+                ps.setTimestamp(3, rotatedAt);
+                ps.setLong(4, update.recordId());
+                ps.setTimestamp(5, rotatedAt);
+                ps.addBatch();
+            }
+
+            int written = 0;
+            for (int count : ps.executeBatch()) {
+                // SUCCESS_NO_INFO (-2): driver could not tell, count it as written
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO)
+                    written++;
+            }
+            return written;
+        }
+    }
+
+    // =======================================================================
+    // REAPER (keyset chunks)
+    // =======================================================================
+
+    @Override
+    public Long findReapUpperBound(long afterId, LocalDateTime cutoff, int limit) throws SQLException {
+        String sql = "SELECT MAX(id) FROM (SELECT id FROM auth_tokens WHERE id > ? AND " + REAPABLE
+                + " ORDER BY id LIMIT ?) chunk";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            Timestamp ts = Timestamp.valueOf(cutoff);
+            ps.setLong(1, afterId);
+            ps.setTimestamp(2, ts);
+            ps.setTimestamp(3, ts);
+            ps.setInt(4, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return null;
+                long max = rs.getLong(1);
+                return rs.wasNull() ? null : max;
+            }
+        }
+    }
+
+    @Override
+    public int archiveReapable(long afterId, long upToId, LocalDateTime cutoff) throws SQLException {
+        String sql = """
+                    INSERT INTO auth_tokens_archive (
+                        id, user_id, auth_hash, device_id, status,
+                        expired_at, last_rotated_at, ip_last, user_agent,
+                        created_at, revoked_at, revoked_reason
+                    )
+                    SELECT id, user_id, auth_hash, device_id, status,
+                           expired_at, last_rotated_at, ip_last, user_agent,
+                           created_at, revoked_at, revoked_reason
+                    FROM auth_tokens
+                    WHERE id > ? AND id <= ? AND
+                """ + REAPABLE;
+
+        return executeRange(sql, afterId, upToId, cutoff);
+    }
+
+    @Override
+    public int deleteReapable(long afterId, long upToId, LocalDateTime cutoff) throws SQLException {
+        String sql = "DELETE FROM auth_tokens WHERE id > ? AND id <= ? AND " + REAPABLE;
+        return executeRange(sql, afterId, upToId, cutoff);
+    }
+
+    private int executeRange(String sql, long afterId, long upToId, LocalDateTime cutoff) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            Timestamp ts = Timestamp.valueOf(cutoff);
+            ps.setLong(1, afterId);
+            ps.setLong(2, upToId);
+            ps.setTimestamp(3, ts);
+            ps.setTimestamp(4, ts);
+            return ps.executeUpdate();
+        }
+    }
+
+    // =======================================================================
+    // REVOCATION WATERMARKS (signed tokens)
+    // =======================================================================
+
+    @Override
+    public Map<Long, Long> findRevocationWatermarks(LocalDateTime changedSince) throws SQLException {
+        String sql = """
+                    SELECT t.user_id,
+                           MAX(t.id) AS max_id,
+                           MIN(CASE WHEN t.status = 'ACTIVE' AND t.expired_at > ? THEN t.id END) AS active_id
+                    FROM (
+                        SELECT user_id FROM auth_tokens WHERE created_at >= ?
+                        UNION
+                        SELECT user_id FROM auth_tokens WHERE revoked_at >= ?
+                    ) changed
+                    JOIN auth_tokens t ON t.user_id = changed.user_id
+                    GROUP BY t.user_id
+                """;
+
+        Map<Long, Long> watermarks = new HashMap<>();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            Timestamp since = Timestamp.valueOf(changedSince);
+            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setTimestamp(2, since);
+            ps.setTimestamp(3, since);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long activeId = rs.getLong("active_id");
+                    long lowest = rs.wasNull() ? rs.getLong("max_id") + 1 : activeId;
+                    watermarks.put(rs.getLong("user_id"), lowest);
+                }
+            }
+        }
+        return watermarks;
+    }
+
     // =======================================================================
     // ROW MAPPER
     // =======================================================================
 
-    private AuthRecord rowMapper(ResultSet rs) throws SQLException {
+    static AuthRecord rowMapper(ResultSet rs) throws SQLException {
         AuthRecord t = new AuthRecord();
 
         t.setId(rs.getLong("id"));
@@ -1,7 +1,7 @@
 package com.laptrinhweb.zerostarcafe.domain.auth.record;
 
 import com.laptrinhweb.zerostarcafe.core.exception.AppException;
-import com.laptrinhweb.zerostarcafe.core.security.TokenUtil;
+import com.laptrinhweb.zerostarcafe.core.security.SignedToken;
 import com.laptrinhweb.zerostarcafe.domain.auth.dto.RequestInfoDTO;
 import lombok.NonNull;
 
@@ -15,6 +15,9 @@ import java.util.Optional;
  * <p>
  * Manages authentication record storage in the database.
  * Supports creating, updating, validating, and revoking auth records.
+ * Raw tokens are mapped to {@code auth_hash} with
+ * {@link SignedToken#recordHash(String)}, so opaque and signed tokens share
+ * the same storage.
  * </p>
  *
  * <h2>Example Usage:</h2>
@@ -26,8 +29,8 @@ import java.util.Optional;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.2
- * @lastModified 13/12/2025
+ * @version 1.3.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class AuthRecordService {
@@ -59,43 +62,61 @@ public final class AuthRecordService {
     }
 
     /**
-     * Update an auth record using the previous token value.
+     * Rotate an auth record to a new token value.
+     * <p>
+     * The hash change is written synchronously in one statement, together
+     * with the rotation metadata of the same row; no lookup is needed.
+     * </p>
      *
      * @param reqInfo  the request information
      * @param newToken the new raw token value
      * @param oldToken the previous raw token value to find the record
+     * @return true if an active record was rotated
      */
-    public void updateByToken(
+    public boolean updateByToken(
             @NonNull RequestInfoDTO reqInfo,
             @NonNull String newToken,
             @NonNull String oldToken
     ) {
-        String oldHash = TokenUtil.hashToken(oldToken);
+        String oldHash = SignedToken.recordHash(oldToken);
+        String newHash = SignedToken.recordHash(newToken);
 
         try {
-            // Find the record to update
-            Optional<AuthRecord> recordOpt = recordDAO.findValidByAuthHash(oldHash);
-            if (recordOpt.isEmpty())
-                return;
-
-            AuthRecord record = recordOpt.get();
-
-            // Generate token hash from the new token in context
-            String newHash = TokenUtil.hashToken(newToken);
-
-            // Update record with new metadata
-            record.setAuthHash(newHash);
-            record.setIpLast(reqInfo.getIpAddress());
-            record.setUserAgent(reqInfo.getUserAgent());
-            record.setLastRotatedAt(LocalDateTime.now());
-
-            // Save the updated record
-            recordDAO.save(record);
+            return recordDAO.rotateAuthHash(
+                    oldHash, newHash,
+                    reqInfo.getIpAddress(), reqInfo.getUserAgent(),
+                    LocalDateTime.now());
         } catch (SQLException e) {
             throw new AppException("Fail to update Auth Record by token=" + oldToken, e);
         }
     }
 
+    /**
+     * Replace the active record of {@code oldToken} with a new record.
+     * <p>
+     * Used to rotate signed tokens: the new token names a new record id, so
+     * the rotated-away token is revoked by id and not only by hash. Run it
+     * inside a transaction so the revoke and the insert commit together.
+     * </p>
+     *
+     * @param oldToken  the previous raw token value
+     * @param newRecord the record of the new token
+     * @return the persisted record, or {@code null} if the old record was
+     * no longer active (revoked meanwhile)
+     */
+    public AuthRecord replaceByToken(
+            @NonNull String oldToken,
+            @NonNull AuthRecord newRecord
+    ) {
+        try {
+            if (!recordDAO.revokeByAuthHash(SignedToken.recordHash(oldToken)))
+                return null;
+            return recordDAO.save(newRecord);
+        } catch (SQLException e) {
+            throw new AppException("Fail to replace Auth Record of token=" + oldToken, e);
+        }
+    }
+
     /**
      * Revoke all active auth records belonging to the given user.
      *
@@ -109,6 +130,21 @@ public final class AuthRecordService {
         }
     }
 
+    /**
+     * Revoke every active auth record of the user except the given one,
+     * keeping a single live session per user.
+     *
+     * @param userId the user ID
+     * @param keepId the record that stays active
+     */
+    public void revokeOthers(@NonNull Long userId, @NonNull Long keepId) {
+        try {
+            recordDAO.revokeOthersByUserId(userId, keepId);
+        } catch (SQLException e) {
+            throw new AppException("Fail to revoke other Auth Records of UserId=" + userId, e);
+        }
+    }
+
     /**
      * Revoke a record using a raw token from the client.
      *
@@ -118,12 +154,19 @@ public final class AuthRecordService {
         if (rawToken == null || rawToken.isBlank())
             return;
 
-        String hash = TokenUtil.hashToken(rawToken);
+        revokeByHash(SignedToken.recordHash(rawToken));
+    }
 
+    /**
+     * Revoke a record by its already computed token hash.
+     *
+     * @param authHash the token hash
+     */
+    public void revokeByHash(String authHash) {
         try {
-            recordDAO.revokeByAuthHash(hash);
+            recordDAO.revokeByAuthHash(authHash);
         } catch (SQLException e) {
-            throw new AppException("Fail to revoke Auth Record by token=" + rawToken, e);
+            throw new AppException("Fail to revoke Auth Record by hash=" + authHash, e);
         }
     }
 
@@ -137,7 +180,7 @@ public final class AuthRecordService {
         if (rawToken == null || rawToken.isBlank())
             return Optional.empty();
 
-        String hash = TokenUtil.hashToken(rawToken);
+        String hash = SignedToken.recordHash(rawToken);
 
         try {
             return recordDAO.findValidByAuthHash(hash);
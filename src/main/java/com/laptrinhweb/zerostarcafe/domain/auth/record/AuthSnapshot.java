@@ -0,0 +1,44 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.record;
+
+import com.laptrinhweb.zerostarcafe.core.security.SecurityKeys;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthContext;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthSession;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthToken;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthUser;
+
+import java.util.List;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Everything a session restore needs, loaded by {@link AuthLoader} in one
+ * round trip: the active token record and the principal of its (active) user.
+ * </p>
+ *
+ * @param record the valid {@code auth_tokens} row
+ * @param user   the owning user with all store roles
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public record AuthSnapshot(AuthRecord record, AuthUser user) {
+
+    /**
+     * Builds the {@link AuthContext} for the raw tokens the client presented.
+     *
+     * @param rawAuthToken raw auth token (cookie value)
+     * @param rawDeviceId  raw device id (cookie value)
+     * @return a context expiring with the record
+     */
+    public AuthContext toContext(String rawAuthToken, String rawDeviceId) {
+        return new AuthContext(
+                user,
+                new AuthSession(record.getExpiredAt()),
+                List.of(
+                        new AuthToken(SecurityKeys.TOKEN_AUTH, rawAuthToken, record.getExpiredAt()),
+                        new AuthToken(SecurityKeys.TOKEN_DEVICE_ID, rawDeviceId, record.getExpiredAt())
+                )
+        );
+    }
+}
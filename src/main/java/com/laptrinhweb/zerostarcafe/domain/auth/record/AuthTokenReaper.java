@@ -0,0 +1,227 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.record;
+
+import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Background reaper for {@code auth_tokens}. Tokens that expired, or were
+ * revoked, longer ago than the retention window are moved to
+ * {@code auth_tokens_archive} ({@code auth.reaper.mode=archive}) or simply
+ * deleted ({@code mode=delete}), so logins, revocations and lookups keep
+ * working on a table of live tokens.
+ * </p>
+ * <p>
+ * Each run walks the primary key in keyset order. Every chunk is its own
+ * short transaction over an id range, followed by a pause, so the reaper
+ * never holds locks for long. Only one run is active at a time; it stops
+ * between chunks on shutdown. Counters are published as
+ * {@code auth.reaper} metrics, and {@code POST /admin/auth-tokens/reap}
+ * triggers a run by hand.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * AuthTokenReaper.start();     // on startup
+ * AuthTokenReaper.triggerNow(); // admin
+ * AuthTokenReaper.shutdown();  // before the pool closes
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class AuthTokenReaper {
+
+    private static final long INTERVAL_MS = AppConfig.getLong("auth.reaper.intervalMs", 3_600_000);
+    private static final int RETENTION_DAYS = Math.max(0, AppConfig.getInt("auth.reaper.retentionDays", 30));
+    private static final int CHUNK_SIZE = Math.max(1, AppConfig.getInt("auth.reaper.chunkSize", 500));
+    private static final long PAUSE_MS = Math.max(0, AppConfig.getLong("auth.reaper.pauseMs", 200));
+    private static final boolean ARCHIVE = !"delete".equalsIgnoreCase(AppConfig.get("auth.reaper.mode", "archive"));
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "auth-token-reaper");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final AtomicBoolean RUNNING = new AtomicBoolean();
+    private static volatile boolean stopping;
+
+    // Metrics
+    private static final AtomicLong RUNS = new AtomicLong();
+    private static final AtomicLong CHUNKS = new AtomicLong();
+    private static final AtomicLong ARCHIVED = new AtomicLong();
+    private static final AtomicLong DELETED = new AtomicLong();
+    private static final AtomicLong FAILURES = new AtomicLong();
+    private static volatile long lastRunMs = -1;
+    private static volatile long lastRunRows;
+    private static volatile String lastRunAt = "";
+
+    static {
+        MetricsRegistry.register("auth.reaper", AuthTokenReaper::metrics);
+    }
+
+    private AuthTokenReaper() {
+    }
+
+    // ==========================================================
+    // PUBLIC API
+    // ==========================================================
+
+    /**
+     * Schedules periodic runs; {@code auth.reaper.intervalMs <= 0} disables them.
+     */
+    public static void start() {
+        if (INTERVAL_MS <= 0)
+            return;
+
+        SCHEDULER.scheduleWithFixedDelay(AuthTokenReaper::runQuietly,
+                INTERVAL_MS, INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts a run in the background unless one is already going.
+     *
+     * @return {@code false} if a run is already in progress or the reaper stopped
+     */
+    public static boolean triggerNow() {
+        if (RUNNING.get() || stopping)
+            return false;
+
+        try {
+            SCHEDULER.execute(AuthTokenReaper::runQuietly);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reaps all tokens past the retention window, chunk by chunk.
+     *
+     * @return number of rows removed from {@code auth_tokens}, or -1 if a run
+     * is already in progress
+     * @throws SQLException if a chunk fails; earlier chunks stay committed
+     */
+    public static long runOnce() throws SQLException {
+        if (!RUNNING.compareAndSet(false, true))
+            return -1;
+
+        long started = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        long removed = 0;
+
+        try {
+            long afterId = 0;
+            while (!stopping) {
+                Chunk chunk = reapChunk(afterId, cutoff);
+                CHUNKS.incrementAndGet();
+                if (chunk == null)
+                    break;
+
+                ARCHIVED.addAndGet(chunk.archived());
+                DELETED.addAndGet(chunk.deleted());
+                removed += chunk.deleted();
+                afterId = chunk.upToId();
+
+                if (PAUSE_MS > 0)
+                    Thread.sleep(PAUSE_MS);
+            }
+            return removed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return removed;
+        } finally {
+            RUNS.incrementAndGet();
+            lastRunMs = System.currentTimeMillis() - started;
+            lastRunRows = removed;
+            lastRunAt = LocalDateTime.now().withNano(0).toString();
+            RUNNING.set(false);
+        }
+    }
+
+    /**
+     * Stops scheduling; a run in progress ends after its current chunk.
+     */
+    public static void shutdown() {
+        stopping = true;
+        SCHEDULER.shutdown();
+        try {
+            if (!SCHEDULER.awaitTermination(5, TimeUnit.SECONDS))
+                SCHEDULER.shutdownNow();
+        } catch (InterruptedException e) {
+            SCHEDULER.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private static void runQuietly() {
+        try {
+            long removed = runOnce();
+            if (removed > 0)
+                LoggerUtil.info(AuthTokenReaper.class, "Reaped auth tokens: " + removed);
+        } catch (SQLException | RuntimeException e) {
+            FAILURES.incrementAndGet();
+            LoggerUtil.error(AuthTokenReaper.class, "Auth token reaping failed", e);
+        }
+    }
+
+    /**
+     * Moves one keyset chunk in its own short transaction.
+     *
+     * @return the chunk, or {@code null} if nothing after {@code afterId} is reapable
+     */
+    private static Chunk reapChunk(long afterId, LocalDateTime cutoff) throws SQLException {
+        return DBConnection.inTransaction(conn -> {
+            AuthRecordDAO dao = new AuthRecordDAOImpl(conn);
+            Long upTo = dao.findReapUpperBound(afterId, cutoff, CHUNK_SIZE);
+            if (upTo == null)
+                return null;
+
+            int archived = ARCHIVE ? dao.archiveReapable(afterId, upTo, cutoff) : 0;
+            int deleted = dao.deleteReapable(afterId, upTo, cutoff);
+            return new Chunk(upTo, archived, deleted);
+        });
+    }
+
+    private record Chunk(long upToId, int archived, int deleted) {
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("mode", ARCHIVE ? "archive" : "delete");
+        m.put("retentionDays", RETENTION_DAYS);
+        m.put("running", RUNNING.get());
+        m.put("runs", RUNS.get());
+        m.put("chunks", CHUNKS.get());
+        m.put("archived", ARCHIVED.get());
+        m.put("deleted", DELETED.get());
+        m.put("failures", FAILURES.get());
+        m.put("lastRunMs", lastRunMs);
+        m.put("lastRunRows", lastRunRows);
+        m.put("lastRunAt", lastRunAt);
+        return m;
+    }
+}
@@ -1,6 +1,7 @@
 package com.laptrinhweb.zerostarcafe.domain.auth.service;
 
 import com.laptrinhweb.zerostarcafe.core.security.SecurityKeys;
+import com.laptrinhweb.zerostarcafe.core.security.SignedToken;
 import com.laptrinhweb.zerostarcafe.domain.auth.dto.RequestInfoDTO;
 import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthContext;
 import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthResult;
@@ -25,8 +26,8 @@ import java.util.Map;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 07/12/2025
+ * @version 1.3.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 
@@ -79,21 +80,16 @@ public final class AuthReqService {
             Map<String, String> reqTokens
     ) {
         String authToken = context.getTokenValue(SecurityKeys.TOKEN_AUTH);
-        boolean isValid = authService.reAuthenticate(context, reqInfo, reqTokens);
-        if (!isValid) {
-            authService.clearAuthState(authToken);
-            return AuthResult.fail(AuthStatus.SESSION_INVALID);
-        }
-
-        String reAuthToken = context.getTokenValue(SecurityKeys.TOKEN_AUTH);
-        boolean rotated = authToken != null
-                && reAuthToken != null
-                && !authToken.equals(reAuthToken);
-
-        if (rotated)
-            return AuthResult.ok(AuthStatus.SESSION_ROTATED, context);
-
-        return AuthResult.ok(AuthStatus.SESSION_REUSED);
+        AuthStatus status = authService.reAuthenticate(context, reqInfo, reqTokens);
+
+        return switch (status) {
+            case SESSION_ROTATED -> AuthResult.ok(AuthStatus.SESSION_ROTATED, context);
+            case SESSION_REUSED -> AuthResult.ok(AuthStatus.SESSION_REUSED);
+            default -> {
+                authService.clearAuthState(authToken);
+                yield AuthResult.fail(AuthStatus.SESSION_INVALID);
+            }
+        };
     }
 
     /**
@@ -101,19 +97,28 @@ public final class AuthReqService {
      *
      * @param reqInfo   request information
      * @param reqTokens token map from cookies
-     * @return auth result with status and restored context if valid
+     * @return auth result with status and restored context if valid;
+     * {@code SESSION_THROTTLED} leaves the cookies alone
      */
     private AuthResult<AuthStatus, AuthContext> restoreFlow(
             RequestInfoDTO reqInfo,
             Map<String, String> reqTokens
     ) {
-        AuthContext restored = authService.restore(reqInfo, reqTokens);
+        // Signed mode validates signed tokens in memory; opaque ones still go to the database
+        String rawAuthToken = reqTokens.get(SecurityKeys.TOKEN_AUTH);
+        boolean inMemory = SignedToken.isEnabled() && SignedToken.isSigned(rawAuthToken);
+
+        // Restore revokes what needs revoking itself; no second hash + UPDATE here
+        AuthResult<AuthStatus, AuthContext> result = inMemory
+                ? authService.restoreSigned(reqInfo, reqTokens)
+                : authService.restore(reqInfo, reqTokens);
 
-        if (restored != null && restored.isValid())
-            return AuthResult.ok(AuthStatus.SESSION_RESTORED, restored);
+        AuthContext restored = result.getData();
+        if (result.isSuccess() && restored != null && restored.isValid())
+            return result;
 
-        String rawToken = reqTokens.get(SecurityKeys.TOKEN_AUTH);
-        authService.clearAuthState(rawToken);
+        if (result.getStatus() == AuthStatus.SESSION_THROTTLED)
+            return result;
 
         return AuthResult.fail(AuthStatus.SESSION_INVALID);
     }
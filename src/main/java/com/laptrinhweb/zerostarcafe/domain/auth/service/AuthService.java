@@ -2,27 +2,33 @@ package com.laptrinhweb.zerostarcafe.domain.auth.service;
 
 import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
 import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import com.laptrinhweb.zerostarcafe.core.exception.OverloadedException;
+import com.laptrinhweb.zerostarcafe.core.security.PasswordHashExecutor;
 import com.laptrinhweb.zerostarcafe.core.security.PasswordUtil;
 import com.laptrinhweb.zerostarcafe.core.security.SecurityKeys;
+import com.laptrinhweb.zerostarcafe.core.security.SignedToken;
 import com.laptrinhweb.zerostarcafe.core.security.TokenUtil;
 import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
 import com.laptrinhweb.zerostarcafe.domain.auth.dto.LoginDTO;
 import com.laptrinhweb.zerostarcafe.domain.auth.dto.RegisterDTO;
 import com.laptrinhweb.zerostarcafe.domain.auth.dto.RequestInfoDTO;
 import com.laptrinhweb.zerostarcafe.domain.auth.model.*;
+import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthLoader;
+import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthMetadataWriter;
 import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthRecord;
 import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthRecordService;
+import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthSnapshot;
 import com.laptrinhweb.zerostarcafe.domain.user.model.User;
-import com.laptrinhweb.zerostarcafe.domain.user.model.UserMapper;
 import com.laptrinhweb.zerostarcafe.domain.user.model.UserRole;
 import com.laptrinhweb.zerostarcafe.domain.user.service.UserService;
-import com.laptrinhweb.zerostarcafe.domain.user_role.UserStoreRole;
 import lombok.NonNull;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -53,8 +59,8 @@ import java.util.Optional;
  * }</pre>
  *
  * @author Dang Van Trung
- * @version 1.2.2
- * @lastModified 14/12/2025
+ * @version 1.16.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class AuthService {
@@ -64,37 +70,46 @@ public final class AuthService {
      *
      * @param dto registration input
      * @return AuthResult indicating success or failure
+     * ({@link AuthStatus#SERVER_BUSY} when the hashing pool is saturated)
      */
     public AuthResult<AuthStatus, Void> register(@NonNull RegisterDTO dto) {
-        try (Connection conn = DBConnection.getConnection()) {
-            UserService userService = new UserService(conn);
-
-            String email = normalize(dto.getEmail());
-            String username = normalize(dto.getUsername());
+        String email = normalize(dto.getEmail());
+        String username = normalize(dto.getUsername());
 
+        try {
             // Check duplicate
-            if (userService.existsByEmail(email))
-                return AuthResult.fail(AuthStatus.EMAIL_EXISTS);
+            try (Connection conn = DBConnection.getConnection()) {
+                UserService userService = new UserService(conn);
 
-            if (userService.existsByUsername(username))
-                return AuthResult.fail(AuthStatus.USERNAME_EXISTS);
+                if (userService.existsByEmail(email))
+                    return AuthResult.fail(AuthStatus.EMAIL_EXISTS);
+
+                if (userService.existsByUsername(username))
+                    return AuthResult.fail(AuthStatus.USERNAME_EXISTS);
+            }
 
             // Create a new user
             User newUser = new User();
             newUser.setEmail(email);
             newUser.setUsername(username);
 
-            // Hash password securely (Argon2)
-            String hashedPassword = PasswordUtil.hash(dto.getPassword());
+            // Hash password securely (Argon2, on the bounded hashing pool);
+            // the request's connection goes back to the pool while it waits
+            String hashedPassword = PasswordHashExecutor.hash(dto.getPassword());
             newUser.setPasswordHash(hashedPassword);
 
             // Persist user to the database
-            userService.save(newUser);
+            try (Connection conn = DBConnection.getConnection()) {
+                new UserService(conn).save(newUser);
+            }
 
             LoggerUtil.info(AuthService.class,
                     "New User Registered: " + newUser.getUsername());
             return AuthResult.ok(AuthStatus.REGISTER_SUCCESS);
 
+        } catch (OverloadedException e) {
+            LoggerUtil.warn(AuthService.class, "Register shed: " + e.getMessage());
+            return AuthResult.fail(AuthStatus.SERVER_BUSY);
         } catch (AppException | SQLException e) {
             LoggerUtil.error(AuthService.class, e.getMessage(), e);
             return AuthResult.fail(AuthStatus.REGISTER_FAILED);
@@ -107,16 +122,15 @@ public final class AuthService {
      * @param form    login input
      * @param reqInfo request metadata (ip, agent, device-id)
      * @return AuthResult with AuthContext or failure status
+     * ({@link AuthStatus#SERVER_BUSY} when the hashing pool is saturated)
      */
     public AuthResult<AuthStatus, AuthContext> authenticate(
             @NonNull LoginDTO form,
             @NonNull RequestInfoDTO reqInfo
     ) {
-        try (Connection conn = DBConnection.getConnection()) {
-            AuthRecordService recordService = new AuthRecordService(conn);
-
+        try {
             // Verify credential (username and password)
-            AuthUser authUser = verifyCredential(conn, form);
+            AuthUser authUser = verifyCredential(form);
             if (authUser == null)
                 return AuthResult.fail(AuthStatus.INVALID_CREDENTIALS);
 
@@ -124,30 +138,15 @@ public final class AuthService {
             LocalDateTime expiredAt = resolveExpiredAt(authUser);
             AuthSession sessionInfo = new AuthSession(expiredAt);
 
-            // Create auth tokens (auth token + device id)
-            List<AuthToken> tokens = new ArrayList<>();
-
-            AuthToken authToken = new AuthToken(
-                    SecurityKeys.TOKEN_AUTH,
-                    TokenUtil.generateToken(),
-                    sessionInfo.getExpiredAt()
-            );
-            tokens.add(authToken);
-
+            // Random token part (the whole token in opaque mode) + device id
+            String nonce = TokenUtil.generateToken();
             String deviceId = reqInfo.getCookieValue(SecurityKeys.TOKEN_DEVICE_ID);
-            AuthToken deviceToken = new AuthToken(
-                    SecurityKeys.TOKEN_DEVICE_ID,
-                    deviceId != null ? deviceId : TokenUtil.generateToken(),
-                    sessionInfo.getExpiredAt()
-            );
-            tokens.add(deviceToken);
-
-            // Create auth context
-            AuthContext context = new AuthContext(authUser, sessionInfo, tokens);
+            if (deviceId == null)
+                deviceId = TokenUtil.generateToken();
 
             // Save new auth record
-            String authHash = TokenUtil.hashToken(authToken.getValue());
-            String deviceIdHash = TokenUtil.hashToken(deviceToken.getValue());
+            String authHash = TokenUtil.hashToken(nonce);
+            String deviceIdHash = TokenUtil.hashToken(deviceId);
 
             AuthRecord record = new AuthRecord();
             record.setUserId(authUser.getId());
@@ -160,12 +159,32 @@ public final class AuthService {
             record.setIpLast(reqInfo.getIpAddress());
             record.setUserAgent(reqInfo.getUserAgent());
 
-            record = recordService.save(authUser.getId(), record);
+            // Revoke old records + insert the new one, committed once
+            AuthRecord saved = DBConnection.inTransaction(conn ->
+                    new AuthRecordService(conn).save(authUser.getId(), record));
+            RestoreCoalescer.forgetUser(authUser.getId());
+
+            // Signed mode: the token names its record; older records are revoked in memory too
+            String authValue = nonce;
+            if (SignedToken.isEnabled()) {
+                authValue = SignedToken.issue(nonce, new SignedToken.Claims(
+                        authUser.getId(), saved.getId(), deviceIdHash, toEpochSecond(expiredAt)));
+                RevocationList.revokeBelow(authUser.getId(), saved.getId());
+            }
+
+            // Create auth tokens (auth token + device id) and context
+            List<AuthToken> tokens = new ArrayList<>();
+            tokens.add(new AuthToken(SecurityKeys.TOKEN_AUTH, authValue, sessionInfo.getExpiredAt()));
+            tokens.add(new AuthToken(SecurityKeys.TOKEN_DEVICE_ID, deviceId, sessionInfo.getExpiredAt()));
+            AuthContext context = new AuthContext(authUser, sessionInfo, tokens);
 
             LoggerUtil.info(AuthService.class,
-                    "New Login Record: \n" + record.toString());
+                    "New Login Record: \n" + saved.toString());
             return AuthResult.ok(AuthStatus.LOGIN_SUCCESS, context);
 
+        } catch (OverloadedException e) {
+            LoggerUtil.warn(AuthService.class, "Login shed: " + e.getMessage());
+            return AuthResult.fail(AuthStatus.SERVER_BUSY);
         } catch (AppException | SQLException e) {
             LoggerUtil.error(AuthService.class, e.getMessage(), e);
             return AuthResult.fail(AuthStatus.LOGIN_FAILED);
@@ -174,13 +193,22 @@ public final class AuthService {
 
     /**
      * Re-validates an existing context and rotates tokens if required.
+     * <p>
+     * Rotation is single-flight per session ({@link RotationGate}): of the
+     * concurrent requests that find the rotation window passed, one writes
+     * the new token and the others reuse the session as it is. A request
+     * still carrying the token that was just rotated away is accepted for
+     * a short grace period.
+     * </p>
      *
      * @param context   current authentication context
      * @param reqInfo   request metadata
      * @param reqTokens tokens extracted from client cookies
-     * @return true if the context is still valid after re-validation, false otherwise
+     * @return {@code SESSION_ROTATED} if this request rotated the token,
+     * {@code SESSION_REUSED} if the context is valid as it is,
+     * {@code SESSION_INVALID} otherwise
      */
-    public boolean reAuthenticate(
+    public AuthStatus reAuthenticate(
             @NonNull AuthContext context,
             @NonNull RequestInfoDTO reqInfo,
             @NonNull Map<String, String> reqTokens
@@ -189,118 +217,262 @@ public final class AuthService {
 
         // Validate tokens against server tokens
         if (!isValidTokens(reqTokens, tokens))
-            return false;
+            return AuthStatus.SESSION_INVALID;
 
         // Check session rotation
         AuthSession session = context.getSessionInfo();
         if (!session.shouldRotate())
-            return true;
+            return AuthStatus.SESSION_REUSED;
+
+        return RotationGate.rotateOnce(session, () -> rotate(context, reqInfo));
+    }
+
+    /**
+     * Writes a new auth token for the context; runs under the session's
+     * rotation lock.
+     */
+    private AuthStatus rotate(AuthContext context, RequestInfoDTO reqInfo) {
+        AuthSession session = context.getSessionInfo();
 
-        // Rotation if needed
         String oldToken = context.getTokenValue(SecurityKeys.TOKEN_AUTH);
         if (oldToken == null || oldToken.isBlank())
-            return false;
+            return AuthStatus.SESSION_INVALID;
+
+        String newToken;
+        Optional<SignedToken.Claims> claims = SignedToken.verify(oldToken);
+        try {
+            if (claims.isPresent()) {
+                // Signed: new record id, so the old token is revoked in memory too
+                newToken = rotateSigned(claims.get(), oldToken, session, reqInfo);
+                if (newToken == null)
+                    return AuthStatus.SESSION_INVALID;
+            } else {
+                // Opaque: one statement, hash and rotation metadata together
+                newToken = TokenUtil.generateToken();
+                try (Connection conn = DBConnection.getConnection()) {
+                    if (!new AuthRecordService(conn).updateByToken(reqInfo, newToken, oldToken))
+                        return AuthStatus.SESSION_INVALID; // record revoked or expired meanwhile
+                }
+            }
+        } catch (Exception e) {
+            LoggerUtil.error(AuthService.class, e.getMessage(), e);
+            return AuthStatus.SESSION_INVALID;
+        }
 
-        // Generate new token
-        String newToken = TokenUtil.generateToken();
-        AuthToken newAuthToken = new AuthToken(
-                SecurityKeys.TOKEN_AUTH, newToken, session.getExpiredAt());
+        // The old token's shared restore must not outlive its record
+        RestoreCoalescer.forget(SignedToken.recordHash(oldToken));
 
         // Update auth context
         session.updateLastRotatedTime();
-        context.updateToken(newAuthToken);
+        context.updateToken(new AuthToken(
+                SecurityKeys.TOKEN_AUTH, newToken, session.getExpiredAt()));
+        RotationGate.rememberRotation(oldToken, newToken);
 
-        // Update auth record
-        try (Connection conn = DBConnection.getConnection()) {
-            AuthRecordService recordService = new AuthRecordService(conn);
-            recordService.updateByToken(reqInfo, newToken, oldToken);
-            return true;
-        } catch (Exception e) {
-            LoggerUtil.error(AuthService.class, e.getMessage(), e);
-            return false;
-        }
+        return AuthStatus.SESSION_ROTATED;
+    }
+
+    /**
+     * Rotates a signed token onto a new {@code auth_tokens} record. The
+     * signed restore path only checks record ids, so keeping the record id
+     * would leave the rotated-away token valid until it expires.
+     *
+     * @return the new token, or {@code null} if the old record is no longer active
+     */
+    private String rotateSigned(SignedToken.Claims claims, String oldToken,
+                                AuthSession session, RequestInfoDTO reqInfo) throws SQLException {
+        String nonce = TokenUtil.generateToken();
+
+        AuthRecord record = new AuthRecord();
+        record.setUserId(claims.userId());
+        record.setAuthHash(TokenUtil.hashToken(nonce));
+        record.setDeviceId(claims.deviceHash());
+        record.setStatus(TokenStatus.ACTIVE);
+        record.setCreatedAt(LocalDateTime.now());
+        record.setExpiredAt(session.getExpiredAt());
+        record.setLastRotatedAt(LocalDateTime.now());
+        record.setIpLast(reqInfo.getIpAddress());
+        record.setUserAgent(reqInfo.getUserAgent());
+
+        AuthRecord saved = DBConnection.inTransaction(conn ->
+                new AuthRecordService(conn).replaceByToken(oldToken, record));
+        if (saved == null)
+            return null;
+
+        RevocationList.revokeBelow(claims.userId(), saved.getId());
+        return SignedToken.issue(nonce, new SignedToken.Claims(
+                claims.userId(), saved.getId(), claims.deviceHash(), claims.expiresAt()));
     }
 
     /**
      * Restores authentication context from persisted AuthRecord.
+     * <p>
+     * The token is hashed once. Hashes that recently failed are rejected in
+     * memory, and each IP may only send a limited number of restores to the
+     * database per window ({@link RestoreGuard}). A token presented from the
+     * wrong device is revoked; unknown or expired tokens need no update.
+     * Last IP / user agent of a restored token are queued on
+     * {@link AuthMetadataWriter} instead of rewriting the row inline.
+     * Concurrent restores of the same token and device share one database
+     * restore ({@link RestoreCoalescer}); each caller gets its own context.
+     * A token rotated away within the grace period ({@link RotationGate})
+     * restores as the token it rotated into, so its hash is never looked up
+     * or marked invalid.
+     * </p>
      *
      * @param reqInfo   request metadata
      * @param reqTokens tokens from client cookies
-     * @return restored AuthContext or null if not restorable
+     * @return {@code SESSION_RESTORED} with the context, {@code SESSION_INVALID},
+     * or {@code SESSION_THROTTLED} when the IP is over its restore limit
      */
-    public AuthContext restore(
+    public AuthResult<AuthStatus, AuthContext> restore(
             @NonNull RequestInfoDTO reqInfo,
             @NonNull Map<String, String> reqTokens
     ) {
-        String rawAuthToken = reqTokens.get(SecurityKeys.TOKEN_AUTH);
+        String rawAuthToken = restorableAuthToken(reqTokens);
         String rawDeviceId = reqTokens.get(SecurityKeys.TOKEN_DEVICE_ID);
 
-        if (rawAuthToken == null || rawDeviceId == null)
-            return null;
+        if (rawAuthToken == null || rawAuthToken.isBlank() || rawDeviceId == null)
+            return AuthResult.fail(AuthStatus.SESSION_INVALID);
 
-        try (Connection conn = DBConnection.getConnection()) {
-            AuthRecordService recordService = new AuthRecordService(conn);
-            UserService userService = new UserService(conn);
+        String authHash = SignedToken.recordHash(rawAuthToken);
+        if (RestoreGuard.isKnownInvalid(authHash))
+            return AuthResult.fail(AuthStatus.SESSION_INVALID);
 
-            // Get the current auth record by token
-            Optional<AuthRecord> recordOpt = recordService.findValidByRawToken(rawAuthToken);
-            if (recordOpt.isEmpty())
-                return null;
+        String deviceIdHash = TokenUtil.hashToken(rawDeviceId);
+        return RestoreCoalescer.restoreOnce(authHash, deviceIdHash, () ->
+                restoreFromRecord(reqInfo, rawAuthToken, rawDeviceId, authHash, deviceIdHash));
+    }
 
-            AuthRecord record = recordOpt.get();
+    /**
+     * The database part of {@link #restore}; runs once per coalesced group.
+     */
+    private AuthResult<AuthStatus, AuthContext> restoreFromRecord(
+            RequestInfoDTO reqInfo,
+            String rawAuthToken,
+            String rawDeviceId,
+            String authHash,
+            String deviceIdHash
+    ) {
+        if (!RestoreGuard.tryAcquire(reqInfo.getIpAddress()))
+            return AuthResult.fail(AuthStatus.SESSION_THROTTLED);
+
+        try {
+            // Token record + active user + roles in one round trip
+            Optional<AuthSnapshot> snapshotOpt;
+            try (Connection conn = DBConnection.getConnection()) {
+                snapshotOpt = new AuthLoader(conn).loadByAuthHash(authHash);
+            }
+            if (snapshotOpt.isEmpty()) {
+                RestoreGuard.markInvalid(authHash);
+                return AuthResult.fail(AuthStatus.SESSION_INVALID);
+            }
+
+            AuthSnapshot snapshot = snapshotOpt.get();
+            AuthRecord record = snapshot.record();
 
             // Check if the auth session is expired
             LocalDateTime expiredAt = record.getExpiredAt();
-            if (expiredAt == null || LocalDateTime.now().isAfter(expiredAt))
-                return null;
-
-            // Check device ID match
-            String deviceIdHash = TokenUtil.hashToken(rawDeviceId);
-            if (!deviceIdHash.equals(record.getDeviceId()))
-                return null;
-
-            // Build auth context from record
+            if (expiredAt == null || LocalDateTime.now().isAfter(expiredAt)) {
+                RestoreGuard.markInvalid(authHash);
+                return AuthResult.fail(AuthStatus.SESSION_INVALID);
+            }
+
+            // Check device ID match; a token replayed elsewhere is revoked
+            if (!deviceIdHash.equals(record.getDeviceId())) {
+                RestoreGuard.markInvalid(authHash);
+                try (Connection conn = DBConnection.getConnection()) {
+                    new AuthRecordService(conn).revokeByHash(authHash);
+                }
+                RestoreCoalescer.forget(authHash);
+                return AuthResult.fail(AuthStatus.SESSION_INVALID);
+            }
+
+            // Build auth context straight from the snapshot
             Long userId = record.getUserId();
-            User user = userService.getActiveById(userId);
-            if (user == null)
-                return null;
+            AuthContext context = snapshot.toContext(rawAuthToken, rawDeviceId);
+            UserService.cachePrincipal(snapshot.user());
 
-            List<UserStoreRole> roles = userService.getRolesOf(user);
-            AuthUser authUser = UserMapper.toAuthUser(user, roles);
+            // Keep one live session per user; this row stays untouched
+            try (Connection conn = DBConnection.getConnection()) {
+                new AuthRecordService(conn).revokeOthers(userId, record.getId());
+            }
+            // Results shared for the user's other tokens are stale now; this one is shared afterwards
+            RestoreCoalescer.forgetUser(userId);
 
-            // Create auth session info
-            AuthSession sessionInfo = new AuthSession(expiredAt);
+            // Metadata and last rotated time are written behind, coalesced
+            AuthMetadataWriter.enqueue(record.getId(),
+                    reqInfo.getIpAddress(), reqInfo.getUserAgent(), LocalDateTime.now());
 
-            // Create auth tokens (auth token + device id)
-            List<AuthToken> tokens = new ArrayList<>();
-
-            AuthToken authToken = new AuthToken(
-                    SecurityKeys.TOKEN_AUTH,
-                    rawAuthToken,
-                    expiredAt
-            );
-            tokens.add(authToken);
-
-            AuthToken deviceToken = new AuthToken(
-                    SecurityKeys.TOKEN_DEVICE_ID,
-                    rawDeviceId,
-                    expiredAt
-            );
-            tokens.add(deviceToken);
-
-            // Create auth context
-            AuthContext context = new AuthContext(authUser, sessionInfo, tokens);
-
-            // Update record with new metadata and last rotated time
-            record.setIpLast(reqInfo.getIpAddress());
-            record.setUserAgent(reqInfo.getUserAgent());
-            record.setLastRotatedAt(LocalDateTime.now());
-            recordService.save(userId, record);
+            return AuthResult.ok(AuthStatus.SESSION_RESTORED, context);
+        } catch (Exception e) {
+            LoggerUtil.error(AuthService.class, e.getMessage(), e);
+            return AuthResult.fail(AuthStatus.SESSION_INVALID);
+        }
+    }
 
-            return context;
+    /**
+     * Restores a session from a signed auth token without reading
+     * {@code auth_tokens}: signature, expiry and device binding are checked
+     * in memory, revocation against {@link RevocationList}, and the principal
+     * comes from the principal cache (database only on a miss). Until the
+     * revocation list has synced once, this falls back to {@link #restore}.
+     * The nonce is not checked: rotation moves a token to a new record id,
+     * so a rotated-away token is caught by the record id as well.
+     *
+     * @param reqInfo   request metadata
+     * @param reqTokens tokens from client cookies
+     * @return {@code SESSION_RESTORED} with the context, or {@code SESSION_INVALID}
+     */
+    public AuthResult<AuthStatus, AuthContext> restoreSigned(
+            @NonNull RequestInfoDTO reqInfo,
+            @NonNull Map<String, String> reqTokens
+    ) {
+        String rawAuthToken = restorableAuthToken(reqTokens);
+        String rawDeviceId = reqTokens.get(SecurityKeys.TOKEN_DEVICE_ID);
+        if (rawDeviceId == null)
+            return AuthResult.fail(AuthStatus.SESSION_INVALID);
+
+        Optional<SignedToken.Claims> claimsOpt = SignedToken.verify(rawAuthToken);
+        if (claimsOpt.isEmpty())
+            return AuthResult.fail(AuthStatus.SESSION_INVALID);
+
+        if (!RevocationList.isReady())
+            return restore(reqInfo, reqTokens);
+
+        SignedToken.Claims claims = claimsOpt.get();
+        if (RevocationList.isRevoked(claims.userId(), claims.recordId()))
+            return AuthResult.fail(AuthStatus.SESSION_INVALID);
+
+        try {
+            // Check device ID match; a token replayed elsewhere is revoked
+            if (!TokenUtil.hashToken(rawDeviceId).equals(claims.deviceHash())) {
+                clearAuthState(rawAuthToken);
+                return AuthResult.fail(AuthStatus.SESSION_INVALID);
+            }
+
+            AuthUser principal = UserService.cachedPrincipal(claims.userId());
+            if (principal == null) {
+                try (Connection conn = DBConnection.getConnection()) {
+                    principal = new UserService(conn).getActivePrincipal(claims.userId());
+                }
+            }
+            if (principal == null)
+                return AuthResult.fail(AuthStatus.SESSION_INVALID);
+
+            LocalDateTime expiredAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochSecond(claims.expiresAt()), ZoneId.systemDefault());
+            AuthContext context = new AuthContext(principal, new AuthSession(expiredAt), List.of(
+                    new AuthToken(SecurityKeys.TOKEN_AUTH, rawAuthToken, expiredAt),
+                    new AuthToken(SecurityKeys.TOKEN_DEVICE_ID, rawDeviceId, expiredAt)
+            ));
+
+            AuthMetadataWriter.enqueue(claims.recordId(),
+                    reqInfo.getIpAddress(), reqInfo.getUserAgent(), LocalDateTime.now());
+
+            return AuthResult.ok(AuthStatus.SESSION_RESTORED, context);
         } catch (Exception e) {
             LoggerUtil.error(AuthService.class, e.getMessage(), e);
-            return null;
+            return AuthResult.fail(AuthStatus.SESSION_INVALID);
         }
     }
 
@@ -316,7 +488,13 @@ public final class AuthService {
             if (token == null || token.isBlank())
                 return;
 
-            recordService.revokeByRawToken(token);
+            String authHash = SignedToken.recordHash(token);
+            RestoreCoalescer.forget(authHash);
+            recordService.revokeByHash(authHash);
+
+            // Signed tokens would otherwise stay valid in memory
+            SignedToken.verify(token).ifPresent(c ->
+                    RevocationList.revokeBelow(c.userId(), c.recordId() + 1));
         } catch (Exception e) {
             LoggerUtil.error(AuthService.class, e.getMessage(), e);
         }
@@ -324,23 +502,64 @@ public final class AuthService {
 
     /**
      * Verifies user credentials and loads roles.
+     * <p>
+     * No connection is held while the password is verified: the lookup
+     * finishes first, {@link PasswordHashExecutor} returns the request's
+     * connection to the pool, and later writes borrow again.
+     * </p>
      *
      * @param dto login input
      * @return authenticated AuthUser or null if invalid
+     * @throws OverloadedException if the hashing pool rejects the verification
      */
-    public AuthUser verifyCredential(Connection conn, LoginDTO dto) {
-        UserService userService = new UserService(conn);
-
+    public AuthUser verifyCredential(LoginDTO dto) {
+        // User row + roles in one round trip
         String username = normalize(dto.getUsername());
-        User user = userService.getActiveByUsername(username);
-        if (user == null)
+        Optional<AuthLoader.Credential> credentialOpt;
+        try (Connection conn = DBConnection.getConnection()) {
+            credentialOpt = new AuthLoader(conn).loadCredential(username);
+        } catch (SQLException e) {
+            throw new AppException("Fail to load credential of user=" + username, e);
+        }
+        if (credentialOpt.isEmpty())
             return null;
 
-        if (!PasswordUtil.verify(dto.getPassword(), user.getPasswordHash()))
+        User user = credentialOpt.get().user();
+        if (!PasswordHashExecutor.verify(dto.getPassword(), user.getPasswordHash()))
             return null;
 
-        List<UserStoreRole> roles = userService.getRolesOf(user);
-        return UserMapper.toAuthUser(user, roles);
+        // Upgrade hashes weaker than the current cost while we hold the plaintext;
+        // in the background, the login does not wait for a second Argon2 run
+        if (PasswordUtil.needsRehash(user.getPasswordHash()))
+            rehashLater(user, dto.getPassword());
+
+        // Fresh rows: warm the principal cache for later restores
+        AuthUser authUser = credentialOpt.get().principal();
+        UserService.cachePrincipal(authUser);
+        return authUser;
+    }
+
+    /**
+     * Re-hashes a verified password with the current Argon2 parameters on
+     * the hashing pool, after the login has returned. Best effort: a busy
+     * pool or a failed update leaves the old hash, which still verifies and
+     * is retried on the next login.
+     */
+    private static void rehashLater(User user, String password) {
+        boolean queued = PasswordHashExecutor.tryRunInBackground(() -> {
+            try {
+                user.setPasswordHash(PasswordUtil.hash(password));
+                try (Connection conn = DBConnection.getConnection()) {
+                    new UserService(conn).save(user);
+                }
+                LoggerUtil.info(AuthService.class,
+                        "Password rehashed with " + PasswordUtil.params() + " for user=" + user.getUsername());
+            } catch (AppException | SQLException e) {
+                LoggerUtil.warn(AuthService.class, "Rehash failed for user=" + user.getUsername() + ": " + e.getMessage());
+            }
+        });
+        if (!queued)
+            LoggerUtil.debug(AuthService.class, "Rehash skipped, hashing pool busy");
     }
 
     /**
@@ -361,7 +580,10 @@ public final class AuthService {
             if (value == null)
                 return false;
 
-            if (!value.equals(serverToken.getValue()))
+            // An auth token rotated moments ago by a concurrent request is still accepted
+            if (!value.equals(serverToken.getValue())
+                    && !(SecurityKeys.TOKEN_AUTH.equals(name)
+                    && RotationGate.isGraceToken(value, serverToken.getValue())))
                 return false;
 
             if (serverToken.isExpired())
@@ -371,6 +593,20 @@ public final class AuthService {
         return true;
     }
 
+    /**
+     * @return the request's auth token, or the token it rotated into if it
+     * was rotated away within the grace period
+     */
+    private static String restorableAuthToken(Map<String, String> reqTokens) {
+        String token = reqTokens.get(SecurityKeys.TOKEN_AUTH);
+        String rotated = RotationGate.rotatedInto(token);
+        return rotated != null ? rotated : token;
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
     /**
      * Resolve the expiry time for the given user based on user role.
      *
@@ -0,0 +1,201 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.service;
+
+import com.laptrinhweb.zerostarcafe.core.cache.BoundedCache;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthContext;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthResult;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Coalesces concurrent session restores of the same token. After a restart
+ * a browser fires many parallel requests carrying the same auth cookie and
+ * no session; the first one runs the database restore, the others wait for
+ * its result instead of repeating it. A successful result stays shareable
+ * for a few seconds so requests arriving just after it do not restore again.
+ * </p>
+ * <p>
+ * Results are matched on the token hash together with the device hash, so
+ * a token presented from another device never joins a restore it would
+ * fail. Revoking the token drops its shared result ({@link #forget});
+ * revoking all or the other tokens of a user retires every result of that
+ * user shared before the revocation ({@link #forgetUser}).
+ * Every caller gets its own {@link AuthContext#copy() copy} of the context.
+ * Counters are published as {@code auth.restoreCoalescer} metrics.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * return RestoreCoalescer.restoreOnce(authHash, deviceHash,
+ *         () -> restoreFromDatabase(...));
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+final class RestoreCoalescer {
+
+    private static final long WAIT_MS = AppConfig.getLong("auth.restore.coalesce.waitMs", 3_000);
+
+    private static final ConcurrentHashMap<String, CompletableFuture<AuthResult<AuthStatus, AuthContext>>>
+            IN_FLIGHT = new ConcurrentHashMap<>();
+
+    // Token hash -> successful restore, reused by requests that arrive right after
+    private static final BoundedCache<String, Shared> RECENT = BoundedCache.create(
+            "auth.recentRestores",
+            AppConfig.getInt("auth.restore.coalesce.maxSize", 10_000),
+            AppConfig.getLong("auth.restore.coalesce.shareMs", 5_000)
+    );
+
+    // User id -> System.nanoTime() of the user's last bulk revocation
+    private static final BoundedCache<Long, Long> USER_REVOKED = BoundedCache.create(
+            "auth.restoreRevokedUsers",
+            AppConfig.getInt("auth.restore.coalesce.maxSize", 10_000),
+            AppConfig.getLong("auth.restore.coalesce.shareMs", 5_000)
+    );
+
+    private static final AtomicLong LEADERS = new AtomicLong();
+    private static final AtomicLong JOINED = new AtomicLong();
+    private static final AtomicLong REUSED_RECENT = new AtomicLong();
+    private static final AtomicLong TIMED_OUT = new AtomicLong();
+
+    static {
+        MetricsRegistry.register("auth.restoreCoalescer", RestoreCoalescer::metrics);
+    }
+
+    private RestoreCoalescer() {
+    }
+
+    /**
+     * Runs {@code restore} once for all concurrent callers with the same
+     * token and device.
+     *
+     * @param authHash   hash of the presented auth token
+     * @param deviceHash hash of the presented device id
+     * @param restore    the database restore
+     * @return the shared result, with a context private to this caller;
+     * {@code SESSION_THROTTLED} if the running restore did not finish in time
+     */
+    static AuthResult<AuthStatus, AuthContext> restoreOnce(
+            String authHash,
+            String deviceHash,
+            Supplier<AuthResult<AuthStatus, AuthContext>> restore
+    ) {
+        Shared recent = RECENT.get(authHash);
+        if (recent != null && recent.deviceHash().equals(deviceHash)) {
+            if (!isRevokedSince(recent)) {
+                REUSED_RECENT.incrementAndGet();
+                return copyOf(recent.result());
+            }
+            RECENT.invalidate(authHash);
+        }
+
+        String key = authHash + ":" + deviceHash;
+        CompletableFuture<AuthResult<AuthStatus, AuthContext>> mine = new CompletableFuture<>();
+        CompletableFuture<AuthResult<AuthStatus, AuthContext>> running = IN_FLIGHT.putIfAbsent(key, mine);
+
+        if (running != null) {
+            JOINED.incrementAndGet();
+            return await(running);
+        }
+
+        LEADERS.incrementAndGet();
+        AuthResult<AuthStatus, AuthContext> result = AuthResult.fail(AuthStatus.SESSION_INVALID);
+        try {
+            result = restore.get();
+            if (result.isSuccess() && result.getData() != null)
+                RECENT.put(authHash, new Shared(deviceHash, userIdOf(result), System.nanoTime(), result));
+        } finally {
+            // Waiters are released even if the restore threw
+            mine.complete(result);
+            IN_FLIGHT.remove(key, mine);
+        }
+        return copyOf(result);
+    }
+
+    /**
+     * Drops a shared restore, e.g. once its token is revoked.
+     *
+     * @param authHash hash of the auth token
+     */
+    static void forget(String authHash) {
+        RECENT.invalidate(authHash);
+    }
+
+    /**
+     * Retires every result of the user shared until now, e.g. after all or
+     * the other tokens of the user were revoked. Results shared afterwards
+     * stay usable.
+     *
+     * @param userId the user whose tokens were revoked
+     */
+    static void forgetUser(long userId) {
+        USER_REVOKED.put(userId, System.nanoTime());
+    }
+
+    private static boolean isRevokedSince(Shared shared) {
+        if (shared.userId() == null)
+            return false;
+        Long revokedAt = USER_REVOKED.get(shared.userId());
+        return revokedAt != null && revokedAt - shared.sharedAt() >= 0;
+    }
+
+    private static Long userIdOf(AuthResult<AuthStatus, AuthContext> result) {
+        AuthContext context = result.getData();
+        return context.getAuthUser() == null ? null : context.getAuthUser().getId();
+    }
+
+    private static AuthResult<AuthStatus, AuthContext> await(
+            CompletableFuture<AuthResult<AuthStatus, AuthContext>> running
+    ) {
+        try {
+            return copyOf(running.get(WAIT_MS, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // Keep the cookies; a later request will find the session or restore
+            TIMED_OUT.incrementAndGet();
+            return AuthResult.fail(AuthStatus.SESSION_THROTTLED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return AuthResult.fail(AuthStatus.SESSION_THROTTLED);
+        } catch (ExecutionException e) {
+            return AuthResult.fail(AuthStatus.SESSION_INVALID);
+        }
+    }
+
+    private static AuthResult<AuthStatus, AuthContext> copyOf(AuthResult<AuthStatus, AuthContext> result) {
+        AuthContext context = result.getData();
+        if (context == null)
+            return result;
+        return AuthResult.ok(result.getStatus(), context.copy());
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("inFlight", IN_FLIGHT.size());
+        m.put("leaders", LEADERS.get());
+        m.put("joined", JOINED.get());
+        m.put("reusedRecent", REUSED_RECENT.get());
+        m.put("timedOut", TIMED_OUT.get());
+        return m;
+    }
+
+    private record Shared(String deviceHash, Long userId, long sharedAt,
+                          AuthResult<AuthStatus, AuthContext> result) {
+    }
+}
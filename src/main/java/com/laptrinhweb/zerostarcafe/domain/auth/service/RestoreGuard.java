@@ -0,0 +1,107 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.service;
+
+import com.laptrinhweb.zerostarcafe.core.cache.BoundedCache;
+import com.laptrinhweb.zerostarcafe.core.security.RateLimiter;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Keeps junk auth cookies away from the database during session restore:
+ * </p>
+ * <ul>
+ *     <li>a short-lived, bounded negative cache of token hashes already
+ *     known to be invalid (unknown, revoked, expired, wrong device);</li>
+ *     <li>a per-IP token bucket on restore attempts that reach the
+ *     database ({@link RateLimiter}).</li>
+ * </ul>
+ * <p>
+ * Counters are published as {@code auth.restoreGuard} metrics.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * if (RestoreGuard.isKnownInvalid(hash)) return invalid;
+ * if (!RestoreGuard.tryAcquire(ip)) return throttled;
+ * ...
+ * RestoreGuard.markInvalid(hash);
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+final class RestoreGuard {
+
+    private static final BoundedCache<String, Boolean> INVALID_HASHES = BoundedCache.create(
+            "auth.invalidTokens",
+            AppConfig.getInt("auth.restore.invalidCache.maxSize", 50_000),
+            AppConfig.getLong("auth.restore.invalidCache.ttlMs", 600_000)
+    );
+
+    private static final int MAX_PER_IP = AppConfig.getInt("auth.restore.maxPerIp", 20);
+
+    // IP -> restore tokens; null when the limit is off
+    private static final RateLimiter PER_IP = MAX_PER_IP <= 0 ? null : RateLimiter.create(
+            "auth.restore.ip",
+            MAX_PER_IP,
+            Math.max(1, AppConfig.getInt("auth.restore.perMinute", 20)),
+            AppConfig.getInt("ratelimit.maxKeys", 100_000)
+    );
+
+    private static final AtomicLong REJECTED_KNOWN = new AtomicLong();
+    private static final AtomicLong THROTTLED = new AtomicLong();
+
+    static {
+        MetricsRegistry.register("auth.restoreGuard", RestoreGuard::metrics);
+    }
+
+    private RestoreGuard() {
+    }
+
+    /**
+     * @param authHash hash of the presented auth token
+     * @return {@code true} if the hash failed a restore recently
+     */
+    static boolean isKnownInvalid(String authHash) {
+        if (INVALID_HASHES.get(authHash) == null)
+            return false;
+        REJECTED_KNOWN.incrementAndGet();
+        return true;
+    }
+
+    static void markInvalid(String authHash) {
+        INVALID_HASHES.put(authHash, Boolean.TRUE);
+    }
+
+    /**
+     * Counts one database-backed restore attempt for an IP.
+     *
+     * @param ip client IP, may be {@code null}
+     * @return {@code false} if the IP has no restore tokens left
+     */
+    static boolean tryAcquire(String ip) {
+        if (PER_IP == null || PER_IP.tryAcquire(ip) == 0)
+            return true;
+
+        THROTTLED.incrementAndGet();
+        return false;
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("knownInvalid", INVALID_HASHES.size());
+        m.put("rejectedKnownInvalid", REJECTED_KNOWN.get());
+        m.put("throttled", THROTTLED.get());
+        m.put("maxPerIp", MAX_PER_IP);
+        return m;
+    }
+}
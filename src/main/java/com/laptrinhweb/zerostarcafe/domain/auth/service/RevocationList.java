@@ -0,0 +1,150 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.service;
+
+import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthRecordDAOImpl;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * In-memory revocation list for signed auth tokens: user id &rarr; lowest
+ * {@code auth_tokens} record id that is still allowed. Record ids only grow
+ * and a login or a rotation revokes every older token of the user, so one number per user
+ * describes all revocations exactly, without comparing clocks.
+ * </p>
+ * <p>
+ * Revocations made by this node are applied immediately; those made by other
+ * nodes arrive with the next incremental sync from the database
+ * ({@code auth.token.revocationSyncMs}). Until the first full sync has
+ * finished, {@link #isReady()} is {@code false} and callers fall back to the
+ * database. Counters are published as {@code auth.revocations} metrics.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * if (RevocationList.isRevoked(claims.userId(), claims.recordId())) return invalid;
+ * RevocationList.revokeBelow(userId, newRecordId); // after a login
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class RevocationList {
+
+    private static final long SYNC_MS = Math.max(1_000, AppConfig.getLong("auth.token.revocationSyncMs", 5_000));
+    // Re-read a little history each time: covers clock skew and commit delays
+    private static final long OVERLAP_MS = 5_000;
+
+    private static final ConcurrentHashMap<Long, Long> LOWEST_VALID = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "auth-revocation-sync");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static volatile LocalDateTime syncedUpTo; // null until the first full sync
+    private static final AtomicLong SYNCS = new AtomicLong();
+    private static final AtomicLong FAILURES = new AtomicLong();
+    private static final AtomicLong REJECTED = new AtomicLong();
+
+    static {
+        MetricsRegistry.register("auth.revocations", RevocationList::metrics);
+    }
+
+    private RevocationList() {
+    }
+
+    // ==========================================================
+    // PUBLIC API
+    // ==========================================================
+
+    /**
+     * Starts the periodic sync (the first one loads everything).
+     */
+    public static void start() {
+        SCHEDULER.scheduleWithFixedDelay(RevocationList::sync, 0, SYNC_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public static void shutdown() {
+        SCHEDULER.shutdownNow();
+    }
+
+    /**
+     * @return {@code true} once the list reflects the database
+     */
+    public static boolean isReady() {
+        return syncedUpTo != null;
+    }
+
+    /**
+     * @param userId   token owner
+     * @param recordId record id carried by the token
+     * @return {@code true} if the record was revoked
+     */
+    public static boolean isRevoked(long userId, long recordId) {
+        Long lowest = LOWEST_VALID.get(userId);
+        if (lowest == null || recordId >= lowest)
+            return false;
+        REJECTED.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Revokes every record of the user below {@code lowestValid}; never
+     * moves the watermark back.
+     *
+     * @param userId      the user
+     * @param lowestValid lowest record id that stays valid
+     */
+    public static void revokeBelow(long userId, long lowestValid) {
+        LOWEST_VALID.merge(userId, lowestValid, Math::max);
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private static void sync() {
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = syncedUpTo == null
+                ? LocalDateTime.of(1970, 1, 1, 0, 0)
+                : syncedUpTo.minusNanos(OVERLAP_MS * 1_000_000);
+
+        try (Connection conn = DBConnection.getConnection()) {
+            new AuthRecordDAOImpl(conn).findRevocationWatermarks(since).forEach(RevocationList::revokeBelow);
+            syncedUpTo = started;
+            SYNCS.incrementAndGet();
+        } catch (Exception e) {
+            FAILURES.incrementAndGet();
+            LoggerUtil.warn(RevocationList.class, "Revocation sync failed: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("ready", isReady());
+        m.put("users", LOWEST_VALID.size());
+        m.put("syncs", SYNCS.get());
+        m.put("failures", FAILURES.get());
+        m.put("rejected", REJECTED.get());
+        m.put("syncedUpTo", syncedUpTo == null ? "" : syncedUpTo.withNano(0).toString());
+        return m;
+    }
+}
@@ -0,0 +1,171 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.service;
+
+import com.laptrinhweb.zerostarcafe.core.cache.BoundedCache;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthSession;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Makes token rotation single-flight per session. Concurrent requests of one
+ * browser (page + XHRs) share the same {@link AuthSession}; they take the
+ * same striped lock, and only the first one that still sees
+ * {@link AuthSession#shouldRotate()} rotates. The others return
+ * {@code SESSION_REUSED} without touching the database, the cookies or the
+ * session id.
+ * </p>
+ * <p>
+ * Requests sent before the browser received the new cookie still carry the
+ * old token. For a short grace period the old token is accepted as long as
+ * it rotated into the token the session now holds, and a restore (the
+ * request's session id went stale too) uses the new token instead.
+ * </p>
+ * <p>
+ * Counters are published as {@code auth.rotation} metrics.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * AuthStatus status = RotationGate.rotateOnce(session, () -> rotate(...));
+ * ...
+ * RotationGate.rememberRotation(oldToken, newToken);
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+final class RotationGate {
+
+    private static final ReentrantLock[] STRIPES = newStripes(AppConfig.getInt("auth.rotation.stripes", 64));
+    private static final long WAIT_MS = AppConfig.getLong("auth.rotation.waitMs", 3_000);
+
+    // Old raw token -> the token it rotated into
+    private static final BoundedCache<String, String> GRACE = BoundedCache.create(
+            "auth.rotationGrace",
+            AppConfig.getInt("auth.rotation.grace.maxSize", 10_000),
+            AppConfig.getLong("auth.rotation.grace.ttlMs", 30_000)
+    );
+
+    private static final AtomicLong ROTATED = new AtomicLong();
+    private static final AtomicLong JOINED = new AtomicLong();
+    private static final AtomicLong GRACE_ACCEPTED = new AtomicLong();
+    private static final AtomicLong LOCK_TIMEOUTS = new AtomicLong();
+
+    static {
+        MetricsRegistry.register("auth.rotation", RotationGate::metrics);
+    }
+
+    private RotationGate() {
+    }
+
+    /**
+     * Runs {@code rotation} unless another request of the same session
+     * rotated it first.
+     *
+     * @param session  the shared session state
+     * @param rotation the rotation to run while holding the session's lock
+     * @return the rotation's status, or {@code SESSION_REUSED} for requests
+     * that joined an earlier rotation (or could not get the lock in time)
+     */
+    static AuthStatus rotateOnce(AuthSession session, Supplier<AuthStatus> rotation) {
+        ReentrantLock lock = STRIPES[index(session)];
+
+        try {
+            if (!lock.tryLock(WAIT_MS, TimeUnit.MILLISECONDS)) {
+                // The rotation is still running elsewhere; this request keeps its token
+                LOCK_TIMEOUTS.incrementAndGet();
+                return AuthStatus.SESSION_REUSED;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return AuthStatus.SESSION_REUSED;
+        }
+
+        try {
+            // Someone else rotated while this request waited
+            if (!session.shouldRotate()) {
+                JOINED.incrementAndGet();
+                return AuthStatus.SESSION_REUSED;
+            }
+
+            AuthStatus status = rotation.get();
+            if (status == AuthStatus.SESSION_ROTATED)
+                ROTATED.incrementAndGet();
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static void rememberRotation(String oldToken, String newToken) {
+        GRACE.put(oldToken, newToken);
+    }
+
+    /**
+     * @param presented the auth token the request carries
+     * @param current   the auth token the session holds
+     * @return {@code true} if {@code presented} was rotated into
+     * {@code current} within the grace period
+     */
+    static boolean isGraceToken(String presented, String current) {
+        if (presented == null || current == null)
+            return false;
+
+        if (!current.equals(GRACE.get(presented)))
+            return false;
+        GRACE_ACCEPTED.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * @param presented the auth token the request carries
+     * @return the token {@code presented} rotated into within the grace
+     * period, or {@code null}
+     */
+    static String rotatedInto(String presented) {
+        if (presented == null)
+            return null;
+
+        String rotated = GRACE.get(presented);
+        if (rotated != null)
+            GRACE_ACCEPTED.incrementAndGet();
+        return rotated;
+    }
+
+    private static int index(AuthSession session) {
+        int h = System.identityHashCode(session);
+        return (h ^ (h >>> 16)) & (STRIPES.length - 1);
+    }
+
+    private static ReentrantLock[] newStripes(int requested) {
+        // Round up to a power of two for mask indexing
+        int size = Integer.highestOneBit(Math.max(1, requested) - 1) << 1;
+        ReentrantLock[] locks = new ReentrantLock[Math.max(1, size)];
+        for (int i = 0; i < locks.length; i++)
+            locks[i] = new ReentrantLock();
+        return locks;
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("rotated", ROTATED.get());
+        m.put("joined", JOINED.get());
+        m.put("graceAccepted", GRACE_ACCEPTED.get());
+        m.put("lockTimeouts", LOCK_TIMEOUTS.get());
+        m.put("stripes", STRIPES.length);
+        return m;
+    }
+}
@@ -0,0 +1,22 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.session;
+
+import java.time.LocalDateTime;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * One row of {@code user_sessions}: the active HTTP session of a user,
+ * shared by all nodes.
+ * </p>
+ *
+ * @param userId    the user
+ * @param sessionId active HTTP session id; empty after a logout
+ * @param deviceKey hash of the device id cookie of that session
+ * @param updatedAt database time of the last change
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public record UserSession(long userId, String sessionId, String deviceKey, LocalDateTime updatedAt) {
+}
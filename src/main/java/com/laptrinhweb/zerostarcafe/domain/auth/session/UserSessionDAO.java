@@ -0,0 +1,47 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.session;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Data access for {@code user_sessions}, the cluster-wide record of each
+ * user's active HTTP session.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>{@code
+ * UserSessionDAO dao = new UserSessionDAOImpl(connection);
+ * dao.upsert(userId, sessionId, deviceKey);
+ * List<UserSession> changes = dao.findChangedSince(lastSeen);
+ * }</pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public interface UserSessionDAO {
+
+    /**
+     * Inserts or replaces the active session of a user.
+     *
+     * @param userId    the user
+     * @param sessionId the session id; empty to revoke all sessions
+     * @param deviceKey the device key; empty to revoke all sessions
+     * @return the row's {@code updated_at} after the write, its version
+     * @throws SQLException if a database access error occurs
+     */
+    LocalDateTime upsert(long userId, String sessionId, String deviceKey) throws SQLException;
+
+    /**
+     * Rows changed after the given database time, oldest first.
+     *
+     * @param since exclusive lower bound of {@code updated_at}
+     * @return changed rows
+     * @throws SQLException if a database access error occurs
+     */
+    List<UserSession> findChangedSince(LocalDateTime since) throws SQLException;
+}
@@ -0,0 +1,79 @@
+package com.laptrinhweb.zerostarcafe.domain.auth.session;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * JDBC-based implementation of {@link UserSessionDAO}.
+ * </p>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class UserSessionDAOImpl implements UserSessionDAO {
+
+    private final Connection conn;
+
+    public UserSessionDAOImpl(Connection conn) {
+        this.conn = conn;
+    }
+
+    @Override
+    public LocalDateTime upsert(long userId, String sessionId, String deviceKey) throws SQLException {
+        String sql = """
+                    INSERT INTO user_sessions (user_id, session_id, device_key, updated_at)
+                    VALUES (?, ?, ?, CURRENT_TIMESTAMP(3))
+                    ON DUPLICATE KEY UPDATE
+                        session_id = VALUES(session_id),
+                        device_key = VALUES(device_key),
+                        updated_at = CURRENT_TIMESTAMP(3)
+                """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, userId);
+            ps.setString(2, sessionId);
+            ps.setString(3, deviceKey);
+            ps.executeUpdate();
+        }
+
+        String versionSql = "SELECT updated_at FROM user_sessions WHERE user_id = ?";
+        try (PreparedStatement ps = conn.prepareStatement(versionSql)) {
+            ps.setLong(1, userId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getTimestamp("updated_at").toLocalDateTime() : null;
+            }
+        }
+    }
+
+    @Override
+    public List<UserSession> findChangedSince(LocalDateTime since) throws SQLException {
+        String sql = """
+                    SELECT user_id, session_id, device_key, updated_at
+                    FROM user_sessions
+                    WHERE updated_at > ?
+                    ORDER BY updated_at
+                """;
+
+        List<UserSession> changes = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setTimestamp(1, Timestamp.valueOf(since));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    changes.add(new UserSession(
+                            rs.getLong("user_id"),
+                            rs.getString("session_id"),
+                            rs.getString("device_key"),
+                            rs.getTimestamp("updated_at").toLocalDateTime()
+                    ));
+                }
+            }
+        }
+        return changes;
+    }
+}
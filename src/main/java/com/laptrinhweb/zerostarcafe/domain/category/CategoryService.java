@@ -1,6 +1,9 @@
 package com.laptrinhweb.zerostarcafe.domain.category;
 
+import com.laptrinhweb.zerostarcafe.core.cache.ReferenceCache;
 import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
+import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
 import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
 
 import java.sql.Connection;
@@ -22,21 +25,44 @@ import java.util.List;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 02/12/2025
+ * @version 1.1.1
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public class CategoryService {
 
+    // Whole active category list, shared by every request
+    private static final ReferenceCache<List<Category>> CATEGORIES = ReferenceCache.create(
+            "categories",
+            AppConfig.getLong("cache.categories.ttlMs", 300_000),
+            CategoryService::loadFromDatabase
+    );
+
     public List<Category> loadActiveCategories() {
-        try (Connection conn = DBConnection.getConnection()) {
-            CategoryDAO categoryDAO = new CategoryDAOImpl(conn);
-            return categoryDAO.findAllByIsActiveTrueOrderByOrderIndexAsc();
-        } catch (SQLException e) {
+        try {
+            return CATEGORIES.get();
+        } catch (AppException e) {
             LoggerUtil.warn(Category.class,
                     "Failed to load active categories" + e.getMessage());
             return new ArrayList<>();
         }
     }
 
+    /**
+     * Drops the cached categories; call after categories change. Runs again
+     * once the current transaction commits, so a reload that read the rows
+     * before the commit is not kept.
+     */
+    public static void invalidateCache() {
+        CATEGORIES.invalidate();
+        DBConnection.afterCommit(CATEGORIES::invalidate);
+    }
+
+    private static List<Category> loadFromDatabase() throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            CategoryDAO categoryDAO = new CategoryDAOImpl(conn);
+            return List.copyOf(categoryDAO.findAllByIsActiveTrueOrderByOrderIndexAsc());
+        }
+    }
+
 }
\ No newline at end of file
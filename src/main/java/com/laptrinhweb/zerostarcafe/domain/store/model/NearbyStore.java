@@ -0,0 +1,23 @@
+package com.laptrinhweb.zerostarcafe.domain.store.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * An open store together with its distance from the client,
+ * used by the "stores near me" listing.
+ * </p>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@AllArgsConstructor
+@Getter
+public class NearbyStore {
+    private final Store store;
+    private final double distanceKm;
+}
@@ -37,10 +37,7 @@ public final class StoreConstants {
         public static final String CATEGORIES = "categories";
         public static final String STORE_LIST = "stores";
         public static final String CURRENT_STORE = "currentStore";
-    }
-
-    public static final class Session {
-        public static final String CURRENT_STORE_CTX = "SESSION_STORE_CONTEXT";
+        public static final String STORE_CONTEXT = "storeContext";
     }
 
     public static final class Cookie {
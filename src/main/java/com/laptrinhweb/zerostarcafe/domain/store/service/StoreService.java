@@ -1,21 +1,31 @@
 package com.laptrinhweb.zerostarcafe.domain.store.service;
 
+import com.laptrinhweb.zerostarcafe.core.cache.BoundedCache;
+import com.laptrinhweb.zerostarcafe.core.cache.ReferenceCache;
 import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
 import com.laptrinhweb.zerostarcafe.core.exception.AppException;
 import com.laptrinhweb.zerostarcafe.core.location.GeoIpUtil;
+import com.laptrinhweb.zerostarcafe.core.location.IpPrefix;
 import com.laptrinhweb.zerostarcafe.core.location.Location;
+import com.laptrinhweb.zerostarcafe.core.location.SpatialIndex;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
 import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
 import com.laptrinhweb.zerostarcafe.domain.store.dao.StoreDAO;
 import com.laptrinhweb.zerostarcafe.domain.store.dao.StoreDAOImpl;
+import com.laptrinhweb.zerostarcafe.domain.store.model.NearbyStore;
 import com.laptrinhweb.zerostarcafe.domain.store.model.Store;
 import com.laptrinhweb.zerostarcafe.domain.store.model.StoreConstants;
 import com.laptrinhweb.zerostarcafe.domain.store.model.StoreStatus;
 import lombok.NonNull;
 
+import java.net.InetAddress;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * <h2>Description:</h2>
@@ -31,58 +41,133 @@ import java.util.Optional;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 02/12/2025
+ * @version 1.3.2
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class StoreService {
 
+    /**
+     * Open stores, as a list, indexed by id and indexed by location.
+     */
+    private record OpenStores(List<Store> list, Map<Long, Store> byId, SpatialIndex<Store> spatial) {
+    }
+
+    private static final ReferenceCache<OpenStores> OPEN_STORES = ReferenceCache.create(
+            "stores",
+            AppConfig.getLong("cache.stores.ttlMs", 300_000),
+            StoreService::loadOpenStores
+    );
+
+    // IP prefix -> store id resolved from a real GeoIP location
+    private static final BoundedCache<String, Long> STORE_BY_PREFIX = BoundedCache.create(
+            "stores.byIpPrefix",
+            AppConfig.getInt("cache.storeByIp.maxSize", 50_000),
+            AppConfig.getLong("cache.storeByIp.ttlMs", 3_600_000)
+    );
+
     public List<Store> getAllActiveStores() {
-        try (Connection conn = DBConnection.getConnection()) {
-            StoreDAO storeDAO = new StoreDAOImpl(conn);
-            return storeDAO.findAllByStatus(StoreStatus.OPEN);
-        } catch (AppException | SQLException e) {
+        try {
+            return OPEN_STORES.get().list();
+        } catch (AppException e) {
             LoggerUtil.error(StoreService.class, "Fail to get all active stores", e);
             return List.of();
         }
     }
 
     public Store getActiveStoreById(@NonNull Long storeId) {
+        try {
+            return OPEN_STORES.get().byId().get(storeId);
+        } catch (AppException e) {
+            LoggerUtil.error(StoreService.class,
+                    "Fail to get active store by storeId=" + storeId, e);
+            return null;
+        }
+    }
+
+    // ==========================================================
+    // CACHE
+    // ==========================================================
+
+    /**
+     * Drops the cached stores; call after a store is added, edited or closed.
+     * Runs again once the current transaction commits, so a reload that
+     * read the rows before the commit is not kept.
+     */
+    public static void invalidateCache() {
+        dropCaches();
+        DBConnection.afterCommit(StoreService::dropCaches);
+    }
+
+    private static void dropCaches() {
+        OPEN_STORES.invalidate();
+        STORE_BY_PREFIX.invalidateAll();
+    }
+
+    /**
+     * Registers a callback run with the new open-store list after each reload.
+     *
+     * @param listener callback receiving the immutable store list
+     */
+    public static void onStoresReloaded(Consumer<List<Store>> listener) {
+        OPEN_STORES.addListener(stores -> listener.accept(stores.list()));
+    }
+
+    private static OpenStores loadOpenStores() throws SQLException {
         try (Connection conn = DBConnection.getConnection()) {
             StoreDAO storeDAO = new StoreDAOImpl(conn);
+            List<Store> stores = List.copyOf(storeDAO.findAllByStatus(StoreStatus.OPEN));
 
-            Optional<Store> storeOpt = storeDAO.findById(storeId);
-            if (storeOpt.isEmpty())
-                return null;
+            Map<Long, Store> byId = new HashMap<>();
+            for (Store s : stores)
+                byId.put(s.getId(), s);
 
-            Store store = storeOpt.get();
-            if (store.getStatus() == StoreStatus.OPEN)
-                return store;
+            // Rebuilt with every reload, so it always matches the cached list
+            SpatialIndex<Store> spatial = SpatialIndex.build(stores,
+                    s -> new Location(s.getLatitude(), s.getLongitude()));
 
-            return null;
-        } catch (AppException | SQLException e) {
-            LoggerUtil.error(StoreService.class,
-                    "Fail to get active store by storeId=" + storeId, e);
-            return null;
+            return new OpenStores(stores, Map.copyOf(byId), spatial);
         }
     }
 
+    // ==========================================================
+    // RESOLVE
+    // ==========================================================
+
     public Store resolveStoreByReqIp(String reqIp) {
-        Location loc = GeoIpUtil.lookup(reqIp);
+        InetAddress address = IpPrefix.parse(reqIp);
+        if (address == null) {
+            LoggerUtil.warn(StoreService.class,
+                    "Invalid IP=" + reqIp + ", using default.");
+            return resolveDefaultStore();
+        }
+
+        // Same /24 (IPv4) or /48 (IPv6) -> same decision; skip GeoIP + search
+        String prefix = IpPrefix.of(address);
+        Long cachedId = STORE_BY_PREFIX.get(prefix);
+        if (cachedId != null) {
+            Store cached = getActiveStoreById(cachedId);
+            if (cached != null)
+                return cached;
+            STORE_BY_PREFIX.invalidate(prefix);
+        }
+
+        Location loc = GeoIpUtil.lookup(address);
         if (loc == null || !loc.isValid()) {
+            // Not cached: one failed lookup must not pin the whole prefix to the default
             LoggerUtil.warn(StoreService.class,
                     "GeoIP failed for IP=" + reqIp + ", using default.");
             return resolveDefaultStore();
         }
 
         Store nearest = findNearestStore(loc);
-        if (nearest != null) {
-            LoggerUtil.info(StoreService.class,
-                    "Resolved by IP=" + reqIp + " -> Store=" + nearest.getId());
-            return nearest;
-        }
+        if (nearest == null)
+            return resolveDefaultStore();
 
-        return resolveDefaultStore();
+        LoggerUtil.info(StoreService.class,
+                "Resolved by IP=" + reqIp + " -> Store=" + nearest.getId());
+        STORE_BY_PREFIX.put(prefix, nearest.getId());
+        return nearest;
     }
 
     private Store resolveDefaultStore() {
@@ -94,41 +179,37 @@ public final class StoreService {
             return null;
         }
 
-        try (Connection conn = DBConnection.getConnection()) {
-            StoreDAO storeDAO = new StoreDAOImpl(conn);
-
-            List<Store> stores = storeDAO.findAllByStatus(StoreStatus.OPEN);
-            if (stores.isEmpty())
-                return null;
-
-            Store nearest = null;
-            double minDistance = Double.MAX_VALUE;
-
-            for (Store s : stores) {
-                if (s.getStatus() != StoreStatus.OPEN)
-                    continue;
-
-                Location storeLoc = new Location(
-                        s.getLatitude(),
-                        s.getLongitude()
-                );
-
-                if (!storeLoc.isValid())
-                    continue;
+        List<SpatialIndex.Hit<Store>> hits = spatialIndex().nearest(clientLoc, 1);
+        return hits.isEmpty() ? null : hits.getFirst().item();
+    }
 
-                double distance = GeoIpUtil.distanceKm(clientLoc, storeLoc);
+    /**
+     * Lists open stores near the client, nearest first.
+     *
+     * @param clientLoc client location
+     * @param limit     maximum number of stores
+     * @param radiusKm  search radius in kilometres
+     * @return nearby stores with their distance, empty if none
+     */
+    public List<NearbyStore> findStoresNear(Location clientLoc, int limit, double radiusKm) {
+        if (clientLoc == null || !clientLoc.isValid() || limit <= 0)
+            return List.of();
 
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    nearest = s;
-                }
-            }
-            return nearest;
+        List<NearbyStore> result = new ArrayList<>();
+        for (SpatialIndex.Hit<Store> hit : spatialIndex().nearest(clientLoc, limit)) {
+            if (hit.distanceKm() > radiusKm)
+                break;
+            result.add(new NearbyStore(hit.item(), hit.distanceKm()));
+        }
+        return result;
+    }
 
-        } catch (SQLException e) {
-            LoggerUtil.error(StoreService.class,
-                    "Fail to find nearest store for loc=" + clientLoc, e);
-            return null;
+    private SpatialIndex<Store> spatialIndex() {
+        try {
+            return OPEN_STORES.get().spatial();
+        } catch (AppException e) {
+            LoggerUtil.error(StoreService.class, "Fail to load store index", e);
+            return SpatialIndex.build(List.of(), s -> null);
         }
     }
-}
\ No newline at end of file
+}
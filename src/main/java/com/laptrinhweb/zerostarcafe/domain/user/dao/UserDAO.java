@@ -3,8 +3,10 @@ package com.laptrinhweb.zerostarcafe.domain.user.dao;
 import com.laptrinhweb.zerostarcafe.domain.user.model.User;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * <h2>Description:</h2>
@@ -35,8 +37,8 @@ import java.util.Optional;
  * }</pre>
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 16/12/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public interface UserDAO {
@@ -76,6 +78,33 @@ public interface UserDAO {
      */
     List<User> findAll() throws SQLException;
 
+    /**
+     * Inserts new users with one JDBC batch and assigns their generated IDs.
+     * Runs on the caller's connection; wrap it in a transaction for all-or-nothing.
+     *
+     * @param users new users (without IDs)
+     * @throws SQLException if a database access error occurs
+     */
+    void insertBatch(List<User> users) throws SQLException;
+
+    /**
+     * Returns which of the given usernames are already taken.
+     *
+     * @param usernames usernames to check
+     * @return the subset that exists
+     * @throws SQLException if a database access error occurs
+     */
+    Set<String> findExistingUsernames(Collection<String> usernames) throws SQLException;
+
+    /**
+     * Returns which of the given email addresses are already taken.
+     *
+     * @param emails email addresses to check
+     * @return the subset that exists
+     * @throws SQLException if a database access error occurs
+     */
+    Set<String> findExistingEmails(Collection<String> emails) throws SQLException;
+
     /**
      * Checks if a given username already exists in the database.
      *
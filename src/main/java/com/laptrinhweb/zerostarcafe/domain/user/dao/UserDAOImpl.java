@@ -4,9 +4,7 @@ import com.laptrinhweb.zerostarcafe.domain.user.model.User;
 import com.laptrinhweb.zerostarcafe.domain.user.model.UserStatus;
 
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * <h2>Description:</h2>
@@ -16,11 +14,15 @@ import java.util.Optional;
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 16/12/2025
+ * @version 1.1.1
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public class UserDAOImpl implements UserDAO {
+
+    // Placeholders per IN (...) query
+    private static final int IN_CHUNK = 500;
+
     private final Connection conn;
 
     public UserDAOImpl(Connection conn) {
@@ -90,6 +92,38 @@ public class UserDAOImpl implements UserDAO {
         }
     }
 
+    @Override
+    public void insertBatch(List<User> users) throws SQLException {
+        if (users.isEmpty())
+            return;
+
+        String sql = """
+                INSERT INTO users (email, username, password_hash, status, is_super_admin)
+                VALUES (?, ?, ?, ?, ?)
+                """;
+        try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (User user : users) {
+                ps.setString(1, user.getEmail());
+                ps.setString(2, user.getUsername());
+                ps.setString(3, user.getPasswordHash());
+                ps.setString(4, user.getStatus().name());
+                ps.setBoolean(5, user.isSuperAdmin());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            // With rewriteBatchedStatements the batch is sent as multi-row INSERTs;
+            // InnoDB gives a simple insert consecutive ids, so keys still follow row order
+            int i = 0;
+            try (ResultSet rs = ps.getGeneratedKeys()) {
+                while (rs.next() && i < users.size())
+                    users.get(i++).setId(rs.getLong(1));
+            }
+            if (i != users.size())
+                throw new SQLException("Batch insert returned " + i + " ids for " + users.size() + " users");
+        }
+    }
+
     // ==========================================================
     // EXISTENCE CHECKS
     // ==========================================================
@@ -116,6 +150,37 @@ public class UserDAOImpl implements UserDAO {
         }
     }
 
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) throws SQLException {
+        return findExisting("username", usernames);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) throws SQLException {
+        return findExisting("email", emails);
+    }
+
+    // One IN query per chunk instead of one lookup per value
+    private Set<String> findExisting(String column, Collection<String> values) throws SQLException {
+        Set<String> found = new HashSet<>();
+        List<String> list = new ArrayList<>(values);
+
+        for (int from = 0; from < list.size(); from += IN_CHUNK) {
+            List<String> chunk = list.subList(from, Math.min(list.size(), from + IN_CHUNK));
+            String sql = "SELECT " + column + " FROM users WHERE " + column + " IN ("
+                    + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++)
+                    ps.setString(i + 1, chunk.get(i));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) found.add(rs.getString(1));
+                }
+            }
+        }
+        return found;
+    }
+
     // ==========================================================
     // RETRIEVAL
     // ==========================================================
@@ -172,7 +237,7 @@ public class UserDAOImpl implements UserDAO {
     // MAPPING UTIL
     // ==========================================================
 
-    private User rowMapper(ResultSet rs) throws SQLException {
+    public static User rowMapper(ResultSet rs) throws SQLException {
         User u = new User();
         u.setId(rs.getLong("id"));
         u.setEmail(rs.getString("email"));
@@ -0,0 +1,41 @@
+package com.laptrinhweb.zerostarcafe.domain.user.model;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Outcome of one CSV row of a bulk staff import.
+ * </p>
+ *
+ * @param line       1-based line number in the uploaded file
+ * @param username   username from the row (as normalized)
+ * @param status     what happened to the row
+ * @param messageKey i18n key explaining a rejection, or {@code null}
+ * @param userId     ID of the created user, or {@code null}
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public record StaffImportResult(
+        int line,
+        String username,
+        Status status,
+        String messageKey,
+        Long userId
+) {
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE,
+        FAILED
+    }
+
+    public static StaffImportResult created(int line, String username, long userId) {
+        return new StaffImportResult(line, username, Status.CREATED, null, userId);
+    }
+
+    public static StaffImportResult rejected(int line, String username, Status status, String messageKey) {
+        return new StaffImportResult(line, username, status, messageKey, null);
+    }
+}
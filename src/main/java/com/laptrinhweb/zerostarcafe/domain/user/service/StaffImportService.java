@@ -0,0 +1,291 @@
+package com.laptrinhweb.zerostarcafe.domain.user.service;
+
+import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
+import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import com.laptrinhweb.zerostarcafe.core.exception.OverloadedException;
+import com.laptrinhweb.zerostarcafe.core.security.PasswordHashExecutor;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.CsvUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.validation.ValidationResult;
+import com.laptrinhweb.zerostarcafe.domain.auth.service.AuthValidator;
+import com.laptrinhweb.zerostarcafe.domain.store.service.StoreService;
+import com.laptrinhweb.zerostarcafe.domain.user.dao.UserDAO;
+import com.laptrinhweb.zerostarcafe.domain.user.dao.UserDAOImpl;
+import com.laptrinhweb.zerostarcafe.domain.user.model.StaffImportResult;
+import com.laptrinhweb.zerostarcafe.domain.user.model.StaffImportResult.Status;
+import com.laptrinhweb.zerostarcafe.domain.user.model.User;
+import com.laptrinhweb.zerostarcafe.domain.user_role.UserStoreRole;
+import com.laptrinhweb.zerostarcafe.domain.user_role.UserStoreRoleDAOImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Creates many staff accounts from one CSV upload
+ * ({@code email,username,password,store_id[,role]}, header required).
+ * </p>
+ * <ol>
+ *     <li>Rows are read and validated in one streaming pass (same rules as
+ *     registration, plus an open store and a known role); duplicates inside
+ *     the file are rejected.</li>
+ *     <li>Usernames and emails already in the database are found with one
+ *     {@code IN} query each instead of two lookups per row.</li>
+ *     <li>Passwords are hashed in parallel on the shared
+ *     {@link PasswordHashExecutor}, a few at a time, so an import never runs
+ *     more Argon2 hashes than the login budget allows.</li>
+ *     <li>{@code users} and {@code user_store_roles} rows are inserted with JDBC
+ *     batches in a single transaction: either every accepted row is created or
+ *     none is.</li>
+ * </ol>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * try (Reader csv = new InputStreamReader(part.getInputStream(), StandardCharsets.UTF_8)) {
+ *     List<StaffImportResult> results = new StaffImportService().importCsv(csv);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class StaffImportService {
+
+    public static final String DEFAULT_ROLE = "staff";
+    public static final Set<String> ROLES = Set.of("staff", "owner");
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("email", "username", "password", "store_id");
+    private static final int MAX_ROWS = AppConfig.getInt("staff.import.maxRows", 500);
+
+    // Each Argon2 hash holds its memory cost; keep this pool small next to the login pool
+    private static final int HASH_IN_FLIGHT = resolveInFlight();
+
+    /**
+     * Accepted row waiting for its hash and insert.
+     */
+    private record Pending(int line, String email, String username, String password,
+                           long storeId, String roleCode) {
+    }
+
+    /**
+     * Imports staff accounts from CSV text.
+     *
+     * @param csv CSV content; the caller closes it
+     * @return one result per data row, in file order
+     * @throws AppException if the file has no usable header or too many rows
+     * @throws IOException  if the content cannot be read
+     */
+    public List<StaffImportResult> importCsv(Reader csv) throws IOException {
+        List<StaffImportResult> results = new ArrayList<>();
+        List<Pending> pending = readRows(csv, results);
+
+        if (!pending.isEmpty())
+            pending = rejectExisting(pending, results);
+
+        if (!pending.isEmpty())
+            insert(pending, hashAll(pending), results);
+
+        results.sort(Comparator.comparingInt(StaffImportResult::line));
+        return results;
+    }
+
+    // ==========================================================
+    // 1. STREAMING VALIDATION
+    // ==========================================================
+
+    private List<Pending> readRows(Reader csv, List<StaffImportResult> results) throws IOException {
+        BufferedReader reader = csv instanceof BufferedReader br ? br : new BufferedReader(csv);
+        Set<Long> openStores = new HashSet<>();
+        new StoreService().getAllActiveStores().forEach(s -> openStores.add(s.getId()));
+
+        Map<String, Integer> columns = null;
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<Pending> pending = new ArrayList<>();
+
+        String line;
+        int lineNo = 0;
+        int rows = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank())
+                continue;
+
+            List<String> fields = CsvUtil.parseLine(line);
+            if (columns == null) {
+                columns = readHeader(fields);
+                continue;
+            }
+
+            if (++rows > MAX_ROWS)
+                throw new AppException("Staff import is limited to " + MAX_ROWS + " rows");
+
+            String email = normalize(field(fields, columns, "email"));
+            String username = normalize(field(fields, columns, "username"));
+            String password = field(fields, columns, "password");
+            String storeIdRaw = field(fields, columns, "store_id");
+            String role = normalize(field(fields, columns, "role"));
+            if (role == null || role.isEmpty())
+                role = DEFAULT_ROLE;
+
+            ValidationResult validation = AuthValidator.registerCheck(email, username, password);
+            if (!validation.valid()) {
+                String key = validation.fieldErrors().values().iterator().next();
+                results.add(StaffImportResult.rejected(lineNo, username, Status.INVALID, key));
+                continue;
+            }
+
+            Long storeId = parseId(storeIdRaw);
+            if (storeId == null || !openStores.contains(storeId)) {
+                results.add(StaffImportResult.rejected(lineNo, username, Status.INVALID, "message.store_not_found"));
+                continue;
+            }
+
+            if (!ROLES.contains(role)) {
+                results.add(StaffImportResult.rejected(lineNo, username, Status.INVALID, "message.role_invalid"));
+                continue;
+            }
+
+            if (!seenUsernames.add(username)) {
+                results.add(StaffImportResult.rejected(lineNo, username, Status.DUPLICATE, "message.username_exists"));
+                continue;
+            }
+            if (!seenEmails.add(email)) {
+                results.add(StaffImportResult.rejected(lineNo, username, Status.DUPLICATE, "message.email_exists"));
+                continue;
+            }
+
+            pending.add(new Pending(lineNo, email, username, password, storeId, role));
+        }
+
+        if (columns == null)
+            throw new AppException("Staff import file is empty");
+        return pending;
+    }
+
+    private Map<String, Integer> readHeader(List<String> fields) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++)
+            columns.put(fields.get(i).toLowerCase(Locale.ROOT), i);
+
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required))
+                throw new AppException("Staff import header is missing column: " + required);
+        }
+        return columns;
+    }
+
+    // ==========================================================
+    // 2. EXISTING ACCOUNTS (one query per column)
+    // ==========================================================
+
+    private List<Pending> rejectExisting(List<Pending> pending, List<StaffImportResult> results) {
+        Set<String> takenUsernames;
+        Set<String> takenEmails;
+        try (Connection conn = DBConnection.getConnection()) {
+            UserDAO userDAO = new UserDAOImpl(conn);
+            takenUsernames = userDAO.findExistingUsernames(pending.stream().map(Pending::username).toList());
+            takenEmails = userDAO.findExistingEmails(pending.stream().map(Pending::email).toList());
+        } catch (SQLException e) {
+            throw new AppException("Fail to check existing staff accounts", e);
+        }
+
+        List<Pending> accepted = new ArrayList<>(pending.size());
+        for (Pending row : pending) {
+            if (takenUsernames.contains(row.username()))
+                results.add(StaffImportResult.rejected(row.line(), row.username(), Status.DUPLICATE, "message.username_exists"));
+            else if (takenEmails.contains(row.email()))
+                results.add(StaffImportResult.rejected(row.line(), row.username(), Status.DUPLICATE, "message.email_exists"));
+            else
+                accepted.add(row);
+        }
+        return accepted;
+    }
+
+    // ==========================================================
+    // 3. PARALLEL HASHING
+    // ==========================================================
+
+    private List<String> hashAll(List<Pending> pending) {
+        List<String> passwords = pending.stream().map(Pending::password).toList();
+        try {
+            return PasswordHashExecutor.hashAll(passwords, HASH_IN_FLIGHT);
+        } catch (OverloadedException e) {
+            throw new AppException("Password hashing is busy, try the import again later", e);
+        }
+    }
+
+    // ==========================================================
+    // 4. BATCH INSERT (one transaction)
+    // ==========================================================
+
+    private void insert(List<Pending> pending, List<String> hashes, List<StaffImportResult> results) {
+        List<User> users = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            Pending row = pending.get(i);
+            users.add(new User(row.email(), row.username(), hashes.get(i)));
+        }
+
+        try {
+            DBConnection.inTransaction(conn -> {
+                new UserDAOImpl(conn).insertBatch(users);
+
+                List<UserStoreRole> roles = new ArrayList<>(users.size());
+                for (int i = 0; i < users.size(); i++) {
+                    Pending row = pending.get(i);
+                    roles.add(new UserStoreRole(null, users.get(i).getId(), row.storeId(), row.roleCode(), null));
+                }
+                new UserStoreRoleDAOImpl(conn).insertBatch(roles);
+                return null;
+            });
+        } catch (SQLException e) {
+            // Rolled back as a whole (e.g. a username taken in the meantime)
+            LoggerUtil.error(StaffImportService.class, "Staff import rolled back: " + e.getMessage(), e);
+            for (Pending row : pending)
+                results.add(StaffImportResult.rejected(row.line(), row.username(), Status.FAILED, "message.action_failed"));
+            return;
+        }
+
+        for (int i = 0; i < pending.size(); i++)
+            results.add(StaffImportResult.created(pending.get(i).line(), pending.get(i).username(), users.get(i).getId()));
+
+        LoggerUtil.info(StaffImportService.class, "Staff import created " + users.size() + " accounts");
+    }
+
+    // ==========================================================
+    // HELPERS
+    // ==========================================================
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    private static Long parseId(String raw) {
+        try {
+            return raw == null ? null : Long.parseLong(raw.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String normalize(String s) {
+        return s == null ? null : s.trim().toLowerCase();
+    }
+
+    // Capped again by the hashing pool's own thread count
+    private static int resolveInFlight() {
+        int configured = AppConfig.getInt("staff.import.hashThreads", 0);
+        return configured > 0 ? configured : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -1,9 +1,14 @@
 package com.laptrinhweb.zerostarcafe.domain.user.service;
 
+import com.laptrinhweb.zerostarcafe.core.cache.BoundedCache;
+import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
 import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthUser;
 import com.laptrinhweb.zerostarcafe.domain.user.dao.UserDAO;
 import com.laptrinhweb.zerostarcafe.domain.user.dao.UserDAOImpl;
 import com.laptrinhweb.zerostarcafe.domain.user.model.User;
+import com.laptrinhweb.zerostarcafe.domain.user.model.UserMapper;
 import com.laptrinhweb.zerostarcafe.domain.user.model.UserStatus;
 import com.laptrinhweb.zerostarcafe.domain.user_role.UserStoreRole;
 import com.laptrinhweb.zerostarcafe.domain.user_role.UserStoreRoleDAO;
@@ -21,6 +26,15 @@ import java.util.Optional;
  * It supports saving users, checking duplicates,
  * and loading user roles.
  * </p>
+ * <p>
+ * Keeps a bounded cache of userId → {@link AuthUser} (user row plus store
+ * roles) for session restores. Every write that changes a principal
+ * ({@link #save}, {@link #assignRole}, {@link #removeRole}) evicts the entry,
+ * again after its transaction commits so a concurrent restore cannot cache
+ * the old row; changes made outside this service are picked up when the
+ * TTL expires.
+ * Hit/miss counts are published as {@code cache.auth.principals} metrics.
+ * </p>
  *
  * <h2>Example Usage:</h2>
  * <pre>
@@ -31,12 +45,18 @@ import java.util.Optional;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 29/11/2025
+ * @version 1.3.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public class UserService {
 
+    private static final BoundedCache<Long, AuthUser> PRINCIPALS = BoundedCache.create(
+            "auth.principals",
+            AppConfig.getInt("cache.principals.maxSize", 10_000),
+            AppConfig.getLong("cache.principals.ttlMs", 300_000)
+    );
+
     private final UserDAO userDAO;
     private final UserStoreRoleDAO roleDAO;
 
@@ -54,7 +74,10 @@ public class UserService {
      */
     public User save(User user) {
         try {
-            return userDAO.save(user);
+            User saved = userDAO.save(user);
+            if (saved.getId() != null)
+                invalidatePrincipal(saved.getId());
+            return saved;
         } catch (SQLException e) {
             throw new AppException("Fail to insert user=" + user.getUsername(), e);
         }
@@ -159,4 +182,97 @@ public class UserService {
             throw new AppException("Fail to get list roles of user=" + user.getUsername(), e);
         }
     }
+
+    // ==========================================================
+    // ROLE ASSIGNMENT
+    // ==========================================================
+
+    /**
+     * Assigns (or changes) a user's role in a store.
+     *
+     * @param userId   the user ID
+     * @param storeId  the store ID
+     * @param roleCode the role code
+     * @throws AppException if a SQL error occurs
+     */
+    public void assignRole(long userId, long storeId, String roleCode) {
+        try {
+            roleDAO.save(new UserStoreRole(null, userId, storeId, roleCode, null));
+            invalidatePrincipal(userId);
+        } catch (SQLException e) {
+            throw new AppException("Fail to assign role=" + roleCode + " to user id=" + userId, e);
+        }
+    }
+
+    /**
+     * Removes a user's role in a store.
+     *
+     * @param userId  the user ID
+     * @param storeId the store ID
+     * @throws AppException if a SQL error occurs
+     */
+    public void removeRole(long userId, long storeId) {
+        try {
+            roleDAO.delete(userId, storeId);
+            invalidatePrincipal(userId);
+        } catch (SQLException e) {
+            throw new AppException("Fail to remove role of user id=" + userId + " in store id=" + storeId, e);
+        }
+    }
+
+    // ==========================================================
+    // PRINCIPAL CACHE
+    // ==========================================================
+
+    /**
+     * Loads the {@link AuthUser} of an active user, served from the
+     * principal cache when possible.
+     *
+     * @param userId the user ID
+     * @return the principal, or null if the user is not found or not active
+     * @throws AppException if a SQL error occurs
+     */
+    public AuthUser getActivePrincipal(Long userId) {
+        if (userId == null)
+            return null;
+
+        return PRINCIPALS.get(userId, id -> {
+            User user = getActiveById(id);
+            return user == null ? null : UserMapper.toAuthUser(user, getRolesOf(user));
+        });
+    }
+
+    /**
+     * Returns the cached principal without touching the database.
+     *
+     * @param userId the user ID
+     * @return the principal, or {@code null} if it is not cached
+     */
+    public static AuthUser cachedPrincipal(long userId) {
+        return PRINCIPALS.get(userId);
+    }
+
+    /**
+     * Stores a principal that was just built from fresh rows (e.g. at login).
+     */
+    public static void cachePrincipal(AuthUser principal) {
+        if (principal != null && principal.getId() != null)
+            PRINCIPALS.put(principal.getId(), principal);
+    }
+
+    /**
+     * Evicts the principal now and again once the current transaction
+     * commits; a read between the write and the commit still sees the old
+     * row and may have cached it.
+     *
+     * @param userId the user ID
+     */
+    public static void invalidatePrincipal(long userId) {
+        PRINCIPALS.invalidate(userId);
+        DBConnection.afterCommit(() -> PRINCIPALS.invalidate(userId));
+    }
+
+    public static void invalidateAllPrincipals() {
+        PRINCIPALS.invalidateAll();
+    }
 }
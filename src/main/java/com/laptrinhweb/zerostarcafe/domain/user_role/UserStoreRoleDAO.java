@@ -36,8 +36,8 @@ import java.util.Optional;
  * }</pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 11/11/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public interface UserStoreRoleDAO {
@@ -55,6 +55,14 @@ public interface UserStoreRoleDAO {
      */
     boolean save(UserStoreRole usr) throws SQLException;
 
+    /**
+     * Inserts new user-store-role records with one JDBC batch.
+     *
+     * @param roles records to insert
+     * @throws SQLException if a database access error occurs
+     */
+    void insertBatch(List<UserStoreRole> roles) throws SQLException;
+
     /**
      * Finds all store-role assignments belonging to a specific user.
      *
@@ -13,8 +13,8 @@ import java.util.Optional;
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 11/11/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public class UserStoreRoleDAOImpl implements UserStoreRoleDAO {
@@ -45,6 +45,23 @@ public class UserStoreRoleDAOImpl implements UserStoreRoleDAO {
         }
     }
 
+    @Override
+    public void insertBatch(List<UserStoreRole> roles) throws SQLException {
+        if (roles.isEmpty())
+            return;
+
+        String sql = "INSERT INTO user_store_roles (user_id, store_id, role_code) VALUES (?, ?, ?)";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (UserStoreRole usr : roles) {
+                ps.setLong(1, usr.getUserId());
+                ps.setLong(2, usr.getStoreId());
+                ps.setString(3, usr.getRoleCode());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
     // ==========================================================
     // RETRIEVAL
     // ==========================================================
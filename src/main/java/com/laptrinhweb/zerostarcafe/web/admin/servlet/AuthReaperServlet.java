@@ -0,0 +1,43 @@
+package com.laptrinhweb.zerostarcafe.web.admin.servlet;
+
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthTokenReaper;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Starts an {@link AuthTokenReaper} run by hand, in the background.
+ * {@code POST /admin/auth-tokens/reap} answers {@code started=true}, or
+ * {@code 409} while a run is already going; progress shows up under
+ * {@code auth.reaper} in {@code /admin/metrics}. Protected by {@code RoleStage}.
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@WebServlet(name = "AuthReaperServlet", urlPatterns = "/admin/auth-tokens/reap")
+public class AuthReaperServlet extends HttpServlet {
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+
+        resp.setContentType("text/plain; charset=UTF-8");
+        resp.setHeader("Cache-Control", "no-store");
+
+        if (!AuthTokenReaper.triggerNow()) {
+            resp.setStatus(HttpServletResponse.SC_CONFLICT);
+            resp.getWriter().println("started=false");
+            return;
+        }
+
+        resp.getWriter().println("started=true");
+        LoggerUtil.info(AuthReaperServlet.class, "Auth token reaper triggered by hand.");
+    }
+}
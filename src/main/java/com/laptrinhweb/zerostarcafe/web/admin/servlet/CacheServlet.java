@@ -0,0 +1,59 @@
+package com.laptrinhweb.zerostarcafe.web.admin.servlet;
+
+import com.laptrinhweb.zerostarcafe.core.cache.ReferenceCache;
+import com.laptrinhweb.zerostarcafe.core.utils.I18n;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Invalidates reference caches by hand, e.g. after editing stores directly
+ * in the database. {@code POST /admin/cache?name=stores} drops one cache,
+ * without {@code name} all of them; {@code name=i18n} reloads the translation
+ * catalogs from disk. Protected by {@code RoleStage}.
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@WebServlet(name = "CacheServlet", urlPatterns = "/admin/cache")
+public class CacheServlet extends HttpServlet {
+
+    private static final String I18N_CACHE = "i18n";
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+
+        resp.setContentType("text/plain; charset=UTF-8");
+        resp.setHeader("Cache-Control", "no-store");
+
+        String name = req.getParameter("name");
+        if (I18N_CACHE.equals(name)) {
+            I18n.reload();
+            resp.getWriter().println("invalidated=" + I18N_CACHE);
+            return;
+        }
+
+        if (name == null || name.isBlank()) {
+            ReferenceCache.names().forEach(ReferenceCache::invalidate);
+            resp.getWriter().println("invalidated=" + String.join(",", ReferenceCache.names()));
+            LoggerUtil.info(CacheServlet.class, "All reference caches invalidated.");
+            return;
+        }
+
+        if (!ReferenceCache.invalidate(name)) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        resp.getWriter().println("invalidated=" + name);
+        LoggerUtil.info(CacheServlet.class, "Reference cache invalidated: " + name);
+    }
+}
@@ -0,0 +1,40 @@
+package com.laptrinhweb.zerostarcafe.web.admin.servlet;
+
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Exposes all registered {@link MetricsRegistry} values as plain text
+ * ({@code group.name=value}, one per line). Protected by {@code RoleStage}.
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@WebServlet(name = "MetricsServlet", urlPatterns = "/admin/metrics")
+public class MetricsServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+
+        resp.setContentType("text/plain; charset=UTF-8");
+        resp.setHeader("Cache-Control", "no-store");
+
+        PrintWriter out = resp.getWriter();
+        for (Map.Entry<String, Map<String, Object>> group : MetricsRegistry.snapshot().entrySet()) {
+            for (Map.Entry<String, Object> metric : group.getValue().entrySet()) {
+                out.println(group.getKey() + "." + metric.getKey() + "=" + metric.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.laptrinhweb.zerostarcafe.web.admin.servlet;
+
+import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import com.laptrinhweb.zerostarcafe.core.utils.CsvUtil;
+import com.laptrinhweb.zerostarcafe.domain.user.model.StaffImportResult;
+import com.laptrinhweb.zerostarcafe.domain.user.service.StaffImportService;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.MultipartConfig;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Bulk-creates staff accounts from a CSV file
+ * ({@code email,username,password,store_id[,role]}).
+ * {@code POST /admin/staff/import} accepts a multipart upload in the
+ * {@code file} field or a raw {@code text/csv} body and answers with a CSV
+ * of per-row results. Protected by {@code RoleStage}.
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@WebServlet(name = "StaffImportServlet", urlPatterns = "/admin/staff/import")
+@MultipartConfig(
+        fileSizeThreshold = 1024 * 256,      // 256KB
+        maxFileSize = 1024 * 1024,           // 1MB
+        maxRequestSize = 1024 * 1024 * 2     // 2MB
+)
+public class StaffImportServlet extends HttpServlet {
+
+    private final StaffImportService importService = new StaffImportService();
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+
+        List<StaffImportResult> results;
+        try (Reader csv = openCsv(req)) {
+            if (csv == null) {
+                resp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Missing CSV file");
+                return;
+            }
+            results = importService.importCsv(csv);
+        } catch (AppException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        resp.setContentType("text/csv; charset=UTF-8");
+        resp.setHeader("Cache-Control", "no-store");
+        resp.setHeader("Content-Disposition", "attachment; filename=\"staff-import-result.csv\"");
+
+        PrintWriter out = resp.getWriter();
+        out.println("line,username,status,message,user_id");
+        for (StaffImportResult r : results) {
+            out.println(r.line() + ","
+                    + CsvUtil.escape(r.username()) + ","
+                    + r.status() + ","
+                    + CsvUtil.escape(r.messageKey()) + ","
+                    + (r.userId() != null ? r.userId() : ""));
+        }
+    }
+
+    private Reader openCsv(HttpServletRequest req) throws IOException, ServletException {
+        String type = req.getContentType();
+        if (type != null && type.startsWith("multipart/")) {
+            Part part = req.getPart("file");
+            return part == null || part.getSize() == 0
+                    ? null
+                    : new InputStreamReader(part.getInputStream(), StandardCharsets.UTF_8);
+        }
+
+        req.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return req.getReader();
+    }
+}
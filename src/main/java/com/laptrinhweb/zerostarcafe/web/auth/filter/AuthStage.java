@@ -2,7 +2,6 @@ package com.laptrinhweb.zerostarcafe.web.auth.filter;
 
 import com.laptrinhweb.zerostarcafe.core.security.SecurityKeys;
 import com.laptrinhweb.zerostarcafe.core.utils.ContextUtil;
-import com.laptrinhweb.zerostarcafe.core.utils.PathUtil;
 import com.laptrinhweb.zerostarcafe.domain.auth.dto.RequestInfoDTO;
 import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthContext;
 import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthResult;
@@ -10,54 +9,64 @@ import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthStatus;
 import com.laptrinhweb.zerostarcafe.domain.auth.service.AuthReqService;
 import com.laptrinhweb.zerostarcafe.web.auth.mapper.AuthWebMapper;
 import com.laptrinhweb.zerostarcafe.web.auth.session.AuthSessionManager;
-import jakarta.servlet.*;
-import jakarta.servlet.annotation.WebFilter;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.PipelineStage;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.RequestContext;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.StageChain;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * <h2>Description:</h2>
  * <p>
- * Global authentication filter. It checks user sessions,
+ * Global authentication stage. It checks user sessions,
  * validates auth cookies, restores missing sessions,
  * and supports token/session rotation.
  * </p>
+ * <p>
+ * The signed-in user (if any) is exposed as the request attribute
+ * {@link SecurityKeys#REQ_AUTH_USER}, so views can render it without
+ * touching (or creating) the {@code HttpSession}.
+ * </p>
  *
  * @author Dang Van Trung
- * @version 1.1.1
- * @lastModified 13/12/2025
+ * @version 1.3.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
-@WebFilter(filterName = "AuthFilter", urlPatterns = "/*")
-public class AuthFilter implements Filter {
+public class AuthStage implements PipelineStage {
+
+    private static final Set<RouteClass> ROUTES = EnumSet.of(
+            RouteClass.CLIENT, RouteClass.AUTH, RouteClass.ADMIN, RouteClass.API);
 
     private AuthSessionManager sessionManager;
     private final AuthReqService authReqService = new AuthReqService();
 
     @Override
-    public void init(FilterConfig config) throws ServletException {
-        Filter.super.init(config);
-        ServletContext ctx = config.getServletContext();
-
+    public void init(ServletContext ctx) throws ServletException {
         // Load shared AuthSessionManager from servlet context
         this.sessionManager = ContextUtil.require(
                 ctx, SecurityKeys.CTX_AUTH_SESSION_MANAGER, AuthSessionManager.class);
     }
 
     @Override
-    public void doFilter(ServletRequest req, ServletResponse resp,
-                         FilterChain chain) throws IOException, ServletException {
+    public Set<RouteClass> routes() {
+        return ROUTES;
+    }
 
-        HttpServletRequest request = (HttpServletRequest) req;
-        HttpServletResponse response = (HttpServletResponse) resp;
+    @Override
+    public void apply(HttpServletRequest request, HttpServletResponse response,
+                      RequestContext ctx, StageChain chain) throws IOException, ServletException {
 
-        // Skip authentication for static files or when manager is missing
-        String uri = request.getRequestURI();
-        String path = uri.substring(request.getContextPath().length());
-        if (PathUtil.isStatic(path) || sessionManager == null) {
-            chain.doFilter(req, resp);
+        // Skip authentication when manager is missing
+        if (sessionManager == null) {
+            chain.proceed(request, response);
             return;
         }
 
@@ -70,17 +79,20 @@ public class AuthFilter implements Filter {
                 authReqService.handleRequest(reqInfo, currentContext);
 
         // Perform action based on authentication status
+        AuthContext activeContext = null;
         switch (result.getStatus()) {
             case SESSION_ROTATED: {
                 // Token and session ID rotated → update session & cookies
                 AuthContext newContext = result.getData();
                 sessionManager.refreshSession(request, response, newContext);
+                activeContext = newContext;
                 break;
             }
             case SESSION_RESTORED: {
                 // No valid session → restore a new one from cookies
                 AuthContext restoredCtx = result.getData();
                 sessionManager.startSession(request, response, restoredCtx);
+                activeContext = restoredCtx;
                 break;
             }
             case SESSION_INVALID: {
@@ -88,12 +100,16 @@ public class AuthFilter implements Filter {
                 sessionManager.endSession(request, response);
                 break;
             }
-            case SESSION_REUSED, SESSION_NOT_FOUND:
+            case SESSION_REUSED, SESSION_NOT_FOUND, SESSION_THROTTLED:
             default: {
-                // Nothing to update → continue request
+                // Nothing to update (throttled restores keep their cookies) → continue request
+                activeContext = currentContext;
             }
         }
 
-        chain.doFilter(req, resp);
+        if (activeContext != null && activeContext.getAuthUser() != null)
+            request.setAttribute(SecurityKeys.REQ_AUTH_USER, activeContext.getAuthUser());
+
+        chain.proceed(request, response);
     }
 }
\ No newline at end of file
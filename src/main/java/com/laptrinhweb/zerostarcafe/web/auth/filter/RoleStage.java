@@ -0,0 +1,97 @@
+package com.laptrinhweb.zerostarcafe.web.auth.filter;
+
+import com.laptrinhweb.zerostarcafe.core.utils.Flash;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthUser;
+import com.laptrinhweb.zerostarcafe.domain.user.model.UserRole;
+import com.laptrinhweb.zerostarcafe.web.auth.mapper.AuthWebMapper;
+import com.laptrinhweb.zerostarcafe.web.auth.session.AuthSessionState;
+import com.laptrinhweb.zerostarcafe.web.common.routing.AppRoute;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.PipelineStage;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.RequestContext;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.StageChain;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * This stage checks the user's role before allowing access to
+ * protected areas such as "/admin", "/manager", or "/staff".
+ * If the user is not logged in or does not have the correct role,
+ * the stage blocks the request.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * /admin/*   -> requires SUPER_ADMIN
+ * /manager/* -> requires STORE_MANAGER
+ * /staff/*   -> requires STAFF
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.3.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class RoleStage implements PipelineStage {
+
+    private static final Set<RouteClass> ROUTES = EnumSet.of(RouteClass.ADMIN);
+
+    @Override
+    public Set<RouteClass> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public void apply(HttpServletRequest request, HttpServletResponse response,
+                      RequestContext ctx, StageChain chain) throws IOException, ServletException {
+
+        AuthSessionState state = AuthWebMapper.toSessionState(request.getSession(false));
+        AuthUser user = state == null ? null : state.getAuthUser();
+
+        Flash flash = new Flash(request);
+
+        // User not logged in -> redirect to home
+        if (user == null) {
+            flash.error("general.error.userNotLoggedIn").send();
+            AppRoute.HOME.redirect(request, response);
+            return;
+        }
+
+        String path = ctx.path().toLowerCase(Locale.ROOT); // /admin/dashboard
+
+        // Check individual role requirements
+        if (isUnder(path, "/admin") && !user.hasRole(UserRole.SUPER_ADMIN)) {
+            AppRoute.sendError(HttpServletResponse.SC_FORBIDDEN, response);
+            return;
+        }
+
+        if (isUnder(path, "/manager") && !user.hasRole(UserRole.STORE_MANAGER)) {
+            AppRoute.sendError(HttpServletResponse.SC_FORBIDDEN, response);
+            return;
+        }
+
+        if (isUnder(path, "/staff") && !user.hasRole(UserRole.STAFF)) {
+            AppRoute.sendError(HttpServletResponse.SC_FORBIDDEN, response);
+            return;
+        }
+
+        // User passed all checks -> continue request
+        chain.proceed(request, response);
+    }
+
+    /**
+     * @return {@code true} for {@code area} itself and everything below it
+     */
+    private static boolean isUnder(String path, String area) {
+        return path.startsWith(area)
+                && (path.length() == area.length() || path.charAt(area.length()) == '/');
+    }
+}
\ No newline at end of file
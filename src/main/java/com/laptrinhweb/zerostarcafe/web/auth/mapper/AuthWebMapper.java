@@ -4,13 +4,10 @@ import com.laptrinhweb.zerostarcafe.core.security.CookieUtil;
 import com.laptrinhweb.zerostarcafe.core.security.SecurityKeys;
 import com.laptrinhweb.zerostarcafe.domain.auth.dto.RequestInfoDTO;
 import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthContext;
-import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthSession;
-import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthToken;
-import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthUser;
+import com.laptrinhweb.zerostarcafe.web.auth.session.AuthSessionState;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,8 +24,8 @@ import java.util.List;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 15/12/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class AuthWebMapper {
@@ -48,19 +45,17 @@ public final class AuthWebMapper {
         if (session == null)
             return null;
 
-        AuthUser authUser = (AuthUser)
-                session.getAttribute(SecurityKeys.SESSION_AUTH_USER);
+        AuthSessionState state = toSessionState(session);
+        if (state == null)
+            return new AuthContext(null, null, List.of());
 
-        AuthSession sessionInfo = (AuthSession)
-                session.getAttribute(SecurityKeys.SESSION_AUTH_SESSION);
+        return state.toContext();
+    }
 
-        @SuppressWarnings("unchecked")
-        List<AuthToken> tokens = (List<AuthToken>)
-                session.getAttribute(SecurityKeys.SESSION_AUTH_TOKENS);
-        if (tokens == null) {
-            tokens = new ArrayList<>();
-        }
+    public static AuthSessionState toSessionState(HttpSession session) {
+        if (session == null)
+            return null;
 
-        return new AuthContext(authUser, sessionInfo, tokens);
+        return (AuthSessionState) session.getAttribute(SecurityKeys.SESSION_AUTH_STATE);
     }
 }
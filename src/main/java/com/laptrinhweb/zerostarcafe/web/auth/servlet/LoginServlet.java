@@ -29,8 +29,8 @@ import java.util.Map;
  * Handles user login: validate → authenticate → create session → issue cookies.
  *
  * @author Dang Van Trung
- * @version 1.0.2
- * @lastModified 13/12/2025
+ * @version 1.0.3
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 @WebServlet(name = "LoginServlet", urlPatterns = "/auth/login")
@@ -61,7 +61,7 @@ public class LoginServlet extends HttpServlet {
         // Validate input
         ValidationResult validation = form.validate();
         if (!validation.valid()) {
-            failedLogin(req, resp, form);
+            failedLogin(req, resp, form, "message.login_failed");
             return;
         }
 
@@ -74,7 +74,10 @@ public class LoginServlet extends HttpServlet {
 
         AuthContext context = result.getData();
         if (context == null || !result.isSuccess()) {
-            failedLogin(req, resp, form);
+            String message = result.getStatus() == AuthStatus.SERVER_BUSY
+                    ? "message.server_busy"
+                    : "message.login_failed";
+            failedLogin(req, resp, form, message);
             return;
         }
 
@@ -101,10 +104,11 @@ public class LoginServlet extends HttpServlet {
 
     private void failedLogin(HttpServletRequest req,
                              HttpServletResponse resp,
-                             LoginDTO form) throws IOException {
+                             LoginDTO form,
+                             String message) throws IOException {
         // Show fail message
         Flash flash = new Flash(req);
-        flash.error("message.login_failed")
+        flash.error(message)
                 .formResponse(form.formState(), Map.of())
                 .set("openModal", "login")
                 .send();
@@ -21,8 +21,8 @@ import java.util.Map;
  * Handles user register: validate → register.
  *
  * @author Dang Van Trung
- * @version 1.0.1
- * @lastModified 13/12/2025
+ * @version 1.0.2
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 @WebServlet(name = "RegisterServlet", urlPatterns = "/auth/register")
@@ -45,7 +45,7 @@ public class RegisterServlet extends HttpServlet {
         // Validate input
         ValidationResult validation = form.validate();
         if (!validation.valid()) {
-            failedRegister(form, validation.fieldErrors(), req, resp);
+            failedRegister(form, validation.fieldErrors(), "message.register_failed", req, resp);
             return;
         }
 
@@ -64,7 +64,10 @@ public class RegisterServlet extends HttpServlet {
         if (authResult.getStatus() == AuthStatus.USERNAME_EXISTS)
             fieldErrors.put("regUsername", "form.username_exists");
 
-        failedRegister(form, fieldErrors, req, resp);
+        String message = authResult.getStatus() == AuthStatus.SERVER_BUSY
+                ? "message.server_busy"
+                : "message.register_failed";
+        failedRegister(form, fieldErrors, message, req, resp);
     }
 
     private void successRegister(HttpServletRequest req, HttpServletResponse resp)
@@ -80,12 +83,13 @@ public class RegisterServlet extends HttpServlet {
 
     private void failedRegister(RegisterDTO form,
                                 Map<String, String> fieldErrors,
+                                String message,
                                 HttpServletRequest req,
                                 HttpServletResponse resp) throws IOException {
 
         // Show fail message
         Flash flash = new Flash(req);
-        flash.error("message.register_failed")
+        flash.error(message)
                 .formResponse(form.formState(), fieldErrors)
                 .set("openModal", "register")
                 .send();
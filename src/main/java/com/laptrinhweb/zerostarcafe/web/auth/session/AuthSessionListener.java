@@ -1,20 +1,20 @@
 package com.laptrinhweb.zerostarcafe.web.auth.session;
 
 import com.laptrinhweb.zerostarcafe.core.security.SecurityKeys;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
-import jakarta.servlet.http.HttpSession;
-
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Initializes the shared AuthSessionManager at application startup.
+ * Initializes the shared AuthSessionManager at application startup, with
+ * the session registry chosen by {@code auth.sessions.registry}
+ * ({@code jdbc} for several nodes, {@code memory} for one node / tests).
  *
  * @author Dang Van Trung
- * @version 1.1.0
- * @lastModified 22/11/2025
+ * @version 1.2.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 @WebListener
@@ -27,8 +27,11 @@ public class AuthSessionListener implements ServletContextListener {
         ServletContext ctx = event.getServletContext();
 
         // Enforce single active session per user
-        var userSessions = new ConcurrentHashMap<Long, HttpSession>();
-        sessionManager = new AuthSessionManager(userSessions);
+        SessionRegistry registry = "memory".equalsIgnoreCase(AppConfig.get("auth.sessions.registry", "jdbc"))
+                ? new InMemorySessionRegistry()
+                : new JdbcSessionRegistry(AppConfig.getLong("auth.sessions.pollMs", 2_000));
+        registry.start();
+        sessionManager = new AuthSessionManager(registry);
 
         ctx.setAttribute(SecurityKeys.CTX_AUTH_SESSION_MANAGER, sessionManager);
     }
@@ -36,7 +39,7 @@ public class AuthSessionListener implements ServletContextListener {
     @Override
     public void contextDestroyed(ServletContextEvent event) {
         ServletContext ctx = event.getServletContext();
-        sessionManager.getUserSessions().clear();
+        sessionManager.getRegistry().shutdown();
         ctx.removeAttribute(SecurityKeys.CTX_AUTH_SESSION_MANAGER);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.laptrinhweb.zerostarcafe.web.auth.session;
 import com.laptrinhweb.zerostarcafe.core.security.AppCookie;
 import com.laptrinhweb.zerostarcafe.core.security.CookieUtil;
 import com.laptrinhweb.zerostarcafe.core.security.SecurityKeys;
+import com.laptrinhweb.zerostarcafe.core.security.TokenUtil;
 import com.laptrinhweb.zerostarcafe.core.utils.TimeUtil;
 import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthContext;
 import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthToken;
@@ -16,14 +17,19 @@ import lombok.Getter;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h2>Description:</h2>
  * <p>
  * Manages user HTTP sessions at application level. It keeps track of
- * the active session per user, updates session data, writes cookies,
- * and removes old sessions when needed.
+ * the active session per user through a {@link SessionRegistry}, updates
+ * session data, writes cookies, and drops revoked sessions when they are
+ * next used. Sessions of the same browser (same device id) are never
+ * revoked by one another.
+ * </p>
+ * <p>
+ * All auth data of a session lives in one compact {@link AuthSessionState}
+ * attribute.
  * </p>
  *
  * <h2>Example Usage:</h2>
@@ -33,23 +39,25 @@ import java.util.concurrent.ConcurrentHashMap;
  * }</pre>
  *
  * @author Dang Van Trung
- * @version 1.1.1
- * @lastModified 13/12/2025
+ * @version 1.4.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 
 @Getter
 public final class AuthSessionManager {
 
-    private final ConcurrentHashMap<Long, HttpSession> userSessions;
+    private final SessionRegistry registry;
 
-    public AuthSessionManager(ConcurrentHashMap<Long, HttpSession> userSessions) {
-        this.userSessions = userSessions;
+    public AuthSessionManager(SessionRegistry registry) {
+        this.registry = registry;
     }
 
     /**
      * Builds an AuthContext from the current HttpSession.
-     * If the session does not exist, null is returned.
+     * If the session does not exist, null is returned. A session that the
+     * {@link SessionRegistry} reports as revoked (the user logged in from
+     * another browser, on any node) is invalidated here and null is returned.
      *
      * @param request incoming HTTP request
      * @return AuthContext or null if no session is found
@@ -62,6 +70,12 @@ public final class AuthSessionManager {
         if (session == null)
             return null;
 
+        AuthSessionState state = AuthWebMapper.toSessionState(session);
+        AuthUser user = state == null ? null : state.getAuthUser();
+        if (user != null && registry.isRevoked(user.getId(), session.getId(), state.getDeviceKey())) {
+            invalidateQuietly(session);
+            return null;
+        }
         return AuthWebMapper.toAuthContext(session);
     }
 
@@ -86,13 +100,9 @@ public final class AuthSessionManager {
         HttpSession session = request.getSession();
         request.changeSessionId();
 
-        AuthUser user = context.getAuthUser();
-        if (user != null) {
-            revokeSession(user.getId());
-            userSessions.put(user.getId(), session);
-        }
-
-        applyContext(session, context);
+        // Other browsers' sessions of this user are revoked (on any node)
+        AuthSessionState state = applyContext(session, context);
+        activate(session, state);
         writeCookies(response, context);
     }
 
@@ -121,7 +131,8 @@ public final class AuthSessionManager {
         }
 
         request.changeSessionId();
-        applyContext(session, context);
+        AuthSessionState state = applyContext(session, context);
+        activate(session, state);
         writeCookies(response, context);
     }
 
@@ -161,8 +172,8 @@ public final class AuthSessionManager {
     }
 
     /**
-     * Removes the active session of a specific user.
-     * If a session exists, it will be invalidated and deleted.
+     * Revokes the active session of a specific user on every node;
+     * it is invalidated on its next request.
      *
      * @param userId ID of the user whose session should be revoked
      */
@@ -170,23 +181,38 @@ public final class AuthSessionManager {
         if (userId == null)
             return;
 
-        HttpSession currentSession = userSessions.remove(userId);
-        if (currentSession != null) {
-            try {
-                currentSession.invalidate();
-            } catch (IllegalStateException ignore) {
-                // Already invalidated
-            }
+        registry.revoke(userId);
+    }
+
+    /**
+     * Registers the session as the user's active one under its current id.
+     */
+    private void activate(HttpSession session, AuthSessionState state) {
+        AuthUser user = state.getAuthUser();
+        if (user == null)
+            return;
+
+        registry.activate(user.getId(), session.getId(), state.getDeviceKey());
+    }
+
+    private void invalidateQuietly(HttpSession session) {
+        try {
+            session.invalidate();
+        } catch (IllegalStateException ignore) {
+            // Already invalidated
         }
     }
 
     /**
-     * Stores AuthContext data inside the session.
+     * Stores AuthContext data inside the session as one attribute.
      */
-    private void applyContext(HttpSession session, AuthContext context) {
-        session.setAttribute(SecurityKeys.SESSION_AUTH_USER, context.getAuthUser());
-        session.setAttribute(SecurityKeys.SESSION_AUTH_SESSION, context.getSessionInfo());
-        session.setAttribute(SecurityKeys.SESSION_AUTH_TOKENS, context.getTokens());
+    private AuthSessionState applyContext(HttpSession session, AuthContext context) {
+        String deviceId = context.getTokenValue(SecurityKeys.TOKEN_DEVICE_ID);
+        AuthSessionState state = AuthSessionState.of(context,
+                deviceId == null ? null : TokenUtil.hashToken(deviceId));
+
+        session.setAttribute(SecurityKeys.SESSION_AUTH_STATE, state);
+        return state;
     }
 
     /**
@@ -0,0 +1,177 @@
+package com.laptrinhweb.zerostarcafe.web.auth.session;
+
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthContext;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthSession;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthToken;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthUser;
+import lombok.Getter;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Everything the auth layer keeps in an {@code HttpSession}, as one
+ * attribute ({@link com.laptrinhweb.zerostarcafe.core.security.SecurityKeys#SESSION_AUTH_STATE}):
+ * the user, the session timing, the auth cookies and the device key.
+ * </p>
+ * <p>
+ * It is written with a small versioned binary format instead of default
+ * serialization: no class descriptors, strings as UTF and timestamps as
+ * epoch milliseconds. That keeps persisted sessions small and quick to
+ * reload when Tomcat restarts. A new format gets a new {@code VERSION};
+ * unknown versions are rejected, which simply drops the session.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * session.setAttribute(SecurityKeys.SESSION_AUTH_STATE, AuthSessionState.of(context, deviceKey));
+ * AuthContext context = state.toContext();
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@Getter
+public final class AuthSessionState implements Externalizable {
+
+    private static final byte VERSION = 1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private AuthUser authUser;
+    private AuthSession sessionInfo;
+    private List<AuthToken> tokens;
+    private String deviceKey;
+
+    /**
+     * Required by {@link Externalizable}; use {@link #of}.
+     */
+    public AuthSessionState() {
+    }
+
+    private AuthSessionState(AuthUser authUser, AuthSession sessionInfo,
+                             List<AuthToken> tokens, String deviceKey) {
+        this.authUser = authUser;
+        this.sessionInfo = sessionInfo;
+        this.tokens = tokens == null ? List.of() : List.copyOf(tokens);
+        this.deviceKey = deviceKey;
+    }
+
+    /**
+     * @param context   authenticated context
+     * @param deviceKey hash of the device id cookie, may be {@code null}
+     * @return the session value; shares the context's {@link AuthSession}
+     */
+    public static AuthSessionState of(AuthContext context, String deviceKey) {
+        return new AuthSessionState(context.getAuthUser(), context.getSessionInfo(),
+                context.getTokens(), deviceKey);
+    }
+
+    /**
+     * @return a context over this state; its {@link AuthSession} is the one
+     * stored here, so concurrent requests of the session see the same instance
+     */
+    public AuthContext toContext() {
+        return new AuthContext(authUser, sessionInfo, tokens);
+    }
+
+    // ==========================================================
+    // SERIALIZATION
+    // ==========================================================
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeByte(VERSION);
+
+        out.writeBoolean(authUser != null);
+        if (authUser != null) {
+            out.writeLong(authUser.getId() == null ? -1 : authUser.getId());
+            writeString(out, authUser.getUsername());
+            writeString(out, authUser.getEmail());
+            out.writeBoolean(authUser.isSuperAdmin());
+            List<String> roles = authUser.getRoleCodes() == null ? List.of() : authUser.getRoleCodes();
+            out.writeShort(roles.size());
+            for (String role : roles)
+                out.writeUTF(role);
+        }
+
+        out.writeBoolean(sessionInfo != null);
+        if (sessionInfo != null) {
+            writeTime(out, sessionInfo.getExpiredAt());
+            writeTime(out, sessionInfo.getLastRotatedAt());
+        }
+
+        out.writeShort(tokens.size());
+        for (AuthToken token : tokens) {
+            out.writeUTF(token.getName());
+            writeString(out, token.getValue());
+            writeTime(out, token.getExpiredAt());
+        }
+
+        writeString(out, deviceKey);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != VERSION)
+            throw new InvalidClassException(AuthSessionState.class.getName(),
+                    "unsupported session state version " + version);
+
+        if (in.readBoolean()) {
+            long id = in.readLong();
+            String username = readString(in);
+            String email = readString(in);
+            boolean superAdmin = in.readBoolean();
+            int roleCount = in.readUnsignedShort();
+            List<String> roles = new ArrayList<>(roleCount);
+            for (int i = 0; i < roleCount; i++)
+                roles.add(in.readUTF());
+            authUser = new AuthUser(id < 0 ? null : id, username, email, superAdmin, roles);
+        }
+
+        if (in.readBoolean())
+            sessionInfo = new AuthSession(readTime(in), readTime(in));
+
+        int tokenCount = in.readUnsignedShort();
+        List<AuthToken> read = new ArrayList<>(tokenCount);
+        for (int i = 0; i < tokenCount; i++)
+            read.add(new AuthToken(in.readUTF(), readString(in), readTime(in)));
+        tokens = List.copyOf(read);
+
+        deviceKey = readString(in);
+    }
+
+    private static void writeString(ObjectOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeUTF(value);
+    }
+
+    private static String readString(ObjectInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeTime(ObjectOutput out, LocalDateTime time) throws IOException {
+        out.writeLong(time == null ? NULL_TIME : time.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    private static LocalDateTime readTime(ObjectInput in) throws IOException {
+        long millis = in.readLong();
+        return millis == NULL_TIME ? null
+                : LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+}
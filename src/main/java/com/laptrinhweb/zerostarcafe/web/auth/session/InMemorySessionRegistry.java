@@ -0,0 +1,89 @@
+package com.laptrinhweb.zerostarcafe.web.auth.session;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * {@link SessionRegistry} kept in one map (user id &rarr; active session id
+ * and device key). Enough for a single node and for tests; also serves as
+ * the local view of {@link JdbcSessionRegistry}.
+ * </p>
+ * <p>
+ * Every entry carries a version; an older entry never replaces a newer
+ * one, so a late write (e.g. a poll that read the database just before a
+ * login) cannot bring back a superseded session.
+ * </p>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class InMemorySessionRegistry implements SessionRegistry {
+
+    /**
+     * The user's active session; an empty session id and device key
+     * revoke everything (logout). Higher versions are newer.
+     */
+    protected record Entry(String sessionId, String deviceKey, long version) {
+
+        static Entry revoked(long version) {
+            return new Entry("", "", version);
+        }
+
+        boolean revokes(String otherSessionId, String otherDeviceKey) {
+            return !sessionId.equals(otherSessionId)
+                    && (otherDeviceKey == null || !deviceKey.equals(otherDeviceKey));
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Entry> active = new ConcurrentHashMap<>();
+
+    @Override
+    public void activate(long userId, String sessionId, String deviceKey) {
+        apply(userId, new Entry(sessionId, deviceKey == null ? "" : deviceKey, nextVersion(userId)));
+    }
+
+    @Override
+    public void revoke(long userId) {
+        apply(userId, Entry.revoked(nextVersion(userId)));
+    }
+
+    @Override
+    public boolean isRevoked(long userId, String sessionId, String deviceKey) {
+        Entry entry = active.get(userId);
+        return entry != null && entry.revokes(sessionId, deviceKey);
+    }
+
+    /**
+     * Stores the entry unless the current one is newer; equal versions
+     * are replaced.
+     *
+     * @return {@code true} if the entry was stored
+     */
+    protected boolean apply(long userId, Entry entry) {
+        return active.merge(userId, entry,
+                (current, next) -> next.version() >= current.version() ? next : current) == entry;
+    }
+
+    /**
+     * @return a version newer than the user's current entry
+     */
+    protected long nextVersion(long userId) {
+        Entry current = active.get(userId);
+        return Math.max(System.currentTimeMillis(), current == null ? 0 : current.version() + 1);
+    }
+
+    /**
+     * @return version of the user's current entry, 0 if none
+     */
+    protected long versionOf(long userId) {
+        Entry current = active.get(userId);
+        return current == null ? 0 : current.version();
+    }
+
+    protected int size() {
+        return active.size();
+    }
+}
@@ -0,0 +1,149 @@
+package com.laptrinhweb.zerostarcafe.web.auth.session;
+
+import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+import com.laptrinhweb.zerostarcafe.domain.auth.session.UserSession;
+import com.laptrinhweb.zerostarcafe.domain.auth.session.UserSessionDAOImpl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Cluster-wide {@link SessionRegistry}. Activations and logouts are written
+ * to {@code user_sessions} (one row per user) and applied locally at once;
+ * a background poller reads the rows changed since the last poll, so a login
+ * on node A revokes the session on node B within one poll interval.
+ * Requests only ever read the local view, never the database.
+ * </p>
+ * <p>
+ * Entries are versioned by the row's {@code updated_at}: a local write
+ * applies the time the database stored, and a polled row older than the
+ * local entry is skipped.
+ * </p>
+ * <p>
+ * If the database cannot be reached the registry keeps working locally.
+ * Counters are published as {@code auth.sessions} metrics.
+ * </p>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class JdbcSessionRegistry extends InMemorySessionRegistry {
+
+    // Re-read a little history each poll: rows committed late keep older timestamps
+    private static final long OVERLAP_MS = 2_000;
+
+    private final long pollMs;
+    private final ScheduledExecutorService poller;
+    private volatile LocalDateTime lastSeen = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public JdbcSessionRegistry(long pollMs) {
+        this.pollMs = Math.max(200, pollMs);
+        this.poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "session-registry-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        MetricsRegistry.register("auth.sessions", this::metrics);
+    }
+
+    @Override
+    public void activate(long userId, String sessionId, String deviceKey) {
+        write(userId, sessionId, deviceKey == null ? "" : deviceKey);
+    }
+
+    @Override
+    public void revoke(long userId) {
+        write(userId, "", "");
+    }
+
+    @Override
+    public void start() {
+        poller.scheduleWithFixedDelay(this::poll, 0, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    /**
+     * Writes the row first, then applies it locally under the version the
+     * database stored.
+     */
+    private void write(long userId, String sessionId, String deviceKey) {
+        long version;
+        try (Connection conn = DBConnection.getConnection()) {
+            LocalDateTime updatedAt = new UserSessionDAOImpl(conn).upsert(userId, sessionId, deviceKey);
+            version = updatedAt == null ? versionOf(userId) : toVersion(updatedAt);
+        } catch (SQLException e) {
+            failures.incrementAndGet();
+            LoggerUtil.warn(JdbcSessionRegistry.class,
+                    "Session registry write failed, kept locally: " + e.getMessage());
+            // Just above the local entry: wins now and over re-polled rows,
+            // loses to any row written later
+            version = versionOf(userId) + 1;
+        }
+        apply(userId, new Entry(sessionId, deviceKey, version));
+    }
+
+    private void poll() {
+        try (Connection conn = DBConnection.getConnection()) {
+            List<UserSession> changes = new UserSessionDAOImpl(conn)
+                    .findChangedSince(lastSeen.minusNanos(OVERLAP_MS * 1_000_000));
+
+            for (UserSession row : changes) {
+                // Stale rows (older than a local write) are skipped
+                if (apply(row.userId(), new Entry(row.sessionId(), row.deviceKey(), toVersion(row.updatedAt()))))
+                    applied.incrementAndGet();
+                else
+                    stale.incrementAndGet();
+
+                if (row.updatedAt().isAfter(lastSeen))
+                    lastSeen = row.updatedAt();
+            }
+            polls.incrementAndGet();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            LoggerUtil.warn(JdbcSessionRegistry.class, "Session registry poll failed: " + e.getMessage());
+        }
+    }
+
+    private static long toVersion(LocalDateTime updatedAt) {
+        return updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("users", size());
+        m.put("polls", polls.get());
+        m.put("applied", applied.get());
+        m.put("stale", stale.get());
+        m.put("failures", failures.get());
+        m.put("lastSeen", lastSeen.toString());
+        return m;
+    }
+}
@@ -0,0 +1,61 @@
+package com.laptrinhweb.zerostarcafe.web.auth.session;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Tracks the one active HTTP session of every user, so a login elsewhere
+ * revokes the older session. Registries only hold ids, never
+ * {@code HttpSession} objects: a revoked session is noticed and invalidated
+ * by {@link AuthSessionManager#getContext} on its next request, on whichever
+ * node holds it.
+ * </p>
+ * <p>
+ * Sessions of the same browser (same device key, i.e. hash of the device id
+ * cookie) never revoke each other, so parallel restores and session id
+ * changes of one browser are safe.
+ * </p>
+ *
+ * <h2>Implementations:</h2>
+ * <ul>
+ *     <li>{@link InMemorySessionRegistry} - single node, tests</li>
+ *     <li>{@link JdbcSessionRegistry} - shared {@code user_sessions} table,
+ *     polled for changes made by other nodes</li>
+ * </ul>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public interface SessionRegistry {
+
+    /**
+     * Makes a session the user's active one, revoking any other browser's.
+     *
+     * @param userId    the user
+     * @param sessionId current HTTP session id (after any id change)
+     * @param deviceKey hash of the device id cookie
+     */
+    void activate(long userId, String sessionId, String deviceKey);
+
+    /**
+     * Revokes every session of the user (logout).
+     *
+     * @param userId the user
+     */
+    void revoke(long userId);
+
+    /**
+     * @param userId    the session's user
+     * @param sessionId the session id
+     * @param deviceKey the session's device key, may be {@code null}
+     * @return {@code true} if another browser took over, or the user logged out
+     */
+    boolean isRevoked(long userId, String sessionId, String deviceKey);
+
+    default void start() {
+    }
+
+    default void shutdown() {
+    }
+}
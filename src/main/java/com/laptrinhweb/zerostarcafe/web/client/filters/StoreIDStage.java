@@ -1,84 +1,75 @@
 package com.laptrinhweb.zerostarcafe.web.client.filters;
 
-import com.laptrinhweb.zerostarcafe.core.security.CookieUtil;
-import com.laptrinhweb.zerostarcafe.core.utils.PathUtil;
 import com.laptrinhweb.zerostarcafe.domain.store.model.Store;
 import com.laptrinhweb.zerostarcafe.domain.store.model.StoreConstants;
 import com.laptrinhweb.zerostarcafe.domain.store.model.StoreContext;
 import com.laptrinhweb.zerostarcafe.domain.store.service.StoreService;
 import com.laptrinhweb.zerostarcafe.web.client.utils.StoreContextUtil;
-import jakarta.servlet.*;
-import jakarta.servlet.annotation.WebFilter;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.PipelineStage;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.RequestContext;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.StageChain;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
 import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * <h2>Description:</h2>
  * <p>
- * A request filter that checks if the user has a valid StoreContext.
- * The filter loads the context from session, cookies, or fallback by IP.
- * If the context is found, it is saved into the session for later requests.
+ * A pipeline stage that checks if the user has a valid StoreContext.
+ * The stage loads the context from cookies, or fallback by IP, and binds
+ * it to the request. No session is created: cookie values are re-checked
+ * against the cached open stores on every request.
  * </p>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 13/12/2025
+ * @version 1.2.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
-@WebFilter(filterName = "StoreIDFilter", urlPatterns = "/*")
-public class StoreIDFilter implements Filter {
+public class StoreIDStage implements PipelineStage {
+
+    private static final Set<RouteClass> ROUTES = EnumSet.of(RouteClass.CLIENT, RouteClass.AUTH);
 
     private final StoreService storeService = new StoreService();
 
     @Override
-    public void doFilter(ServletRequest req, ServletResponse resp,
-                         FilterChain chain) throws IOException, ServletException {
-
-        HttpServletRequest request = (HttpServletRequest) req;
-        HttpServletResponse response = (HttpServletResponse) resp;
-
-        // 1. Skip static resources request
-        String uri = request.getRequestURI();
-        String path = uri.substring(request.getContextPath().length());
-        if (PathUtil.isStatic(path)) {
-            chain.doFilter(req, resp);
-            return;
-        }
+    public Set<RouteClass> routes() {
+        return ROUTES;
+    }
 
-        // 2. If store context already exists in session -> do nothing
-        HttpSession session = request.getSession();
-        if (session.getAttribute(StoreConstants.Session.CURRENT_STORE_CTX) != null) {
-            chain.doFilter(req, resp);
-            return;
-        }
+    @Override
+    public void apply(HttpServletRequest request, HttpServletResponse response,
+                      RequestContext ctx, StageChain chain) throws IOException, ServletException {
 
-        // 3. Resolve context strategies (Cookie -> IP)
-        StoreContext resolvedCtx = resolveFromCookie(request);
+        // 1. Resolve context strategies (Cookie -> IP); both are served from memory
+        StoreContext resolvedCtx = resolveFromCookie(ctx);
         if (resolvedCtx == null) {
             resolvedCtx = resolveFromGeoIp(request);
         }
 
-        // 4. Update store context Session and Refresh Cookie if found
+        // 2. Bind store context to this request if found
         if (resolvedCtx != null) {
             StoreContextUtil.bind(request, resolvedCtx);
         }
 
-        chain.doFilter(req, resp);
+        chain.proceed(request, response);
     }
 
     /**
      * Tries to create a StoreContext by reading storeId and tableId
      * from browser cookies.
      *
-     * @param request the current HTTP request
+     * @param ctx the current request context
      * @return a valid StoreContext, or null if cookies are missing or invalid
      */
-    private StoreContext resolveFromCookie(HttpServletRequest request) {
-        String rawStoreId = CookieUtil.get(request, StoreConstants.Cookie.LAST_STORE_ID);
-        String rawTableId = CookieUtil.get(request, StoreConstants.Cookie.LAST_TABLE_ID);
+    private StoreContext resolveFromCookie(RequestContext ctx) {
+        String rawStoreId = ctx.cookie(StoreConstants.Cookie.LAST_STORE_ID);
+        String rawTableId = ctx.cookie(StoreConstants.Cookie.LAST_TABLE_ID);
 
         if (rawStoreId == null || rawStoreId.isBlank())
             return null;
@@ -86,7 +77,7 @@ public class StoreIDFilter implements Filter {
         try {
             long storeId = Long.parseLong(rawStoreId);
 
-            // Validate if the store still exists/is active in DB
+            // Validate if the store still exists/is active (cached)
             Store store = storeService.getActiveStoreById(storeId);
             if (store == null)
                 return null;
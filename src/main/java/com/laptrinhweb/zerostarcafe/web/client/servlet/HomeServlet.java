@@ -1,11 +1,14 @@
 package com.laptrinhweb.zerostarcafe.web.client.servlet;
 
+import com.laptrinhweb.zerostarcafe.core.concurrent.PageDataLoader;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
 import com.laptrinhweb.zerostarcafe.domain.category.Category;
 import com.laptrinhweb.zerostarcafe.domain.category.CategoryService;
 import com.laptrinhweb.zerostarcafe.domain.store.model.Store;
 import com.laptrinhweb.zerostarcafe.domain.store.model.StoreConstants;
 import com.laptrinhweb.zerostarcafe.domain.store.model.StoreContext;
 import com.laptrinhweb.zerostarcafe.domain.store.service.StoreService;
+import com.laptrinhweb.zerostarcafe.web.client.utils.StoreContextUtil;
 import com.laptrinhweb.zerostarcafe.web.common.view.View;
 import com.laptrinhweb.zerostarcafe.web.common.view.ViewMap;
 import jakarta.servlet.ServletException;
@@ -13,9 +16,9 @@ import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -32,8 +35,8 @@ import java.util.List;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 11/12/2025
+ * @version 1.2.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 @WebServlet(name = "HomeServlet", urlPatterns = {"/home"})
@@ -42,20 +45,29 @@ public class HomeServlet extends HttpServlet {
     private static final StoreService storeService = new StoreService();
     private static final CategoryService categoryService = new CategoryService();
 
+    // Deadline for all home page reads together
+    private static final Duration LOAD_TIMEOUT =
+            Duration.ofMillis(AppConfig.getLong("page.loadTimeoutMs", 3000));
+
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
 
-        List<Store> stores = storeService.getAllActiveStores();
-        req.setAttribute(StoreConstants.Request.STORE_LIST, stores);
+        StoreContext storeCtx = StoreContextUtil.current(req);
+        Long storeId = storeCtx != null ? storeCtx.getStoreId() : StoreConstants.DEFAULT_STORE_ID;
 
-        HttpSession session = req.getSession();
-        StoreContext storeCtx = (StoreContext) session.getAttribute(StoreConstants.Session.CURRENT_STORE_CTX);
-        Store currentStore = storeService.getActiveStoreById(storeCtx.getStoreId());
-        req.setAttribute(StoreConstants.Request.CURRENT_STORE, currentStore);
+        // Independent reads, loaded concurrently; one connection per fork,
+        // the request's own connection goes back to the pool meanwhile
+        try (PageDataLoader loader = PageDataLoader.open(LOAD_TIMEOUT)) {
+            PageDataLoader.Slot<List<Store>> stores = loader.fork(storeService::getAllActiveStores);
+            PageDataLoader.Slot<Store> currentStore = loader.fork(() -> storeService.getActiveStoreById(storeId));
+            PageDataLoader.Slot<List<Category>> categories = loader.fork(categoryService::loadActiveCategories);
+            loader.join();
 
-        List<Category> categories = categoryService.loadActiveCategories();
-        req.setAttribute(StoreConstants.Request.CATEGORIES, categories);
+            req.setAttribute(StoreConstants.Request.STORE_LIST, stores.get());
+            req.setAttribute(StoreConstants.Request.CURRENT_STORE, currentStore.get());
+            req.setAttribute(StoreConstants.Request.CATEGORIES, categories.get());
+        }
 
         View.render(ViewMap.Client.HOME, req, resp);
     }
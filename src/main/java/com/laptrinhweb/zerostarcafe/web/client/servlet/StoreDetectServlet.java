@@ -1,6 +1,8 @@
 package com.laptrinhweb.zerostarcafe.web.client.servlet;
 
 import com.laptrinhweb.zerostarcafe.core.location.Location;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.domain.store.model.NearbyStore;
 import com.laptrinhweb.zerostarcafe.domain.store.model.Store;
 import com.laptrinhweb.zerostarcafe.domain.store.model.StoreContext;
 import com.laptrinhweb.zerostarcafe.domain.store.service.StoreService;
@@ -14,6 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * <h2>Description:</h2>
@@ -29,19 +32,28 @@ import java.io.IOException;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 12/12/2025
+ * @version 1.1.1
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
-@WebServlet(name = "StoreDetectServlet", urlPatterns = {"/store-detect"})
+@WebServlet(name = "StoreDetectServlet", urlPatterns = {"/store-detect", "/store-detect/nearby"})
 public class StoreDetectServlet extends HttpServlet {
 
+    private static final String NEARBY_PATH = "/store-detect/nearby";
+    private static final int NEARBY_MAX_LIMIT = AppConfig.getInt("store.nearby.maxLimit", 20);
+    private static final double NEARBY_RADIUS_KM = AppConfig.getDouble("store.nearby.radiusKm", 20);
+
     private final StoreService storeService = new StoreService();
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
 
+        if (NEARBY_PATH.equals(req.getServletPath())) {
+            listNearby(req, resp);
+            return;
+        }
+
         Location clientLoc = LocationMapper.from(req);
         if (clientLoc == null) {
             AppRoute.HOME.redirect(req, resp);
@@ -56,4 +68,66 @@ public class StoreDetectServlet extends HttpServlet {
 
         AppRoute.HOME.redirect(req, resp);
     }
+
+    /**
+     * "Stores near me": open stores around {@code lat/lon} as JSON,
+     * nearest first. Optional {@code limit} caps the number of stores.
+     */
+    private void listNearby(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+
+        Location clientLoc = LocationMapper.from(req);
+        if (clientLoc == null) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        int limit = parseLimit(req.getParameter("limit"));
+        List<NearbyStore> nearby = storeService.findStoresNear(clientLoc, limit, NEARBY_RADIUS_KM);
+
+        StringBuilder json = new StringBuilder("[");
+        for (NearbyStore n : nearby) {
+            if (json.length() > 1)
+                json.append(',');
+            json.append("{\"id\":").append(n.getStore().getId())
+                    .append(",\"name\":\"").append(escapeJson(n.getStore().getName()))
+                    .append("\",\"address\":\"").append(escapeJson(n.getStore().getAddress()))
+                    .append("\",\"distanceKm\":").append(Math.round(n.getDistanceKm() * 100) / 100.0)
+                    .append('}');
+        }
+        json.append(']');
+
+        resp.setContentType("application/json; charset=UTF-8");
+        resp.getWriter().write(json.toString());
+    }
+
+    private static int parseLimit(String raw) {
+        try {
+            int limit = raw == null ? NEARBY_MAX_LIMIT : Integer.parseInt(raw.trim());
+            return Math.clamp(limit, 1, NEARBY_MAX_LIMIT);
+        } catch (NumberFormatException e) {
+            return NEARBY_MAX_LIMIT;
+        }
+    }
+
+    private static String escapeJson(String value) {
+        if (value == null)
+            return "";
+
+        StringBuilder sb = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '<' -> sb.append("\\u003c");
+                default -> {
+                    if (c < 0x20)
+                        sb.append(String.format("\\u%04x", (int) c));
+                    else
+                        sb.append(c);
+                }
+            }
+        }
+        return sb.toString();
+    }
 }
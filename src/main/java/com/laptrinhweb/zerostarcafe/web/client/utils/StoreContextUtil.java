@@ -8,7 +8,6 @@ import com.laptrinhweb.zerostarcafe.domain.store.model.StoreContext;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
 import java.time.LocalDateTime;
 
@@ -16,7 +15,7 @@ import java.time.LocalDateTime;
  * <h2>Description:</h2>
  * <p>
  * Utility class for storing and loading the current store context.
- * It helps save the context into session and also write related cookies
+ * It binds the context to the current request and also writes related cookies
  * such as storeId and tableId for later requests.
  * </p>
  *
@@ -29,8 +28,8 @@ import java.time.LocalDateTime;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 12/12/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public class StoreContextUtil {
@@ -39,21 +38,31 @@ public class StoreContextUtil {
     }
 
     /**
-     * Saves the store context into the user's session.
+     * Binds the store context to the current request.
+     * Later requests rebuild it from cookies, so no session is needed.
      *
      * @param req the incoming HTTP request
-     * @param ctx the store context to save
+     * @param ctx the store context to bind
      */
     public static void bind(HttpServletRequest req, StoreContext ctx) {
         if (ctx == null)
             return;
 
-        HttpSession session = req.getSession();
-        session.setAttribute(StoreConstants.Session.CURRENT_STORE_CTX, ctx);
+        req.setAttribute(StoreConstants.Request.STORE_CONTEXT, ctx);
     }
 
     /**
-     * Saves the store context to both session and cookies.
+     * Returns the store context bound to the current request.
+     *
+     * @param req the incoming HTTP request
+     * @return the store context, or null if none was resolved
+     */
+    public static StoreContext current(HttpServletRequest req) {
+        return (StoreContext) req.getAttribute(StoreConstants.Request.STORE_CONTEXT);
+    }
+
+    /**
+     * Saves the store context to both the request and cookies.
      * Writes storeId and tableId cookies if available.
      * Clears tableId cookie when the value is null.
      *
@@ -0,0 +1,44 @@
+package com.laptrinhweb.zerostarcafe.web.common.filters;
+
+import com.laptrinhweb.zerostarcafe.core.database.ConnectionScope;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.PipelineStage;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.RequestContext;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.StageChain;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Opens a {@link ConnectionScope} around each dynamic request so stages,
+ * servlets and services share at most one pooled connection.
+ * Runs before every stage that may touch the database.
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class ConnectionScopeStage implements PipelineStage {
+
+    private static final Set<RouteClass> ROUTES = EnumSet.of(
+            RouteClass.CLIENT, RouteClass.AUTH, RouteClass.ADMIN, RouteClass.API);
+
+    @Override
+    public Set<RouteClass> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public void apply(HttpServletRequest request, HttpServletResponse response,
+                      RequestContext ctx, StageChain chain) throws IOException, ServletException {
+
+        try (ConnectionScope ignored = ConnectionScope.open()) {
+            chain.proceed(request, response);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.laptrinhweb.zerostarcafe.web.common.filters;
+
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.PipelineStage;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.RequestContext;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.StageChain;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Catches unhandled exceptions from the later stages and the servlet,
+ * and sends a 500 error to the container's error handler.
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class ErrorStage implements PipelineStage {
+
+    private static final Set<RouteClass> ROUTES = EnumSet.of(
+            RouteClass.CLIENT, RouteClass.AUTH, RouteClass.ADMIN, RouteClass.API);
+
+    @Override
+    public Set<RouteClass> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public void apply(HttpServletRequest request, HttpServletResponse response,
+                      RequestContext ctx, StageChain chain) throws IOException, ServletException {
+
+        try {
+            chain.proceed(request, response);
+        } catch (Exception e) {
+            if (response.isCommitted()) {
+                LoggerUtil.warn(getClass(), "Response already committed.");
+                throw new ServletException(e);
+            }
+
+            LoggerUtil.error(getClass(), "Unhandled exception", e);
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.laptrinhweb.zerostarcafe.web.common.filters;
+
+import com.laptrinhweb.zerostarcafe.core.utils.Flash;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.PipelineStage;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.RequestContext;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.StageChain;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moves flash data from session to request, then clears it (PRG support).
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class FlashStage implements PipelineStage {
+
+    private static final Set<RouteClass> ROUTES = EnumSet.of(
+            RouteClass.CLIENT, RouteClass.AUTH, RouteClass.ADMIN);
+
+    @Override
+    public Set<RouteClass> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public void apply(HttpServletRequest request, HttpServletResponse response,
+                      RequestContext ctx, StageChain chain) throws IOException, ServletException {
+
+        HttpSession session = request.getSession(false);
+
+        if (session != null) {
+            synchronized (session) {
+                Object bag = session.getAttribute(Flash.FLASH_KEY);
+
+                if (bag instanceof Map<?, ?> flash && !flash.isEmpty()) {
+                    flash.forEach((k, v) ->
+                            request.setAttribute(String.valueOf(k), v)
+                    );
+                    session.removeAttribute(Flash.FLASH_KEY);
+                }
+            }
+        }
+
+        chain.proceed(request, response);
+    }
+}
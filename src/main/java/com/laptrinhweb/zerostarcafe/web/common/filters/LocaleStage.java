@@ -0,0 +1,77 @@
+package com.laptrinhweb.zerostarcafe.web.common.filters;
+
+import com.laptrinhweb.zerostarcafe.core.security.AppCookie;
+import com.laptrinhweb.zerostarcafe.core.utils.I18n;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.PipelineStage;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.RequestContext;
+import com.laptrinhweb.zerostarcafe.web.common.pipeline.StageChain;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Resolves user locale (param → cookie → default) and prepares I18n for JSP.
+ * <p>
+ * Locale and I18n are request attributes; a chosen language is remembered
+ * in the {@code lang} cookie, so anonymous browsing never creates a session.
+ * Also runs on error dispatches so error pages are translated.
+ *
+ * @author Dang Van Trung
+ * @version 1.3.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public class LocaleStage implements PipelineStage {
+
+    public static final String LOCALE_ATTR = "locale";
+    public static final String I18N_ATTR = "i18n";
+    public static final String LANG_COOKIE = "lang";
+
+    public static final Set<String> SUPPORTED = Set.of("vi-VN", "en-US");
+    private static final Locale DEFAULT = Locale.forLanguageTag("vi-VN");
+    private static final int LANG_COOKIE_MAX_AGE = 365 * 24 * 60 * 60;
+
+    private static final Set<RouteClass> ROUTES = EnumSet.of(
+            RouteClass.CLIENT, RouteClass.AUTH, RouteClass.ADMIN, RouteClass.ERROR);
+
+    @Override
+    public Set<RouteClass> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public void apply(HttpServletRequest request, HttpServletResponse response,
+                      RequestContext ctx, StageChain chain) throws IOException, ServletException {
+
+        // Already resolved before an error dispatch
+        if (request.getAttribute(I18N_ATTR) != null) {
+            chain.proceed(request, response);
+            return;
+        }
+
+        // Resolve locale from param > cookie > default
+        Locale locale;
+        String param = request.getParameter("lang");
+        if (param != null && SUPPORTED.contains(param)) {
+            locale = Locale.forLanguageTag(param);
+            response.addCookie(AppCookie.accessible(LANG_COOKIE, param, LANG_COOKIE_MAX_AGE));
+        } else {
+            String cookie = ctx.cookie(LANG_COOKIE);
+            locale = cookie != null && SUPPORTED.contains(cookie)
+                    ? Locale.forLanguageTag(cookie)
+                    : DEFAULT;
+        }
+
+        // Shared, immutable catalog: the request only holds a reference
+        request.setAttribute(LOCALE_ATTR, locale);
+        request.setAttribute(I18N_ATTR, I18n.of(locale));
+
+        chain.proceed(request, response);
+    }
+}
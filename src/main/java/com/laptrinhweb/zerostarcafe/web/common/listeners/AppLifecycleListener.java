@@ -0,0 +1,69 @@
+package com.laptrinhweb.zerostarcafe.web.common.listeners;
+
+import com.laptrinhweb.zerostarcafe.core.database.DBConnection;
+import com.laptrinhweb.zerostarcafe.core.location.GeoIpUtil;
+import com.laptrinhweb.zerostarcafe.core.security.Argon2Calibrator;
+import com.laptrinhweb.zerostarcafe.core.security.PasswordHashExecutor;
+import com.laptrinhweb.zerostarcafe.core.security.PasswordUtil;
+import com.laptrinhweb.zerostarcafe.core.security.SignedToken;
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.I18n;
+import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthMetadataWriter;
+import com.laptrinhweb.zerostarcafe.domain.auth.record.AuthTokenReaper;
+import com.laptrinhweb.zerostarcafe.domain.auth.service.RevocationList;
+import com.laptrinhweb.zerostarcafe.web.common.filters.LocaleStage;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Prepares application-wide resources (translation catalogs, password hashing cost) on startup and
+ * releases them (connection pool, background workers, queued writes) when the web application stops.
+ *
+ * @author Dang Van Trung
+ * @version 1.4.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@WebListener
+public class AppLifecycleListener implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        // Build translation catalogs once, before the first request
+        String bundles = event.getServletContext().getInitParameter("i18n.bundles");
+        I18n.load(
+                bundles == null ? null : Arrays.stream(bundles.split(",")).map(String::trim).toList(),
+                LocaleStage.SUPPORTED.stream().map(Locale::forLanguageTag).toList()
+        );
+
+        // Optionally fit the Argon2 cost to this host before the first login
+        if (AppConfig.getBoolean("password.argon2.calibrate", false))
+            PasswordUtil.useParams(Argon2Calibrator.calibrateFromConfig());
+
+        // Periodically move dead auth tokens out of the live table
+        AuthTokenReaper.start();
+
+        // Signed auth tokens are checked against an in-memory revocation list
+        if (SignedToken.isEnabled()) {
+            // Fail the deployment with the reason instead of on the first login
+            SignedToken.validateKeys();
+            RevocationList.start();
+        }
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        GeoIpUtil.shutdown();
+        PasswordHashExecutor.shutdown();
+        AuthTokenReaper.shutdown();
+        RevocationList.shutdown();
+        AuthMetadataWriter.shutdown();
+
+        // Close the pool last: other shutdown steps may still need connections
+        DBConnection.shutdown();
+    }
+}
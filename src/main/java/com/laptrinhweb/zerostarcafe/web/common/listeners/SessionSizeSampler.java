@@ -0,0 +1,117 @@
+package com.laptrinhweb.zerostarcafe.web.common.listeners;
+
+import com.laptrinhweb.zerostarcafe.core.utils.AppConfig;
+import com.laptrinhweb.zerostarcafe.core.utils.MetricsRegistry;
+import jakarta.servlet.annotation.WebListener;
+import jakarta.servlet.http.HttpSessionAttributeListener;
+import jakarta.servlet.http.HttpSessionBindingEvent;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Samples how large session attributes are when serialized, i.e. what
+ * Tomcat writes when it persists sessions on shutdown. Every
+ * {@code session.sizeSample.every}-th attribute write is serialized into a
+ * byte counter (nothing is buffered) and recorded per attribute name.
+ * {@code 0} turns sampling off.
+ * </p>
+ * <p>
+ * Published as {@code session.attributes} metrics: samples, average and
+ * largest size in bytes per attribute, and attributes that cannot be
+ * serialized at all (those are lost on restart).
+ * </p>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@WebListener
+public class SessionSizeSampler implements HttpSessionAttributeListener {
+
+    private static final int EVERY = AppConfig.getInt("session.sizeSample.every", 50);
+    private static final AtomicLong WRITES = new AtomicLong();
+    private static final ConcurrentHashMap<String, Stat> STATS = new ConcurrentHashMap<>();
+
+    static {
+        MetricsRegistry.register("session.attributes", SessionSizeSampler::metrics);
+    }
+
+    @Override
+    public void attributeAdded(HttpSessionBindingEvent event) {
+        sample(event.getName(), event.getValue());
+    }
+
+    @Override
+    public void attributeReplaced(HttpSessionBindingEvent event) {
+        // getValue() is the old value here; read the new one
+        sample(event.getName(), event.getSession().getAttribute(event.getName()));
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private static void sample(String name, Object value) {
+        if (EVERY <= 0 || value == null || WRITES.incrementAndGet() % EVERY != 0)
+            return;
+
+        Stat stat = STATS.computeIfAbsent(name, n -> new Stat());
+        CountingStream counter = new CountingStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            // NotSerializableException and friends: the attribute would not survive a restart
+            stat.notSerializable.incrementAndGet();
+            return;
+        }
+
+        stat.samples.incrementAndGet();
+        stat.totalBytes.addAndGet(counter.bytes);
+        stat.maxBytes.accumulateAndGet(counter.bytes, Math::max);
+    }
+
+    private static final class Stat {
+        final AtomicLong samples = new AtomicLong();
+        final AtomicLong totalBytes = new AtomicLong();
+        final AtomicLong maxBytes = new AtomicLong();
+        final AtomicLong notSerializable = new AtomicLong();
+    }
+
+    private static final class CountingStream extends OutputStream {
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+
+    private static Map<String, Object> metrics() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("sampleEvery", EVERY);
+        new TreeMap<>(STATS).forEach((name, stat) -> {
+            long samples = stat.samples.get();
+            m.put(name + ".samples", samples);
+            m.put(name + ".avgBytes", samples == 0 ? 0 : stat.totalBytes.get() / samples);
+            m.put(name + ".maxBytes", stat.maxBytes.get());
+            if (stat.notSerializable.get() > 0)
+                m.put(name + ".notSerializable", stat.notSerializable.get());
+        });
+        return m;
+    }
+}
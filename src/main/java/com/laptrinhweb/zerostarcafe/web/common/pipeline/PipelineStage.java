@@ -0,0 +1,40 @@
+package com.laptrinhweb.zerostarcafe.web.common.pipeline;
+
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * One step of the {@link RequestPipeline}. A stage only runs for the route
+ * classes it declares and continues the request with {@link StageChain#proceed}.
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public interface PipelineStage {
+
+    /**
+     * @return route classes this stage runs for
+     */
+    Set<RouteClass> routes();
+
+    /**
+     * Handles the request. Call {@code chain.proceed(req, resp)} to continue,
+     * or return without calling it to stop the request here.
+     */
+    void apply(HttpServletRequest req, HttpServletResponse resp,
+               RequestContext ctx, StageChain chain) throws IOException, ServletException;
+
+    /**
+     * Called once when the pipeline starts.
+     */
+    default void init(ServletContext context) throws ServletException {
+    }
+}
@@ -0,0 +1,70 @@
+package com.laptrinhweb.zerostarcafe.web.common.pipeline;
+
+import com.laptrinhweb.zerostarcafe.core.security.CookieUtil;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Map;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * What the pipeline knows about the current request, computed once:
+ * the context-relative path, its {@link RouteClass} and the parsed cookies.
+ * Stored as a request attribute so servlets can reuse it.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * RequestContext ctx = RequestContext.of(request);
+ * if (ctx.routeClass() == RouteClass.ADMIN) { ... }
+ * String lang = ctx.cookie("lang");
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class RequestContext {
+
+    public static final String ATTR = RequestContext.class.getName();
+
+    private final HttpServletRequest request;
+    private final String path;
+    private final RouteClass routeClass;
+
+    RequestContext(HttpServletRequest request, String path, RouteClass routeClass) {
+        this.request = request;
+        this.path = path;
+        this.routeClass = routeClass;
+    }
+
+    /**
+     * @return the context bound by the pipeline, or {@code null} outside it
+     */
+    public static RequestContext of(HttpServletRequest request) {
+        return (RequestContext) request.getAttribute(ATTR);
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public RouteClass routeClass() {
+        return routeClass;
+    }
+
+    /**
+     * @return all request cookies, parsed on first use
+     */
+    public Map<String, String> cookies() {
+        return CookieUtil.getAll(request);
+    }
+
+    public String cookie(String name) {
+        return name == null ? null : cookies().get(name);
+    }
+}
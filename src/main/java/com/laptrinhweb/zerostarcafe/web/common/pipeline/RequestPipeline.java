@@ -0,0 +1,103 @@
+package com.laptrinhweb.zerostarcafe.web.common.pipeline;
+
+import com.laptrinhweb.zerostarcafe.web.auth.filter.AuthStage;
+import com.laptrinhweb.zerostarcafe.web.auth.filter.RateLimitStage;
+import com.laptrinhweb.zerostarcafe.web.auth.filter.RoleStage;
+import com.laptrinhweb.zerostarcafe.web.client.filters.StoreIDStage;
+import com.laptrinhweb.zerostarcafe.web.common.filters.*;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteTable;
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * The only application filter. Classifies each request once through
+ * {@link RouteTable}, then runs the stages that opted in to that
+ * {@link RouteClass}, in this fixed order:
+ * </p>
+ * <ol>
+ *     <li>{@link LogStage} - access log line</li>
+ *     <li>{@link ErrorStage} - unhandled exceptions to 500</li>
+ *     <li>{@link RateLimitStage} - login / register attempts per IP and username</li>
+ *     <li>{@link ConnectionScopeStage} - one DB connection per request</li>
+ *     <li>{@link FlashStage} - flash data to request</li>
+ *     <li>{@link LocaleStage} - locale and i18n</li>
+ *     <li>{@link AuthStage} - validate / restore / rotate auth session</li>
+ *     <li>{@link RoleStage} - role checks for protected areas</li>
+ *     <li>{@link StoreIDStage} - current store context</li>
+ * </ol>
+ * <p>
+ * Static assets are passed straight to the container after one check.
+ * </p>
+ *
+ * @author Dang Van Trung
+ * @version 1.2.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+@WebFilter(filterName = "RequestPipeline", urlPatterns = "/*",
+        dispatcherTypes = {DispatcherType.REQUEST, DispatcherType.ERROR})
+public class RequestPipeline implements Filter {
+
+    private final Map<RouteClass, PipelineStage[]> stagesByRoute = new EnumMap<>(RouteClass.class);
+
+    @Override
+    public void init(FilterConfig config) throws ServletException {
+        List<PipelineStage> stages = List.of(
+                new LogStage(),
+                new ErrorStage(),
+                new RateLimitStage(),
+                new ConnectionScopeStage(),
+                new FlashStage(),
+                new LocaleStage(),
+                new AuthStage(),
+                new RoleStage(),
+                new StoreIDStage()
+        );
+
+        for (PipelineStage stage : stages)
+            stage.init(config.getServletContext());
+
+        // Precompute the stage list of every route class
+        for (RouteClass routeClass : RouteClass.values()) {
+            stagesByRoute.put(routeClass, stages.stream()
+                    .filter(s -> s.routes().contains(routeClass))
+                    .toArray(PipelineStage[]::new));
+        }
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse resp,
+                         FilterChain chain) throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) resp;
+
+        // Servlet path + path info: decoded, normalized, without ;params,
+        // i.e. exactly what the container dispatches on
+        String pathInfo = request.getPathInfo();
+        String path = pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+        RouteClass routeClass = request.getDispatcherType() == DispatcherType.ERROR
+                ? RouteClass.ERROR
+                : RouteTable.classify(path);
+
+        if (routeClass == RouteClass.STATIC) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        RequestContext ctx = new RequestContext(request, path, routeClass);
+        request.setAttribute(RequestContext.ATTR, ctx);
+
+        new StageChain(stagesByRoute.get(routeClass), ctx, chain).proceed(request, response);
+    }
+}
@@ -0,0 +1,40 @@
+package com.laptrinhweb.zerostarcafe.web.common.pipeline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Walks the stages selected for one request, then hands over to the
+ * servlet container's {@link FilterChain}.
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class StageChain {
+
+    private final PipelineStage[] stages;
+    private final RequestContext ctx;
+    private final FilterChain terminal;
+    private int index;
+
+    StageChain(PipelineStage[] stages, RequestContext ctx, FilterChain terminal) {
+        this.stages = stages;
+        this.ctx = ctx;
+        this.terminal = terminal;
+    }
+
+    public void proceed(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException, ServletException {
+        if (index < stages.length) {
+            stages[index++].apply(req, resp, ctx, this);
+        } else {
+            terminal.doFilter(req, resp);
+        }
+    }
+}
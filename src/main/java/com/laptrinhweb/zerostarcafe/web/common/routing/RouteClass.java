@@ -0,0 +1,31 @@
+package com.laptrinhweb.zerostarcafe.web.common.routing;
+
+/**
+ * Coarse class of an incoming request, decided once per request by
+ * {@link RouteTable}. Pipeline stages opt in by route class.
+ *
+ * @author Dang Van Trung
+ * @version 1.0.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public enum RouteClass {
+
+    /** CSS, JS, images, fonts: skip every stage */
+    STATIC,
+
+    /** Customer-facing pages (/home, /store/...) */
+    CLIENT,
+
+    /** Login, register, logout (/auth/...) */
+    AUTH,
+
+    /** Protected back-office areas (/admin, /manager, /staff) */
+    ADMIN,
+
+    /** Machine endpoints (/api/...) */
+    API,
+
+    /** Container error dispatch to the error page */
+    ERROR
+}
@@ -0,0 +1,114 @@
+package com.laptrinhweb.zerostarcafe.web.common.routing;
+
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>Description:</h2>
+ * <p>
+ * Precompiled table that classifies a context-relative path into a
+ * {@link RouteClass}. Classification costs one hash lookup on the first
+ * path segment plus, when the last segment has a dot, one lookup on the
+ * file extension.
+ * </p>
+ * <p>
+ * Protected areas ({@code /admin}, {@code /manager}, {@code /staff}) are
+ * decided by their first segment before any extension is looked at, so a
+ * path such as {@code /admin/metrics;x.js} can never pass as a static file.
+ * Path parameters and dot segments are removed first.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * {@code
+ * RouteTable.classify("/assets/client/css/main.css"); // STATIC
+ * RouteTable.classify("/admin/dashboard");            // ADMIN
+ * RouteTable.classify("/home");                       // CLIENT
+ * }
+ * </pre>
+ *
+ * @author Dang Van Trung
+ * @version 1.1.0
+ * @lastModified 17/12/2025
+ * @since 1.0.0
+ */
+public final class RouteTable {
+
+    private static final Map<String, RouteClass> BY_FIRST_SEGMENT = Map.of(
+            "assets", RouteClass.STATIC,
+            "auth", RouteClass.AUTH,
+            "admin", RouteClass.ADMIN,
+            "manager", RouteClass.ADMIN,
+            "staff", RouteClass.ADMIN,
+            "api", RouteClass.API
+    );
+
+    private static final Set<String> STATIC_EXTENSIONS = Set.of(
+            "css", "js", "map",
+            "png", "jpg", "jpeg", "gif", "svg", "webp",
+            "ico",
+            "ttf", "woff", "woff2",
+            "mp4", "mp3"
+    );
+
+    private RouteTable() {
+    }
+
+    /**
+     * @param path context-relative path, e.g. {@code /admin/dashboard}
+     * @return the route class; unknown paths are {@link RouteClass#CLIENT}
+     */
+    public static RouteClass classify(String path) {
+        if (path == null || path.length() <= 1)
+            return RouteClass.CLIENT;
+
+        if (path.indexOf(';') >= 0 || path.contains("/."))
+            path = normalize(path);
+
+        // First segment; protected areas win over any extension
+        int start = path.charAt(0) == '/' ? 1 : 0;
+        int end = path.indexOf('/', start);
+        String segment = end < 0 ? path.substring(start) : path.substring(start, end);
+
+        RouteClass routeClass = BY_FIRST_SEGMENT.get(segment);
+        if (routeClass == null)
+            routeClass = BY_FIRST_SEGMENT.get(segment.toLowerCase(Locale.ROOT));
+        if (routeClass == RouteClass.ADMIN)
+            return routeClass;
+
+        // File extension of the last segment
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (dot > slash && dot < path.length() - 1) {
+            String ext = path.substring(dot + 1).toLowerCase(Locale.ROOT);
+            if (STATIC_EXTENSIONS.contains(ext))
+                return RouteClass.STATIC;
+        }
+
+        return routeClass != null ? routeClass : RouteClass.CLIENT;
+    }
+
+    /**
+     * Drops {@code ;params} from every segment and resolves {@code .} and
+     * {@code ..} the way the container does before dispatching.
+     */
+    private static String normalize(String path) {
+        ArrayDeque<String> segments = new ArrayDeque<>();
+        for (String segment : path.split("/")) {
+            int semi = segment.indexOf(';');
+            if (semi >= 0)
+                segment = segment.substring(0, semi);
+
+            if (segment.isEmpty() || segment.equals("."))
+                continue;
+            if (segment.equals("..")) {
+                segments.pollLast();
+                continue;
+            }
+            segments.addLast(segment);
+        }
+        return "/" + String.join("/", segments);
+    }
+}
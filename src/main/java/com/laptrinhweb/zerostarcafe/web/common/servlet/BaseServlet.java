@@ -1,8 +1,8 @@
 package com.laptrinhweb.zerostarcafe.web.common.servlet;
 
-import com.laptrinhweb.zerostarcafe.core.utils.PathUtil;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteTable;
 import com.laptrinhweb.zerostarcafe.web.common.view.View;
-import com.laptrinhweb.zerostarcafe.web.common.view.ViewArea;
 import com.laptrinhweb.zerostarcafe.web.common.view.ViewResolver;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
@@ -16,16 +16,22 @@ import java.io.IOException;
 /**
  * Base servlet for all requests not handled by other servlets.
  * Static resources are forwarded to the container’s default servlet.
- * Dynamic paths are resolved to a {@link View} and rendered via {@link View#render}.
+ * Dynamic paths are looked up in the view route table built at startup
+ * ({@link ViewResolver#init}) and rendered via {@link View#render}.
  *
  * @author Dang Van Trung
- * @version 2.0.0
- * @lastModified 11/12/2025
+ * @version 2.2.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
-@WebServlet(name = "BaseServlet", urlPatterns = "/")
+@WebServlet(name = "BaseServlet", urlPatterns = "/", loadOnStartup = 1)
 public class BaseServlet extends HttpServlet {
 
+    @Override
+    public void init() {
+        ViewResolver.init(getServletContext());
+    }
+
     @Override
     protected void service(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
@@ -35,18 +41,21 @@ public class BaseServlet extends HttpServlet {
         String path = uri.substring(ctx.length());
 
         // ==== Ignore static file path ====
-        if (PathUtil.isStatic(path)) {
+        if (RouteTable.classify(path) == RouteClass.STATIC) {
             RequestDispatcher rd = getServletContext().getNamedDispatcher("default");
             rd.forward(req, resp);
             return;
         }
 
         // ==== View resolution and rendering ====
-        ViewArea area = ViewArea.detectArea(path);
-        View view = ViewResolver.resolve(area, path);
+        View view = ViewResolver.lookup(path);
+        if (view == null) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
 
         if (view.isDefault()) {
-            switch (area) {
+            switch (view.area()) {
                 case ADMIN -> resp.sendRedirect(ctx + "/admin/dashboard");
                 default -> resp.sendRedirect(ctx + "/home");
             }
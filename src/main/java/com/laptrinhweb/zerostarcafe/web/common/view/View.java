@@ -23,11 +23,11 @@ import java.io.IOException;
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 09/12/2025
+ * @version 1.1.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
-public record   View(
+public record View(
         ViewArea area,
         String titleKey,
         String pagePath,
@@ -53,7 +53,8 @@ public record   View(
 
     /**
      * Renders the given view by forwarding the request to its layout JSP. </br>
-     * Sends a 404 response if the view is {@code null} or the page does not exist.
+     * Sends a 404 response if the view is {@code null} or the page does not exist
+     * (checked against the route table built by {@link ViewResolver#init}).
      *
      * @param view the resolved view to render
      * @param req  current HTTP request
@@ -64,7 +65,7 @@ public record   View(
     public static void render(View view, HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
 
-        if (view == null || req.getServletContext().getResource(view.pagePath()) == null) {
+        if (view == null || !ViewResolver.exists(req.getServletContext(), view.pagePath())) {
             resp.sendError(HttpServletResponse.SC_NOT_FOUND);
             return;
         }
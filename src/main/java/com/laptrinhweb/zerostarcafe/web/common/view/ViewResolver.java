@@ -1,6 +1,16 @@
 package com.laptrinhweb.zerostarcafe.web.common.view;
 
+import com.laptrinhweb.zerostarcafe.core.cache.BoundedCache;
+import com.laptrinhweb.zerostarcafe.core.utils.LoggerUtil;
 import com.laptrinhweb.zerostarcafe.core.utils.PathUtil;
+import jakarta.servlet.ServletContext;
+
+import java.net.MalformedURLException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * <h2>Description:</h2>
@@ -8,22 +18,29 @@ import com.laptrinhweb.zerostarcafe.core.utils.PathUtil;
  * Resolves friendly URL paths into {@link View} objects used for rendering JSP pages.
  * Handles normalization, default views, and error view generation.
  * </p>
+ * <p>
+ * {@link #init(ServletContext)} scans {@code /WEB-INF/views} once at startup and
+ * builds an immutable request path → {@link View} table, so serving a request is
+ * a single hash lookup ({@link #lookup(String)}) and page existence checks never
+ * touch the container's resources. Paths that are not in the table are
+ * normalized once and the outcome, including "not found", is kept in a small
+ * bounded cache so repeated 404 probes stay cheap.
+ * </p>
  *
  * <h2>Example Usage:</h2>
  * <pre>
  * {@code
- * ViewArea area = ViewArea.detectArea("/admin/users");
- * View view    = ViewResolver.resolve(area, "/admin/users");
+ * View view = ViewResolver.lookup("/admin/users");
  * // Produces:
  * //   -> area: ADMIN
  * //   -> pagePath:  /WEB-INF/views/admin/pages/users.jsp
- * //   -> layoutPath: /WEB-INF/views/admin/layouts/main-layout.jsp
+ * //   -> layoutPath: /WEB-INF/views/admin/layouts/admin-layout.jsp
  * }
  * </pre>
  *
  * @author Dang Van Trung
- * @version 1.0.0
- * @lastModified 10/12/2025
+ * @version 2.0.0
+ * @lastModified 17/12/2025
  * @since 1.0.0
  */
 public final class ViewResolver {
@@ -32,11 +49,112 @@ public final class ViewResolver {
     private static final String ERROR_VIEW_PATH = PathUtil.Shared.page("error");
     private static final String ERROR_PAGE_TITLE = "general.page.error";
 
+    private static final String ADMIN_PREFIX = "/admin";
+    private static final String JSP = ".jsp";
+
+    private static final Map<ViewArea, View> ERROR_VIEWS = new EnumMap<>(ViewArea.class);
+
+    static {
+        for (ViewArea area : ViewArea.values())
+            ERROR_VIEWS.put(area, new View(area, ERROR_PAGE_TITLE, ERROR_VIEW_PATH, resolveLayoutPath(area)));
+    }
+
+    // Marks a cached "no such view" result (the cache does not store nulls)
+    private static final View NOT_FOUND = new View(ViewArea.SHARED, null, null, null);
+
+    // Outcomes for paths that needed normalization, including misses
+    private static final BoundedCache<String, View> FALLBACK =
+            BoundedCache.create("views.fallback", 10_000, 600_000);
+
+    private record Routes(Map<String, View> byPath, Set<String> pages) {
+    }
+
+    private static volatile Routes routes;
+
     private ViewResolver() {
     }
 
+    // ==========================================================
+    // ROUTE TABLE
+    // ==========================================================
+
+    /**
+     * Scans the client and admin page folders and publishes the route table.
+     * Safe to call again (e.g. after a redeploy of JSPs); the swap is atomic.
+     *
+     * @param ctx servlet context used to list {@code /WEB-INF/views}
+     */
+    public static void init(ServletContext ctx) {
+        Map<String, View> byPath = new HashMap<>();
+        Set<String> pages = new HashSet<>();
+
+        scan(ctx, ViewArea.CLIENT, PathUtil.Client.pagesDir(), "", byPath, pages);
+        scan(ctx, ViewArea.ADMIN, PathUtil.Admin.pagesDir(), ADMIN_PREFIX, byPath, pages);
+        scan(ctx, ViewArea.SHARED, PathUtil.Shared.pagesDir(), null, byPath, pages);
+
+        // Bare area roots redirect to the area's default page
+        byPath.put("/", ViewMap.getDefaultFor(ViewArea.CLIENT));
+        byPath.put(ADMIN_PREFIX, ViewMap.getDefaultFor(ViewArea.ADMIN));
+        byPath.put(ADMIN_PREFIX + "/", ViewMap.getDefaultFor(ViewArea.ADMIN));
+
+        routes = new Routes(Map.copyOf(byPath), Set.copyOf(pages));
+        FALLBACK.invalidateAll();
+
+        LoggerUtil.info(ViewResolver.class, "View routes ready: " + byPath.size() + " paths");
+    }
+
+    /**
+     * Finds the view served at a request path.
+     *
+     * @param path request path without the context path
+     * @return the view, or {@code null} if no page exists for the path
+     */
+    public static View lookup(String path) {
+        if (path == null)
+            return null;
+
+        // Before init (e.g. a servlet loaded ahead of BaseServlet): build on the fly
+        Routes table = routes;
+        if (table == null)
+            return resolve(ViewArea.detectArea(path), path);
+
+        View view = table.byPath().get(path);
+        if (view != null)
+            return view;
+
+        View cached = FALLBACK.get(path, p -> {
+            View alias = table.byPath().get(normalize(p));
+            return alias != null ? alias : NOT_FOUND;
+        });
+        return cached == NOT_FOUND ? null : cached;
+    }
+
     /**
-     * Resolves a request path (or logical view path) into a {@link View} for the given UI area.
+     * Checks whether a page JSP exists, using the startup scan when available.
+     *
+     * @param ctx      servlet context, used only before the table is built
+     * @param pagePath JSP path of the page
+     * @return {@code true} if the page can be rendered
+     */
+    static boolean exists(ServletContext ctx, String pagePath) {
+        Routes table = routes;
+        if (table != null)
+            return table.pages().contains(pagePath);
+
+        try {
+            return ctx.getResource(pagePath) != null;
+        } catch (MalformedURLException e) {
+            return false;
+        }
+    }
+
+    // ==========================================================
+    // VIEW FACTORIES
+    // ==========================================================
+
+    /**
+     * Builds the {@link View} for a request path (or logical view path) in the given UI area.
+     * Used for predefined views; request dispatch goes through {@link #lookup(String)}.
      *
      * @param area UI area (client/admin)
      * @param path request path from the browser
@@ -47,22 +165,16 @@ public final class ViewResolver {
             return resolveError(ViewArea.CLIENT);
 
         // Normalize view path
-        String areaName = area != ViewArea.CLIENT
-                ? area.name().toLowerCase()
-                : "";
-        String viewPath = path.
-                replaceFirst("^/" + areaName + "(?=/|$)", "");
+        String viewPath = path;
+        if (area == ViewArea.ADMIN && viewPath.startsWith(ADMIN_PREFIX)
+                && (viewPath.length() == ADMIN_PREFIX.length() || viewPath.charAt(ADMIN_PREFIX.length()) == '/'))
+            viewPath = viewPath.substring(ADMIN_PREFIX.length());
 
         // Return default if this view path is blank
-        if (viewPath.isBlank())
+        if (viewPath.isBlank() || "/".equals(viewPath))
             return ViewMap.getDefaultFor(area);
 
-        return new View(
-                area,
-                resolvePageTitle(area, viewPath),
-                resolvePagePath(area, viewPath),
-                resolveLayoutPath(area)
-        );
+        return build(area, viewPath.substring(1));
     }
 
     /**
@@ -72,25 +184,77 @@ public final class ViewResolver {
      * @return a {@link View} representing the error page
      */
     public static View resolveError(ViewArea area) {
+        return ERROR_VIEWS.get(area);
+    }
+
+    // ==========================================================
+    // INTERNAL
+    // ==========================================================
+
+    private static void scan(ServletContext ctx, ViewArea area, String dir, String urlPrefix,
+                             Map<String, View> byPath, Set<String> pages) {
+        collect(ctx, area, dir, dir, urlPrefix, byPath, pages);
+    }
+
+    private static void collect(ServletContext ctx, ViewArea area, String root, String dir, String urlPrefix,
+                                Map<String, View> byPath, Set<String> pages) {
+        Set<String> entries = ctx.getResourcePaths(dir);
+        if (entries == null)
+            return;
+
+        for (String entry : entries) {
+            if (entry.endsWith("/")) {
+                collect(ctx, area, root, entry, urlPrefix, byPath, pages);
+                continue;
+            }
+            if (!entry.endsWith(JSP))
+                continue;
+
+            pages.add(entry);
+
+            // Shared pages (error) are rendered explicitly, never routed
+            if (urlPrefix == null)
+                continue;
+
+            String viewPath = entry.substring(root.length() + 1, entry.length() - JSP.length());
+            byPath.put(urlPrefix + "/" + viewPath, build(area, viewPath));
+        }
+    }
+
+    private static View build(ViewArea area, String viewPath) {
         return new View(
                 area,
-                ERROR_PAGE_TITLE,
-                ERROR_VIEW_PATH,
+                resolvePageTitle(area, viewPath),
+                resolvePagePath(area, viewPath),
                 resolveLayoutPath(area)
         );
     }
 
+    private static String normalize(String path) {
+        int param = path.indexOf(';');
+        String p = param >= 0 ? path.substring(0, param) : path;
+
+        StringBuilder sb = new StringBuilder(p.length());
+        for (int i = 0; i < p.length(); i++) {
+            char c = p.charAt(i);
+            if (c == '/' && !sb.isEmpty() && sb.charAt(sb.length() - 1) == '/')
+                continue;
+            sb.append(c);
+        }
+        while (sb.length() > 1 && sb.charAt(sb.length() - 1) == '/')
+            sb.setLength(sb.length() - 1);
+        return sb.toString();
+    }
+
     private static String resolvePageTitle(ViewArea area, String viewPath) {
-        String normalized = viewPath.replaceFirst("^/", "");
-        String slug = normalized.replaceAll("/", ".");
-        return PAGE_TITLE_PREFIX + area.name().toLowerCase() + "." + slug;
+        return PAGE_TITLE_PREFIX + area.name().toLowerCase() + "." + viewPath.replace('/', '.');
     }
 
     private static String resolvePagePath(ViewArea area, String viewPath) {
-        String normalized = viewPath.replaceFirst("^/", "");
         return switch (area) {
-            case ADMIN -> PathUtil.Admin.page(normalized);
-            default -> PathUtil.Client.page(normalized);
+            case ADMIN -> PathUtil.Admin.page(viewPath);
+            case SHARED -> PathUtil.Shared.page(viewPath);
+            default -> PathUtil.Client.page(viewPath);
         };
     }
 
@@ -100,4 +264,4 @@ public final class ViewResolver {
             default -> PathUtil.Client.layoutMain();
         };
     }
-}
\ No newline at end of file
+}
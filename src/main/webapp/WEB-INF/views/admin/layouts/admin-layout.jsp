@@ -40,7 +40,7 @@
 " hidden>
             <c:forEach var="msg" items="${requestScope.messages}">
                 <p data-type="${msg.type}"
-                   data-message="${sessionScope.i18n.trans(msg.msgKey)}">
+                   data-message="${i18n.trans(msg.msgKey)}">
                 </p>
             </c:forEach>
         </div>
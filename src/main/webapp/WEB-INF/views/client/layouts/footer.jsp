@@ -1,7 +1,7 @@
-<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" %>
+<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" session="false" %>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 
-<c:set var="locale" value="${sessionScope.locale}"/>
+<c:set var="locale" value="${requestScope.locale}"/>
 <c:choose>
     <c:when test="${locale.toLanguageTag() eq 'vi-VN'}">
         <c:set var="nextLang" value="en-US"/>
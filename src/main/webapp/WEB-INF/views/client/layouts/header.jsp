@@ -1,4 +1,4 @@
-<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" %>
+<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" session="false" %>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 
 <%-- ========= HEADER ========= --%>
@@ -76,7 +76,7 @@
                         </li>
 
                         <c:choose>
-                            <c:when test="${empty sessionScope.authUser}">
+                            <c:when test="${empty requestScope.authUser}">
                                 <li class="nav-item ms-md-auto">
                                     <button
                                             type="button"
@@ -93,7 +93,7 @@
                                        data-bs-toggle="dropdown" aria-expanded="false">
                                         <div class="user-tool d-inline-flex align-items-center">
                                             <div class="user-info d-inline-flex flex-column me-4">
-                                                <span class="user-name text-black fw-semibold">${authUser.username}</span>
+                                                <span class="user-name text-black fw-semibold">${requestScope.authUser.username}</span>
                                             </div>
                                             <img
                                                     src="https://images.unsplash.com/photo-1631947430066-48c30d57b943?auto=format&fit=crop&q=80&w=832"
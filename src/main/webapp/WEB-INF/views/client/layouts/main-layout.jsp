@@ -1,3 +1,4 @@
+<%@ page session="false" %>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 <base href="${pageContext.request.contextPath}/">
 
@@ -42,7 +43,7 @@
         <div class="toast-container" hidden>
             <c:forEach var="msg" items="${requestScope.messages}">
                 <p data-type="${msg.type}"
-                   data-message="${sessionScope.i18n.trans(msg.msgKey)}">
+                   data-message="${i18n.trans(msg.msgKey)}">
                 </p>
             </c:forEach>
         </div>
@@ -3,6 +3,7 @@
   Author: Dang Van Trung
   LastModified: 10/11/2025
 --%>
+<%@ page session="false" %>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 
 <script type="text/template" id="tpl-modal-register">
@@ -2,6 +2,7 @@ export const StoreWebConstants = {
 
     Endpoint: {
         STORE_DETECT: "/zero_star_cafe/store-detect",
+        STORES_NEARBY: "/zero_star_cafe/store-detect/nearby",
     },
 
     Cookie: {
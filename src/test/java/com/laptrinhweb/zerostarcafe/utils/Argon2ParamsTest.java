@@ -0,0 +1,36 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.security.Argon2Params;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Argon2ParamsTest {
+
+    private static final String HASH = "$argon2id$v=19$m=65536,t=3,p=1$c2FsdHNhbHQ$aGFzaGhhc2g";
+
+    @Test
+    void readsParametersFromEncodedHash() {
+        assertEquals(new Argon2Params(3, 65_536, 1), Argon2Params.fromHash(HASH));
+        assertTrue(Argon2Params.DEFAULT.matches(HASH));
+        assertFalse(new Argon2Params(2, 65_536, 1).matches(HASH));
+    }
+
+    @Test
+    void rejectsForeignOrMalformedHashes() {
+        assertNull(Argon2Params.fromHash(null));
+        assertNull(Argon2Params.fromHash("$argon2i$v=19$m=65536,t=3,p=1$salt$hash"));
+        assertNull(Argon2Params.fromHash("$argon2id$v=19$m=x,t=3,p=1$salt$hash"));
+        assertFalse(Argon2Params.DEFAULT.matches("plain-text"));
+    }
+
+    @Test
+    void comparesStrengthByMemoryTimeCost() {
+        Argon2Params current = new Argon2Params(3, 65_536, 1);
+
+        assertTrue(new Argon2Params(2, 65_536, 1).isWeakerThan(current));
+        assertTrue(new Argon2Params(4, 32_768, 1).isWeakerThan(current));
+        assertFalse(new Argon2Params(2, 131_072, 1).isWeakerThan(current));
+        assertFalse(new Argon2Params(3, 65_536, 4).isWeakerThan(current));
+    }
+}
@@ -0,0 +1,65 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthContext;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthSession;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthToken;
+import com.laptrinhweb.zerostarcafe.domain.auth.model.AuthUser;
+import com.laptrinhweb.zerostarcafe.web.auth.session.AuthSessionState;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthSessionStateTest {
+
+    private final LocalDateTime expiry = LocalDateTime.of(2025, 12, 24, 10, 30, 15);
+
+    private AuthContext context() {
+        AuthUser user = new AuthUser(42L, "barista", "barista@zerostar.cafe", false, List.of("STAFF"));
+        List<AuthToken> tokens = List.of(
+                new AuthToken("x-auth", "a".repeat(43), expiry),
+                new AuthToken("x-auth-device", "d".repeat(43), expiry.plusDays(300)));
+        return new AuthContext(user, new AuthSession(expiry, expiry.minusMinutes(5)), tokens);
+    }
+
+    @Test
+    void roundTripsAllFields() throws Exception {
+        AuthSessionState copy = (AuthSessionState) deserialize(serialize(AuthSessionState.of(context(), "devKey")));
+
+        assertEquals(42L, copy.getAuthUser().getId());
+        assertEquals("barista", copy.getAuthUser().getUsername());
+        assertEquals(List.of("STAFF"), copy.getAuthUser().getRoleCodes());
+        assertEquals(expiry, copy.getSessionInfo().getExpiredAt());
+        assertEquals(expiry.minusMinutes(5), copy.getSessionInfo().getLastRotatedAt());
+        assertEquals("d".repeat(43), copy.toContext().getTokenValue("x-auth-device"));
+        assertEquals("devKey", copy.getDeviceKey());
+    }
+
+    @Test
+    void isSmallerThanSeparateSerializableAttributes() throws Exception {
+        AuthContext ctx = context();
+        int separate = serialize(ctx.getAuthUser()).length
+                + serialize(ctx.getSessionInfo()).length
+                + serialize(ctx.getTokens()).length
+                + serialize("devKey").length;
+
+        assertTrue(serialize(AuthSessionState.of(ctx, "devKey")).length < separate / 2);
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] data) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.cache.BoundedCache;
+import com.laptrinhweb.zerostarcafe.core.location.IpPrefix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        BoundedCache<String, Integer> cache = BoundedCache.create(null, 2, 60_000);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void expiresAfterTtl() throws InterruptedException {
+        BoundedCache<String, Integer> cache = BoundedCache.create(null, 10, 20);
+        cache.put("a", 1);
+        Thread.sleep(40);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void putIfAbsentKeepsLiveEntry() {
+        BoundedCache<String, Integer> cache = BoundedCache.create(null, 10, 60_000);
+
+        assertEquals(1, cache.putIfAbsent("a", 1));
+        assertEquals(1, cache.putIfAbsent("a", 2));
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    void groupsAddressesByPrefix() {
+        assertEquals("v4:113.161.5", IpPrefix.of(IpPrefix.parse("113.161.5.200")));
+        assertEquals(IpPrefix.of(IpPrefix.parse("2402:800:99df:f644::1")),
+                IpPrefix.of(IpPrefix.parse("2402:800:99df:1::2")));
+        assertNull(IpPrefix.parse("example.com"));
+    }
+}
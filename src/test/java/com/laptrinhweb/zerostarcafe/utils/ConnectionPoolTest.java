@@ -0,0 +1,95 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.database.ConnectionPool;
+import com.laptrinhweb.zerostarcafe.core.database.PoolConfig;
+import com.laptrinhweb.zerostarcafe.core.database.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+
+    private final AtomicInteger opened = new AtomicInteger();
+    private ConnectionPool pool;
+
+    private Connection fakeConnection() {
+        opened.incrementAndGet();
+        boolean[] state = {false, true}; // closed, autoCommit
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (p, m, args) -> switch (m.getName()) {
+                    case "close" -> {
+                        state[0] = true;
+                        yield null;
+                    }
+                    case "isClosed" -> state[0];
+                    case "isValid" -> !state[0];
+                    case "getAutoCommit" -> state[1];
+                    case "setAutoCommit" -> {
+                        state[1] = (boolean) args[0];
+                        yield null;
+                    }
+                    default -> null;
+                });
+    }
+
+    private ConnectionPool newPool(int maxSize) {
+        PoolConfig config = new PoolConfig("jdbc:fake", "u", "p",
+                0, maxSize, 100, 1, 30_000, 600_000, 60_000, 60_000);
+        pool = new ConnectionPool(config, this::fakeConnection);
+        return pool;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    @Test
+    void reusesReturnedConnection() throws SQLException {
+        ConnectionPool pool = newPool(2);
+
+        try (Connection ignored = pool.borrow()) {
+            assertEquals(1, pool.stats().active());
+        }
+        try (Connection ignored = pool.borrow()) {
+            assertEquals(1, opened.get());
+        }
+
+        PoolStats stats = pool.stats();
+        assertEquals(0, stats.active());
+        assertEquals(1, stats.idle());
+        assertEquals(2, stats.borrowCount());
+    }
+
+    @Test
+    void timesOutWhenExhausted() throws SQLException {
+        ConnectionPool pool = newPool(1);
+
+        try (Connection ignored = pool.borrow()) {
+            assertThrows(SQLTimeoutException.class, pool::borrow);
+        }
+        assertEquals(1, pool.stats().timeoutCount());
+    }
+
+    @Test
+    void returnedProxyCannotBeReused() throws SQLException {
+        ConnectionPool pool = newPool(1);
+
+        Connection conn = pool.borrow();
+        conn.close();
+        conn.close(); // double close is ignored
+
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, () -> conn.setAutoCommit(false));
+        assertEquals(1, pool.stats().idle());
+    }
+}
@@ -0,0 +1,38 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.security.CookieView;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CookieViewTest {
+
+    @Test
+    void firstNonBlankCookieOfANameWins() {
+        CookieView view = CookieView.of(new Cookie[]{
+                new Cookie("x-auth", "a1"),
+                new Cookie("lang", " "),
+                new Cookie("x-auth", "a2"),
+                new Cookie("x-auth-device", "d1")
+        });
+
+        assertEquals(2, view.size());
+        assertEquals("a1", view.get("x-auth"));
+        assertNull(view.get("lang"));
+        assertEquals(Map.of("x-auth", "a1", "x-auth-device", "d1"), view);
+    }
+
+    @Test
+    void filtersByPrefixWithoutCopyingWhenAllMatch() {
+        CookieView auth = CookieView.of(new Cookie[]{new Cookie("x-auth", "a"), new Cookie("x-auth-device", "d")});
+        assertSame(auth, auth.withPrefix("x-auth"));
+
+        CookieView mixed = CookieView.of(new Cookie[]{new Cookie("lang", "vi"), new Cookie("x-auth", "a")});
+        assertEquals(Map.of("x-auth", "a"), mixed.withPrefix("x-auth"));
+        assertTrue(mixed.withPrefix("none").isEmpty());
+        assertSame(CookieView.EMPTY, CookieView.of(null));
+    }
+}
@@ -0,0 +1,25 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.utils.CsvUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvUtilTest {
+
+    @Test
+    void splitsQuotedAndEmptyFields() {
+        assertEquals(List.of("a@b.c", "Nguyen, An", "say \"hi\"", ""),
+                CsvUtil.parseLine("a@b.c, \"Nguyen, An\",\"say \"\"hi\"\"\","));
+    }
+
+    @Test
+    void escapesOnlyWhenNeeded() {
+        assertEquals("plain", CsvUtil.escape("plain"));
+        assertEquals("\"a,b\"", CsvUtil.escape("a,b"));
+        assertEquals("\"x\"\"y\"", CsvUtil.escape("x\"y"));
+        assertEquals("", CsvUtil.escape(null));
+    }
+}
@@ -0,0 +1,40 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.utils.I18n;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class I18nTest {
+
+    private static final Locale EN = Locale.forLanguageTag("en-US");
+
+    @Test
+    void sharesOneCatalogPerLocale() {
+        I18n catalog = I18n.of(EN);
+
+        assertSame(catalog, I18n.of(EN));
+        assertTrue(catalog.size() > 0);
+        assertNotEquals("general.selectStore", catalog.trans("general.selectStore"));
+    }
+
+    @Test
+    void fallsBackToKey() {
+        I18n catalog = I18n.of(EN);
+
+        assertEquals("general.noSuchKey", catalog.trans("general.noSuchKey"));
+        assertEquals("", catalog.trans(null));
+    }
+
+    @Test
+    void reloadSwapsCatalog() {
+        I18n before = I18n.of(EN);
+        I18n.reload();
+        I18n after = I18n.of(EN);
+
+        assertNotSame(before, after);
+        assertEquals(before.trans("general.selectStore"), after.trans("general.selectStore"));
+    }
+}
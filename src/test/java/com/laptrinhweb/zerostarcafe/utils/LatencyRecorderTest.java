@@ -0,0 +1,41 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.utils.LatencyRecorder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyRecorderTest {
+
+    @Test
+    void reportsPercentilesOfRecentWindow() {
+        LatencyRecorder recorder = new LatencyRecorder(100);
+        for (int ms = 1; ms <= 100; ms++)
+            recorder.record(ms * 1_000_000L);
+
+        Map<String, Object> m = recorder.toMap("hash");
+        assertEquals(100L, m.get("hashCount"));
+        assertEquals(50.0, m.get("hashP50Ms"));
+        assertEquals(95.0, m.get("hashP95Ms"));
+        assertEquals(100.0, m.get("hashMaxMs"));
+    }
+
+    @Test
+    void oldSamplesLeaveTheWindow() {
+        LatencyRecorder recorder = new LatencyRecorder(2);
+        recorder.record(500_000_000L);
+        recorder.record(1_000_000L);
+        recorder.record(1_000_000L);
+
+        Map<String, Object> m = recorder.toMap("x");
+        assertEquals(3L, m.get("xCount"));
+        assertEquals(1.0, m.get("xMaxMs"));
+    }
+
+    @Test
+    void emptyRecorderReportsZeros() {
+        assertEquals(0.0, new LatencyRecorder(4).toMap("x").get("xP99Ms"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.concurrent.PageDataLoader;
+import com.laptrinhweb.zerostarcafe.core.database.ConnectionScope;
+import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageDataLoaderTest {
+
+    @Test
+    void runsForksConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (PageDataLoader loader = PageDataLoader.open(Duration.ofSeconds(2))) {
+            PageDataLoader.Slot<String> a = loader.fork(() -> {
+                bothStarted.countDown();
+                return bothStarted.await(1, TimeUnit.SECONDS) ? "a" : null;
+            });
+            PageDataLoader.Slot<String> b = loader.fork(() -> {
+                bothStarted.countDown();
+                return bothStarted.await(1, TimeUnit.SECONDS) ? "b" : null;
+            });
+            loader.join();
+
+            assertEquals("a", a.get());
+            assertEquals("b", b.get());
+        }
+    }
+
+    @Test
+    void failureCancelsSiblings() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (PageDataLoader loader = PageDataLoader.open(Duration.ofSeconds(5))) {
+            loader.fork(() -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            loader.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            AppException e = assertThrows(AppException.class, loader::join);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+        assertDoesNotThrow(() -> assertTrue(interrupted.await(1, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void joinGivesUpAtDeadline() {
+        try (PageDataLoader loader = PageDataLoader.open(Duration.ofMillis(50))) {
+            loader.fork(() -> {
+                Thread.sleep(5_000);
+                return null;
+            });
+
+            long start = System.nanoTime();
+            assertThrows(AppException.class, loader::join);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    @Test
+    void eachForkRunsInItsOwnScope() {
+        try (ConnectionScope callerScope = ConnectionScope.open();
+             PageDataLoader loader = PageDataLoader.open(Duration.ofSeconds(2))) {
+            PageDataLoader.Slot<ConnectionScope> a = loader.fork(ConnectionScope::current);
+            PageDataLoader.Slot<ConnectionScope> b = loader.fork(ConnectionScope::current);
+            loader.join();
+
+            assertNotNull(a.get());
+            assertNotNull(b.get());
+            assertNotSame(a.get(), b.get());
+            assertNotSame(callerScope, a.get());
+            assertFalse(callerScope.hasConnection());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.security.RateLimiter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void allowsBurstThenRejectsPerKey() {
+        RateLimiter limiter = RateLimiter.create(null, 3, 1, 100);
+
+        for (int i = 0; i < 3; i++)
+            assertEquals(0, limiter.tryAcquire("1.2.3.4"));
+
+        long waitMs = limiter.tryAcquire("1.2.3.4");
+        assertTrue(waitMs > 0 && waitMs <= 60_000);
+        assertEquals(0, limiter.tryAcquire("5.6.7.8"));
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        // 60 000 per minute = one token per millisecond
+        RateLimiter limiter = RateLimiter.create(null, 1, 60_000, 100);
+
+        assertEquals(0, limiter.tryAcquire("user"));
+        Thread.sleep(20);
+        assertEquals(0, limiter.tryAcquire("user"));
+    }
+
+    @Test
+    void sharesOneOverflowBucketWhenFull() {
+        RateLimiter limiter = RateLimiter.create(null, 1, 1, 1);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+        assertTrue(limiter.tryAcquire("c") > 0);
+        assertEquals(1, limiter.size());
+    }
+}
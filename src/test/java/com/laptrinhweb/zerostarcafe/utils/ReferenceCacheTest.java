@@ -0,0 +1,78 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.cache.ReferenceCache;
+import com.laptrinhweb.zerostarcafe.core.exception.AppException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceCacheTest {
+
+    @Test
+    void servesSnapshotUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        ReferenceCache<Integer> cache = ReferenceCache.create(
+                "test.snapshot", 60_000, loads::incrementAndGet);
+
+        assertEquals(1, cache.get());
+        assertEquals(1, cache.get());
+        assertEquals(1, cache.version());
+
+        cache.invalidate();
+        assertEquals(2, cache.get());
+        assertEquals(2, cache.version());
+    }
+
+    @Test
+    void invalidateDuringLoadForcesAnotherReload() {
+        AtomicInteger loads = new AtomicInteger();
+        List<ReferenceCache<Integer>> holder = new ArrayList<>();
+        ReferenceCache<Integer> cache = ReferenceCache.create("test.racing", 60_000, () -> {
+            int n = loads.incrementAndGet();
+            if (n == 1)
+                holder.get(0).invalidate();
+            return n;
+        });
+        holder.add(cache);
+
+        assertEquals(1, cache.get());
+        assertEquals(2, cache.get());
+        assertEquals(2, cache.get());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void keepsPreviousSnapshotWhenReloadFails() {
+        AtomicInteger calls = new AtomicInteger();
+        ReferenceCache<String> cache = ReferenceCache.create("test.failing", 60_000, () -> {
+            if (calls.incrementAndGet() > 1)
+                throw new SQLException("db down");
+            return "v1";
+        });
+
+        assertEquals("v1", cache.get());
+        cache.invalidate();
+        assertEquals("v1", cache.get());
+        assertEquals(1, cache.version());
+    }
+
+    @Test
+    void failsWithoutSnapshotAndNotifiesListeners() {
+        ReferenceCache<String> broken = ReferenceCache.create("test.broken", 60_000, () -> {
+            throw new SQLException("db down");
+        });
+        assertThrows(AppException.class, broken::get);
+
+        List<String> seen = new ArrayList<>();
+        ReferenceCache<String> cache = ReferenceCache.create("test.listener", 60_000, () -> "v");
+        cache.addListener(seen::add);
+        cache.get();
+        cache.get();
+        assertEquals(List.of("v"), seen);
+    }
+}
@@ -0,0 +1,34 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteClass;
+import com.laptrinhweb.zerostarcafe.web.common.routing.RouteTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteTableTest {
+
+    @Test
+    void classifiesByExtensionAndFirstSegment() {
+        assertEquals(RouteClass.STATIC, RouteTable.classify("/assets/client/js/main.js"));
+        assertEquals(RouteClass.STATIC, RouteTable.classify("/favicon.ICO"));
+        assertEquals(RouteClass.STATIC, RouteTable.classify("/assets/fonts/inter"));
+        assertEquals(RouteClass.ADMIN, RouteTable.classify("/admin/dashboard"));
+        assertEquals(RouteClass.ADMIN, RouteTable.classify("/staff"));
+        assertEquals(RouteClass.AUTH, RouteTable.classify("/auth/login"));
+        assertEquals(RouteClass.API, RouteTable.classify("/api/stores"));
+        assertEquals(RouteClass.CLIENT, RouteTable.classify("/home"));
+        assertEquals(RouteClass.CLIENT, RouteTable.classify("/"));
+        assertEquals(RouteClass.CLIENT, RouteTable.classify("/store/check-in"));
+    }
+
+    @Test
+    void protectedAreasNeverPassAsStatic() {
+        assertEquals(RouteClass.ADMIN, RouteTable.classify("/admin/staff/import;.css"));
+        assertEquals(RouteClass.ADMIN, RouteTable.classify("/admin/metrics;x.js"));
+        assertEquals(RouteClass.ADMIN, RouteTable.classify("/assets/../admin/cache"));
+        assertEquals(RouteClass.ADMIN, RouteTable.classify("/assets/./../staff;a=b/x.png"));
+        assertEquals(RouteClass.ADMIN, RouteTable.classify("/manager/logo.png"));
+        assertEquals(RouteClass.STATIC, RouteTable.classify("/assets/client/../client/app.js"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.web.auth.session.InMemorySessionRegistry;
+import com.laptrinhweb.zerostarcafe.web.auth.session.SessionRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRegistryTest {
+
+    private final SessionRegistry registry = new InMemorySessionRegistry();
+
+    @Test
+    void loginFromAnotherBrowserRevokesOlderSession() {
+        registry.activate(1, "s1", "deviceA");
+        assertFalse(registry.isRevoked(1, "s1", "deviceA"));
+
+        registry.activate(1, "s2", "deviceB");
+        assertTrue(registry.isRevoked(1, "s1", "deviceA"));
+        assertFalse(registry.isRevoked(1, "s2", "deviceB"));
+        assertFalse(registry.isRevoked(2, "s1", "deviceA"));
+    }
+
+    @Test
+    void sessionsOfSameBrowserSurviveAndLogoutRevokesAll() {
+        registry.activate(1, "s1", "deviceA");
+        registry.activate(1, "s2", "deviceA");
+        assertFalse(registry.isRevoked(1, "s1", "deviceA"));
+
+        registry.revoke(1);
+        assertTrue(registry.isRevoked(1, "s1", "deviceA"));
+        assertTrue(registry.isRevoked(1, "s2", "deviceA"));
+    }
+
+    @Test
+    void writesInTheSameMillisecondKeepTheirOrder() {
+        for (int i = 0; i < 100; i++) {
+            registry.activate(1, "s" + i, "device" + i);
+            registry.revoke(1);
+            assertTrue(registry.isRevoked(1, "s" + i, "device" + i));
+        }
+        registry.activate(1, "last", "deviceZ");
+        assertFalse(registry.isRevoked(1, "last", "deviceZ"));
+    }
+}
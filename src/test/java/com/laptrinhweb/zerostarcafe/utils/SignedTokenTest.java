@@ -0,0 +1,65 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.security.SignedToken;
+import com.laptrinhweb.zerostarcafe.core.security.TokenUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignedTokenTest {
+
+    private static final long IN_ONE_HOUR = Instant.now().getEpochSecond() + 3600;
+
+    @Test
+    void roundTripsClaims() {
+        SignedToken.Claims claims = new SignedToken.Claims(7, 42, "abc", IN_ONE_HOUR);
+        String token = SignedToken.issue(TokenUtil.generateToken(), claims);
+
+        assertTrue(SignedToken.isSigned(token));
+        assertEquals(Optional.of(claims), SignedToken.verify(token));
+    }
+
+    @Test
+    void rejectsTamperedAndExpiredTokens() {
+        String token = SignedToken.issue(TokenUtil.generateToken(),
+                new SignedToken.Claims(7, 42, "abc", IN_ONE_HOUR));
+        String[] parts = token.split("\\.");
+        String forged = SignedToken.issue(parts[2], new SignedToken.Claims(8, 42, "abc", IN_ONE_HOUR));
+        String swapped = String.join(".", parts[0], parts[1], parts[2],
+                forged.split("\\.")[3], parts[4]);
+
+        assertTrue(SignedToken.verify(swapped).isEmpty());
+        assertTrue(SignedToken.verify(TokenUtil.generateToken()).isEmpty());
+        assertTrue(SignedToken.verify(SignedToken.issue(TokenUtil.generateToken(),
+                new SignedToken.Claims(7, 42, "abc", Instant.now().getEpochSecond() - 1))).isEmpty());
+    }
+
+    @Test
+    void recordHashUsesNonceOfSignedTokens() {
+        String nonce = TokenUtil.generateToken();
+        String token = SignedToken.issue(nonce, new SignedToken.Claims(1, 1, "d", IN_ONE_HOUR));
+
+        assertEquals(TokenUtil.hashToken(nonce), SignedToken.recordHash(token));
+        assertEquals(TokenUtil.hashToken(nonce), SignedToken.recordHash(nonce));
+    }
+
+    @Test
+    void rejectsMalformedOrShortKeys() {
+        String key32 = Base64.getEncoder().encodeToString(new byte[32]);
+        String key16 = Base64.getEncoder().encodeToString(new byte[16]);
+
+        SignedToken.KeyRing ring = SignedToken.KeyRing.parse("a:" + key32 + ", b:" + key32, "b");
+        assertEquals("b", ring.activeKid());
+        assertEquals(2, ring.keys().size());
+        assertEquals("tmp", SignedToken.KeyRing.parse("", "").activeKid());
+
+        assertThrows(IllegalArgumentException.class, () -> SignedToken.KeyRing.parse("a:" + key16, ""));
+        assertThrows(IllegalArgumentException.class, () -> SignedToken.KeyRing.parse("a:not*base64", ""));
+        assertThrows(IllegalArgumentException.class, () -> SignedToken.KeyRing.parse(key32, ""));
+        assertThrows(IllegalArgumentException.class, () -> SignedToken.KeyRing.parse("a:" + key32, "c"));
+    }
+}
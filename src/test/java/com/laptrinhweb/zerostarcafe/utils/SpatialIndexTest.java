@@ -0,0 +1,69 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.location.GeoIpUtil;
+import com.laptrinhweb.zerostarcafe.core.location.Location;
+import com.laptrinhweb.zerostarcafe.core.location.SpatialIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialIndexTest {
+
+    private static final Function<Location, Location> SELF = loc -> loc;
+
+    private static List<Location> randomPoints(int n, long seed) {
+        Random rnd = new Random(seed);
+        List<Location> points = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            // Around Vietnam: lat 8..23, lon 102..110
+            points.add(new Location(8 + rnd.nextDouble() * 15, 102 + rnd.nextDouble() * 8));
+        }
+        return points;
+    }
+
+    @Test
+    void nearestMatchesLinearScan() {
+        List<Location> points = randomPoints(500, 42);
+        SpatialIndex<Location> index = SpatialIndex.build(points, SELF);
+        Location from = new Location(10.77, 106.70);
+
+        List<Location> expected = points.stream()
+                .sorted(Comparator.comparingDouble(p -> GeoIpUtil.distanceKm(from, p)))
+                .limit(5)
+                .toList();
+
+        List<SpatialIndex.Hit<Location>> hits = index.nearest(from, 5);
+        assertEquals(expected, hits.stream().map(SpatialIndex.Hit::item).toList());
+        assertEquals(GeoIpUtil.distanceKm(from, expected.getFirst()), hits.getFirst().distanceKm(), 1e-6);
+    }
+
+    @Test
+    void withinRadiusMatchesLinearScan() {
+        List<Location> points = randomPoints(500, 7);
+        SpatialIndex<Location> index = SpatialIndex.build(points, SELF);
+        Location from = new Location(16.05, 108.20);
+
+        long expected = points.stream()
+                .filter(p -> GeoIpUtil.distanceKm(from, p) <= 150)
+                .count();
+
+        List<SpatialIndex.Hit<Location>> hits = index.withinRadius(from, 150);
+        assertEquals(expected, hits.size());
+        assertTrue(hits.stream().allMatch(h -> h.distanceKm() <= 150 + 1e-6));
+    }
+
+    @Test
+    void skipsInvalidLocations() {
+        SpatialIndex<Location> index = SpatialIndex.build(
+                List.of(new Location(0.0, 0.0), new Location(21.03, 105.85)), SELF);
+
+        assertEquals(1, index.size());
+        assertTrue(index.nearest(null, 3).isEmpty());
+    }
+}
@@ -0,0 +1,42 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.core.security.TokenUtil;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TokenUtilTest {
+
+    @Test
+    void hashesToLowercaseSha256Hex() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                TokenUtil.hashToken("abc"));
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                TokenUtil.hashToken(""));
+        assertTrue(TokenUtil.verifyToken("abc", TokenUtil.hashToken("abc")));
+    }
+
+    @Test
+    void hashingStaysAllocationLean() {
+        // Guards the hot path: the old String.format version allocated several KB per call
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(mx.isThreadAllocatedMemorySupported() && mx.isThreadAllocatedMemoryEnabled());
+
+        String token = TokenUtil.generateToken();
+        for (int i = 0; i < 20_000; i++)
+            TokenUtil.hashToken(token);
+
+        int calls = 10_000;
+        long thread = Thread.currentThread().threadId();
+        long before = mx.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < calls; i++)
+            TokenUtil.hashToken(token);
+        long perCall = (mx.getThreadAllocatedBytes(thread) - before) / calls;
+
+        assertTrue(perCall < 512, "hashToken allocated " + perCall + " bytes per call");
+    }
+}
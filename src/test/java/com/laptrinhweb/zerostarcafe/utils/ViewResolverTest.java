@@ -0,0 +1,61 @@
+package com.laptrinhweb.zerostarcafe.utils;
+
+import com.laptrinhweb.zerostarcafe.web.common.view.View;
+import com.laptrinhweb.zerostarcafe.web.common.view.ViewArea;
+import com.laptrinhweb.zerostarcafe.web.common.view.ViewResolver;
+import jakarta.servlet.ServletContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewResolverTest {
+
+    private static final Map<String, Set<String>> TREE = Map.of(
+            "/WEB-INF/views/client/pages", Set.of("/WEB-INF/views/client/pages/home.jsp"),
+            "/WEB-INF/views/admin/pages", Set.of(
+                    "/WEB-INF/views/admin/pages/dashboard.jsp",
+                    "/WEB-INF/views/admin/pages/orders/"),
+            "/WEB-INF/views/admin/pages/orders/", Set.of("/WEB-INF/views/admin/pages/orders/detail.jsp"),
+            "/WEB-INF/views/shared/pages", Set.of("/WEB-INF/views/shared/pages/error.jsp")
+    );
+
+    @BeforeAll
+    static void scan() {
+        ServletContext ctx = (ServletContext) Proxy.newProxyInstance(
+                ServletContext.class.getClassLoader(),
+                new Class<?>[]{ServletContext.class},
+                (p, m, args) -> "getResourcePaths".equals(m.getName()) ? TREE.get((String) args[0]) : null);
+        ViewResolver.init(ctx);
+    }
+
+    @Test
+    void resolvesScannedPages() {
+        View home = ViewResolver.lookup("/home");
+        assertEquals(ViewArea.CLIENT, home.area());
+        assertEquals("/WEB-INF/views/client/pages/home.jsp", home.pagePath());
+        assertEquals("general.client.home", home.titleKey());
+
+        View detail = ViewResolver.lookup("/admin/orders/detail");
+        assertEquals(ViewArea.ADMIN, detail.area());
+        assertEquals("general.admin.orders.detail", detail.titleKey());
+    }
+
+    @Test
+    void areaRootsMapToDefaults() {
+        assertTrue(ViewResolver.lookup("/").isDefault());
+        assertTrue(ViewResolver.lookup("/admin").isDefault());
+    }
+
+    @Test
+    void normalizesAndCachesMisses() {
+        assertSame(ViewResolver.lookup("/home"), ViewResolver.lookup("//home/"));
+        assertNull(ViewResolver.lookup("/missing"));
+        assertNull(ViewResolver.lookup("/missing"));
+        assertNull(ViewResolver.lookup("/error"));
+    }
+}